@@ -0,0 +1,97 @@
+package br.com.archbase.generator.code;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede execuções completas de {@code execute()} sobre o modelo sintético.
+ *
+ * A primeira execução grava os arquivos; as seguintes medem a regeração de um projeto já gerado,
+ * que é o caso comum em builds repetidos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class ExecuteBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int entities;
+
+    @Param({"reflection", "bytecode"})
+    public String metadataBackend;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    @Param({"false", "true"})
+    public boolean incremental;
+
+    private Path workDirectory;
+    private Path classesDirectory;
+    private List<String> names;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDirectory = Files.createTempDirectory("archbase-jmh");
+        classesDirectory = workDirectory.resolve("classes");
+        names = SyntheticEntities.write(classesDirectory, entities);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticEntities.delete(workDirectory);
+    }
+
+    @Benchmark
+    public ArchbaseGeneratorCodeMojo execute() throws Exception {
+        ArchbaseGeneratorCodeMojo mojo = SyntheticEntities.mojo(classesDirectory, workDirectory, names);
+        SyntheticEntities.set(mojo, "metadataBackend", metadataBackend);
+        SyntheticEntities.set(mojo, "parallel", parallel);
+        SyntheticEntities.set(mojo, "incremental", incremental);
+        mojo.setLog(new QuietLog());
+        // execute() troca o classloader de contexto; ele é restaurado para não encadear os classloaders entre execuções
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            mojo.execute();
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+        return mojo;
+    }
+
+    /**
+     * Descarta as mensagens informativas do mojo para não poluir a saída do JMH.
+     */
+    static final class QuietLog extends SystemStreamLog {
+
+        @Override
+        public boolean isInfoEnabled() {
+            return false;
+        }
+
+        @Override
+        public void info(CharSequence content) {
+        }
+    }
+}
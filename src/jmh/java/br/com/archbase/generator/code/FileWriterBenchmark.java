@@ -0,0 +1,99 @@
+package br.com.archbase.generator.code;
+
+import com.squareup.javapoet.JavaFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a fase de gravação dos arquivos gerados, em um diretório vazio e sobre arquivos idênticos já gravados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class FileWriterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int entities;
+
+    private Path workDirectory;
+    private File unchangedDirectory;
+    private File emptyDirectory;
+    private final List<JavaFile> javaFiles = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        workDirectory = Files.createTempDirectory("archbase-jmh");
+        Path classesDirectory = workDirectory.resolve("classes");
+        List<String> names = SyntheticEntities.write(classesDirectory, entities);
+        ArchbaseGeneratorCodeMojo mojo = SyntheticEntities.mojo(classesDirectory, workDirectory, names);
+        List<ClassMapping> classMappings = SyntheticEntities.classMappings(names);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classesDirectory.toUri().toURL()}, getClass().getClassLoader())) {
+            EntityMetadataReader metadataReader = new ReflectionEntityMetadataReader(classLoader);
+            for (int i = 0; i < names.size(); i++) {
+                EntityModel model = mojo.entityModel(metadataReader.read(names.get(i)));
+                javaFiles.add(mojo.generateDTO(classMappings.get(i), model));
+                javaFiles.add(mojo.generateRepository(classMappings.get(i), model));
+                javaFiles.add(mojo.generateMapper(classMappings.get(i), model));
+                javaFiles.add(mojo.generateAdapter(classMappings.get(i), model));
+                javaFiles.add(mojo.generateService(classMappings.get(i), model));
+                javaFiles.add(mojo.generateController(classMappings.get(i), model));
+            }
+        }
+
+        unchangedDirectory = workDirectory.resolve("unchanged").toFile();
+        writeAll(unchangedDirectory);
+        emptyDirectory = workDirectory.resolve("empty").toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        SyntheticEntities.delete(workDirectory);
+    }
+
+    @Setup(Level.Iteration)
+    public void cleanEmptyDirectory() throws IOException {
+        SyntheticEntities.delete(emptyDirectory.toPath());
+    }
+
+    @Benchmark
+    public int writeToEmptyDirectory() throws IOException {
+        return writeAll(emptyDirectory);
+    }
+
+    @Benchmark
+    public int writeUnchanged() throws IOException {
+        return writeAll(unchangedDirectory);
+    }
+
+    private int writeAll(File outputDirectory) throws IOException {
+        GeneratedFileWriter fileWriter = new GeneratedFileWriter(outputDirectory, false);
+        for (JavaFile javaFile : javaFiles) {
+            fileWriter.write(javaFile);
+        }
+        return fileWriter.getWritten() + fileWriter.getUnchanged();
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.archbase.generator.code;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede cada gerador isoladamente sobre o modelo sintético.
+ *
+ * Os metadados e modelos das entidades são preparados uma única vez; cada operação constrói e renderiza
+ * em memória os arquivos de todas as entidades, sem acesso a disco (ver {@link FileWriterBenchmark}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GeneratorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int entities;
+
+    private Path workDirectory;
+    private URLClassLoader classLoader;
+    private ArchbaseGeneratorCodeMojo mojo;
+    private List<ClassMapping> classMappings;
+    private final List<EntityModel> models = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        workDirectory = Files.createTempDirectory("archbase-jmh");
+        Path classesDirectory = workDirectory.resolve("classes");
+        List<String> names = SyntheticEntities.write(classesDirectory, entities);
+        classLoader = new URLClassLoader(new URL[]{classesDirectory.toUri().toURL()}, getClass().getClassLoader());
+        mojo = SyntheticEntities.mojo(classesDirectory, workDirectory, names);
+        classMappings = SyntheticEntities.classMappings(names);
+        EntityMetadataReader metadataReader = new ReflectionEntityMetadataReader(classLoader);
+        for (String name : names) {
+            models.add(mojo.entityModel(metadataReader.read(name)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classLoader.close();
+        SyntheticEntities.delete(workDirectory);
+    }
+
+    @Benchmark
+    public long generateDTO() {
+        long renderedChars = 0;
+        for (int i = 0; i < models.size(); i++) {
+            renderedChars += mojo.generateDTO(classMappings.get(i), models.get(i)).toString().length();
+        }
+        return renderedChars;
+    }
+
+    @Benchmark
+    public long generateRepository() {
+        long renderedChars = 0;
+        for (int i = 0; i < models.size(); i++) {
+            renderedChars += mojo.generateRepository(classMappings.get(i), models.get(i)).toString().length();
+        }
+        return renderedChars;
+    }
+
+    @Benchmark
+    public long generateMapper() {
+        long renderedChars = 0;
+        for (int i = 0; i < models.size(); i++) {
+            renderedChars += mojo.generateMapper(classMappings.get(i), models.get(i)).toString().length();
+        }
+        return renderedChars;
+    }
+
+    @Benchmark
+    public long generateAdapter() {
+        long renderedChars = 0;
+        for (int i = 0; i < models.size(); i++) {
+            renderedChars += mojo.generateAdapter(classMappings.get(i), models.get(i)).toString().length();
+        }
+        return renderedChars;
+    }
+
+    @Benchmark
+    public long generateService() {
+        long renderedChars = 0;
+        for (int i = 0; i < models.size(); i++) {
+            renderedChars += mojo.generateService(classMappings.get(i), models.get(i)).toString().length();
+        }
+        return renderedChars;
+    }
+
+    @Benchmark
+    public long generateController() {
+        long renderedChars = 0;
+        for (int i = 0; i < models.size(); i++) {
+            renderedChars += mojo.generateController(classMappings.get(i), models.get(i)).toString().length();
+        }
+        return renderedChars;
+    }
+}
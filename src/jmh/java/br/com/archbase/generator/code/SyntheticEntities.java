@@ -0,0 +1,190 @@
+package br.com.archbase.generator.code;
+
+import org.apache.maven.project.MavenProject;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Modelo sintético de entidades usado pelos benchmarks.
+ *
+ * As classes são geradas diretamente como arquivos .class com ASM, sem depender de um projeto real.
+ * Cada entidade herda de uma cadeia de {@value #HIERARCHY_DEPTH} superclasses e possui campos simples,
+ * um enum, um array de bytes, uma coleção de valores, uma associação e várias coleções de outras entidades.
+ */
+final class SyntheticEntities {
+
+    static final String ENTITY_PACKAGE_BASE = "bench.domain";
+    static final int HIERARCHY_DEPTH = 5;
+    static final int COLLECTIONS_PER_ENTITY = 4;
+    static final int MODULES = 10;
+
+    private static final String BASE_PACKAGE = "bench/domain/base/";
+    private static final String IDENTIFIER = BASE_PACKAGE + "ArchbaseIdentifier";
+    private static final String ENUM = BASE_PACKAGE + "Situacao";
+
+    private SyntheticEntities() {
+    }
+
+    /**
+     * Grava as classes em {@code directory} e retorna os nomes das entidades geradas.
+     */
+    static List<String> write(Path directory, int count) throws IOException {
+        write(directory, IDENTIFIER, identifierClass());
+        write(directory, ENUM, enumClass());
+        String superName = "java/lang/Object";
+        for (int level = 0; level < HIERARCHY_DEPTH; level++) {
+            String name = BASE_PACKAGE + "Nivel" + level;
+            write(directory, name, baseClass(name, superName, level));
+            superName = name;
+        }
+        List<String> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = entityName(i);
+            write(directory, name, entityClass(name, superName, i, count));
+            entities.add(name.replace('/', '.'));
+        }
+        return entities;
+    }
+
+    static List<ClassMapping> classMappings(List<String> entities) {
+        List<ClassMapping> classMappings = new ArrayList<>();
+        for (String entity : entities) {
+            ClassMapping classMapping = new ClassMapping();
+            classMapping.baseClass = entity;
+            classMapping.targetPackageSuffix = entity.substring(ENTITY_PACKAGE_BASE.length(), entity.lastIndexOf('.'));
+            classMappings.add(classMapping);
+        }
+        return classMappings;
+    }
+
+    /**
+     * Cria o mojo configurado como no pom de um projeto, gerando os fontes em {@code baseDirectory/src/main/java}.
+     */
+    static ArchbaseGeneratorCodeMojo mojo(Path classesDirectory, Path baseDirectory, List<String> entities) {
+        ArchbaseGeneratorCodeMojo mojo = new ArchbaseGeneratorCodeMojo();
+        set(mojo, "entityPackageBase", ENTITY_PACKAGE_BASE);
+        set(mojo, "dtoOutputPackageBase", "bench.dto");
+        set(mojo, "adapterOutputPackageBase", "bench.adapter");
+        set(mojo, "repositoryOutputPackageBase", "bench.repository");
+        set(mojo, "persistenceOutputPackageBase", "bench.persistence");
+        set(mojo, "mapperOutputPackageBase", "bench.mapper");
+        set(mojo, "serviceOutputPackageBase", "bench.service");
+        set(mojo, "controllerOutputPackageBase", "bench.controller");
+        set(mojo, "securityAdapterClassName", "bench.security.SecurityAdapter");
+        set(mojo, "entityClasses", classMappings(entities));
+        set(mojo, "classpathElements", List.of(classesDirectory.toString()));
+        set(mojo, "metadataBackend", "reflection");
+        set(mojo, "dtoMappingStyle", "builder");
+        set(mojo, "report", true);
+        set(mojo, "workDirectory", baseDirectory.resolve("target/archbase-generator").toFile());
+        MavenProject project = new MavenProject();
+        project.setFile(baseDirectory.resolve("pom.xml").toFile());
+        set(mojo, "project", project);
+        return mojo;
+    }
+
+    /**
+     * Atribui um parâmetro do mojo, como o Maven faz a partir da configuração do plugin.
+     */
+    static void set(ArchbaseGeneratorCodeMojo mojo, String name, Object value) {
+        try {
+            Field field = ArchbaseGeneratorCodeMojo.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(mojo, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void delete(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static String entityName(int index) {
+        return "bench/domain/mod" + index % MODULES + "/Entidade" + index;
+    }
+
+    private static void write(Path directory, String internalName, byte[] classFile) throws IOException {
+        Path target = directory.resolve(internalName + ".class");
+        Files.createDirectories(target.getParent());
+        Files.write(target, classFile);
+    }
+
+    private static byte[] identifierClass() {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT | Opcodes.ACC_INTERFACE, IDENTIFIER, null,
+                "java/lang/Object", null);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] enumClass() {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_ENUM, ENUM,
+                "Ljava/lang/Enum<L" + ENUM + ";>;", "java/lang/Enum", null);
+        for (String constant : new String[]{"ATIVO", "INATIVO"}) {
+            writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL | Opcodes.ACC_ENUM, constant,
+                    "L" + ENUM + ";", null, null).visitEnd();
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] baseClass(String name, String superName, int level) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT | Opcodes.ACC_SUPER, name, null, superName, null);
+        if (level == 0) {
+            field(writer, "id", "L" + IDENTIFIER + ";", null);
+            field(writer, "version", "Ljava/lang/Long;", null);
+        }
+        field(writer, "criadoPorNivel" + level, "Ljava/lang/String;", null);
+        field(writer, "criadoEmNivel" + level, "Ljava/time/LocalDateTime;", null);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static byte[] entityClass(String name, String superName, int index, int count) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, superName, null);
+        field(writer, "nome", "Ljava/lang/String;", null);
+        field(writer, "codigo", "Ljava/lang/Long;", null);
+        field(writer, "ativo", "Z", null);
+        field(writer, "quantidade", "I", null);
+        field(writer, "valor", "Ljava/math/BigDecimal;", null);
+        field(writer, "data", "Ljava/time/LocalDate;", null);
+        field(writer, "situacao", "L" + ENUM + ";", null);
+        field(writer, "anexo", "[B", null);
+        field(writer, "tags", "Ljava/util/List;", "Ljava/util/List<Ljava/lang/String;>;");
+        field(writer, "principal", "L" + entityName((index + 1) % count) + ";", null);
+        for (int i = 1; i <= COLLECTIONS_PER_ENTITY; i++) {
+            field(writer, "itens" + i, "Ljava/util/Set;", "Ljava/util/Set<L" + entityName((index + i) % count) + ";>;");
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void field(ClassWriter writer, String name, String descriptor, String signature) {
+        writer.visitField(Opcodes.ACC_PRIVATE, name, descriptor, signature, null).visitEnd();
+    }
+
+    static File outputDirectory(Path baseDirectory) {
+        return baseDirectory.resolve("src/main/java").toFile();
+    }
+}
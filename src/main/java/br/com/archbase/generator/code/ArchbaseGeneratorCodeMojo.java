@@ -17,21 +17,27 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
-import static com.github.javaparser.StaticJavaParser.parse;
-
 
 @Mojo(name = "generate", requiresDependencyResolution = ResolutionScope.COMPILE, requiresDependencyCollection = ResolutionScope.COMPILE)
 public class ArchbaseGeneratorCodeMojo
@@ -64,6 +70,192 @@ public class ArchbaseGeneratorCodeMojo
     @Parameter(defaultValue = "${project}", readonly = true)
     private MavenProject project;
 
+    /**
+     * Gera os artefatos das entidades em paralelo, uma tarefa por {@link ClassMapping}.
+     */
+    @Parameter(property = "archbase.parallel", defaultValue = "false")
+    private boolean parallel;
+
+    /**
+     * Número de threads usadas quando {@code parallel} está ativo. Zero usa o número de processadores disponíveis.
+     */
+    @Parameter(property = "archbase.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * Usa virtual threads quando {@code parallel} está ativo e a JVM suporta (Java 21+).
+     */
+    @Parameter(property = "archbase.virtualThreads", defaultValue = "false")
+    private boolean virtualThreads;
+
+    /**
+     * Ignora as entidades cujas classes e configurações não mudaram desde a última execução. Desativado por padrão,
+     * pois mantém um índice em {@code workDirectory} entre as execuções.
+     */
+    @Parameter(property = "archbase.incremental", defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * Diretório de trabalho do plugin, onde ficam o índice da geração incremental e o relatório de geração.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/archbase-generator")
+    private File workDirectory;
+
+    /**
+     * Origem dos metadados das entidades: {@code reflection} carrega as classes pelo classpath do projeto,
+     * {@code bytecode} lê os arquivos .class diretamente, sem carregar classes nem executar inicializadores estáticos,
+     * e {@code source} analisa os fontes das entidades, dispensando a compilação prévia do projeto.
+     */
+    @Parameter(property = "archbase.metadataBackend", defaultValue = "reflection")
+    private String metadataBackend;
+
+    /**
+     * Estilo dos métodos {@code fromDomain}/{@code toDomain} gerados nos DTOs: {@code builder} usa o builder do Lombok
+     * e streams para as coleções; {@code direct} instancia o DTO pelo construtor e atribui os campos diretamente,
+     * convertendo as coleções com laços pré-dimensionados que preservam o tipo declarado e sem alocar coleções vazias.
+     * Coleções ordenadas de entidades são declaradas como {@code Set} no DTO e preenchidas na ordem da origem.
+     */
+    @Parameter(property = "archbase.dtoMappingStyle", defaultValue = "builder")
+    private String dtoMappingStyle;
+
+    /**
+     * Gera nos DTOs sobrecargas de {@code fromDomain}/{@code toDomain} que recebem um {@code DtoMappingContext},
+     * um mapa de identidade que pode ser reutilizado durante uma requisição. Referências compartilhadas são mapeadas
+     * uma única vez e ciclos entre associações são interrompidos; em {@code toDomain} a referência de volta é preenchida
+     * com a mesma entidade quando o ciclo termina. Implica {@code dtoMappingStyle=direct}.
+     */
+    @Parameter(property = "archbase.dtoMappingContext", defaultValue = "false")
+    private boolean dtoMappingContext;
+
+    /**
+     * Gera consultas paginadas por cursor (keyset) no adapter, no service e no controller ({@code /findAll/cursor}).
+     * O cursor é um token opaco com os valores das chaves de ordenação e do id do último registro retornado, de modo
+     * que cada página é localizada por comparação em vez de OFFSET e sem consulta de contagem.
+     */
+    @Parameter(property = "archbase.keysetPagination", defaultValue = "false")
+    private boolean keysetPagination;
+
+    /**
+     * Gera variantes de {@code findAll} que retornam um {@code Slice} ({@code /findAll/slice}): a página é lida com
+     * um registro a mais para saber se existe a próxima, sem a consulta de contagem executada para montar um {@code Page}.
+     */
+    @Parameter(property = "archbase.sliceQueries", defaultValue = "false")
+    private boolean sliceQueries;
+
+    /**
+     * Gera o endpoint {@code /export}, que grava todas as entidades em NDJSON à medida que são lidas de um
+     * {@code Stream} do repositório, com memória constante: cada entidade é desanexada do contexto de persistência
+     * após ser convertida.
+     */
+    @Parameter(property = "archbase.streamingExport", defaultValue = "false")
+    private boolean streamingExport;
+
+    /**
+     * Quantidade de linhas buscadas por ida ao banco nas consultas de exportação.
+     */
+    @Parameter(property = "archbase.streamFetchSize", defaultValue = "500")
+    private int streamFetchSize;
+
+    /**
+     * Gera operações em lote ({@code POST}, {@code PUT} e {@code DELETE} em {@code /batch}) no controller, no service e
+     * no adapter: a existência dos ids é verificada com uma única consulta e a gravação é feita com {@code saveAll} e
+     * {@code deleteAllByIdInBatch} em blocos de {@code batchSize} entidades.
+     */
+    @Parameter(property = "archbase.batchOperations", defaultValue = "false")
+    private boolean batchOperations;
+
+    /**
+     * Tamanho dos blocos gravados a cada flush nas operações em lote; convém igualá-lo ao
+     * {@code hibernate.jdbc.batch_size} da aplicação.
+     */
+    @Parameter(property = "archbase.batchSize", defaultValue = "50")
+    private int batchSize;
+
+    /**
+     * Gera GETs condicionais em {@code getEntityById} e {@code findAll(page, size[, sort])} para as entidades que possuem
+     * o campo {@code version}: o ETag é calculado a partir das versões lidas do banco e, quando coincide com o
+     * {@code If-None-Match} da requisição, a resposta é 304 sem carregar, mapear ou serializar as entidades.
+     * <p>
+     * Somente a {@code version} da entidade principal entra no ETag: alterações em entidades associadas que não
+     * incrementam essa versão continuam respondendo 304 com o conteúdo anterior. O ETag da página é lido com uma
+     * consulta de ids e versões e a sua contagem, de modo que, quando os dados mudaram, a página custa quatro
+     * consultas em vez de duas.
+     */
+    @Parameter(property = "archbase.conditionalRequests", defaultValue = "false")
+    private boolean conditionalRequests;
+
+    /**
+     * Gera os endpoints CRUD do controller retornando {@code CompletableFuture}: a thread da requisição é liberada e
+     * as chamadas bloqueantes ao adapter, bem como o mapeamento para DTO, são executadas em um executor limitado
+     * ({@code ServiceExecutorConfiguration}), que pode usar virtual threads no Java 21+.
+     */
+    @Parameter(property = "archbase.asyncEndpoints", defaultValue = "false")
+    private boolean asyncEndpoints;
+
+    /**
+     * Número padrão de threads do executor dos services ({@code archbase.service-executor.pool-size}); convém não
+     * ultrapassar o tamanho do pool de conexões.
+     */
+    @Parameter(property = "archbase.asyncPoolSize", defaultValue = "10")
+    private int asyncPoolSize;
+
+    /**
+     * Capacidade padrão da fila do executor dos services ({@code archbase.service-executor.queue-capacity}). Com a
+     * fila cheia a tarefa é executada pela própria thread da requisição.
+     */
+    @Parameter(property = "archbase.asyncQueueCapacity", defaultValue = "1000")
+    private int asyncQueueCapacity;
+
+    /**
+     * Sobrescreve {@code findAll(Pageable)} e adiciona {@code findWithGraphById} e {@code findAllWithGraphByIdIn}, usados
+     * pelas leituras por id do adapter, nos repositórios com {@code @EntityGraph} das associações simples, carregadas no
+     * mesmo select; as gravações continuam com {@code findById} e {@code findAllById}. Gera também {@code BatchFetchConfiguration},
+     * que define {@code hibernate.default_batch_fetch_size} para que as coleções de uma página sejam lidas em lotes.
+     */
+    @Parameter(property = "archbase.entityGraphs", defaultValue = "false")
+    private boolean entityGraphs;
+
+    /**
+     * Valor padrão de {@code hibernate.default_batch_fetch_size} em {@code BatchFetchConfiguration}.
+     */
+    @Parameter(property = "archbase.batchFetchSize", defaultValue = "50")
+    private int batchFetchSize;
+
+    /**
+     * Mede os endpoints CRUD dos controllers, a validação nos services e o mapeamento e as chamadas ao repositório nos
+     * adapters, com a entidade, a camada e a operação, por meio da fachada {@code CrudMetrics}. Sem uma implementação
+     * registrada no contexto Spring as medições são descartadas.
+     */
+    @Parameter(property = "archbase.instrumentation", defaultValue = "false")
+    private boolean instrumentation;
+
+    private EntityMetadataReader metadataReader;
+
+    private final Map<String, EntityModel> entityModels = new ConcurrentHashMap<>();
+
+    /**
+     * Substitui arquivos já existentes cujo conteúdo difere do gerado. Por padrão eles são preservados,
+     * pois podem ter sido alterados manualmente.
+     */
+    @Parameter(property = "archbase.overwrite", defaultValue = "false")
+    private boolean overwrite;
+
+    private GeneratedFileWriter fileWriter;
+    private GeneratedFileWriter testFileWriter;
+
+    /**
+     * Grava em {@code workDirectory} um relatório (JSON e CSV) com os tempos e contagens de cada entidade, de cada
+     * artefato e das classes de suporte compartilhadas, e exibe um resumo no log. Desativado por padrão.
+     */
+    @Parameter(property = "archbase.report", defaultValue = "false")
+    private boolean report;
+
+    private final GenerationReport generationReport = new GenerationReport();
+
+    private FingerprintIndex fingerprintIndex;
+
+    private final AtomicInteger upToDateEntities = new AtomicInteger();
+
     protected List<URL> createClassPath() {
         List<URL> list = new ArrayList<>();
         if (classpathElements != null) {
@@ -81,45 +273,406 @@ public class ArchbaseGeneratorCodeMojo
     public void execute()
         throws MojoExecutionException
     {
+        long started = System.nanoTime();
         URLClassLoader urlClassLoader = new URLClassLoader(createClassPath().toArray(new URL[] {}),
                 Thread.currentThread().getContextClassLoader());
         Thread.currentThread().setContextClassLoader(urlClassLoader);
 
-        for (ClassMapping classMapping : entityClasses) {
-            Class<?> sourceClass = null;
+        if (!"builder".equals(dtoMappingStyle) && !"direct".equals(dtoMappingStyle)) {
+            throw new MojoExecutionException("dtoMappingStyle inválido: " + dtoMappingStyle + ". Valores aceitos: builder, direct");
+        }
+        metadataReader = createMetadataReader(urlClassLoader);
+        File outputDirectory = new File(project.getBasedir(), "src/main/java");
+        fileWriter = new GeneratedFileWriter(outputDirectory, overwrite);
+        testFileWriter = new GeneratedFileWriter(new File(project.getBasedir(), "src/test/java"), overwrite);
+        if (incremental) {
             try {
-                File outputDirectory = new File(project.getBasedir(), "src/main/java");
-                sourceClass = urlClassLoader.loadClass(classMapping.baseClass);
-                if (classMapping.generateDTO) {
-                    generateDTO(classMapping, sourceClass, outputDirectory);
-                }
-                if (classMapping.generateRepository) {
-                    generateRepository(classMapping, sourceClass, outputDirectory);
-                }
-                if (classMapping.generateMapper) {
-                    generateMapper(classMapping, sourceClass, outputDirectory);
+                fingerprintIndex = FingerprintIndex.load(workDirectory);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Não foi possível ler o índice de geração incremental", e);
+            }
+        }
+
+        if (dtoMappingContext) {
+            generateShared("o DtoMappingContext", this::generateDtoMappingContext);
+        }
+        if (entityClasses.stream().anyMatch(classMapping -> classMapping.cache)) {
+            generateShared("o ReadThroughCache", this::generateReadThroughCache);
+        }
+        if (asyncEndpoints) {
+            generateShared("o ServiceExecutorConfiguration", this::generateServiceExecutorConfiguration);
+        }
+        if (instrumentation) {
+            generateShared("o CrudMetrics", this::generateCrudMetrics);
+        }
+        if (entityGraphs) {
+            generateShared("o BatchFetchConfiguration", this::generateBatchFetchConfiguration);
+        }
+        if (keysetPagination) {
+            generateShared("o CursorPage", this::generateCursorPage);
+            generateShared("o KeysetPagination", this::generateKeysetPagination);
+        }
+
+        Map<ClassMapping, Throwable> failures = parallel
+                ? generateInParallel(urlClassLoader, outputDirectory)
+                : generateSequentially(urlClassLoader, outputDirectory);
+
+        if (incremental) {
+            try {
+                fingerprintIndex.save();
+            } catch (IOException e) {
+                throw new MojoExecutionException("Não foi possível gravar o índice de geração incremental", e);
+            }
+            if (upToDateEntities.get() > 0) {
+                getLog().info(String.format("%d entidades sem alterações desde a última geração foram ignoradas.", upToDateEntities.get()));
+            }
+        }
+
+        getLog().info(String.format("Arquivos gerados: %d gravados, %d sem alterações, %d existentes preservados.",
+                fileWriter.getWritten() + testFileWriter.getWritten(), fileWriter.getUnchanged() + testFileWriter.getUnchanged(),
+                fileWriter.getSkipped() + testFileWriter.getSkipped()));
+
+        if (report) {
+            try {
+                generationReport.write(workDirectory, entityClasses, System.nanoTime() - started);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Não foi possível gravar o relatório de geração", e);
+            }
+            for (String line : generationReport.summary(entityClasses)) {
+                getLog().info(line);
+            }
+            getLog().info("Relatório de geração gravado em " + new File(workDirectory, GenerationReport.JSON_FILE_NAME));
+        }
+
+        if (!failures.isEmpty()) {
+            for (Map.Entry<ClassMapping, Throwable> failure : failures.entrySet()) {
+                getLog().error("Falha ao gerar artefatos para " + failure.getKey().baseClass, failure.getValue());
+            }
+            throw new MojoExecutionException(String.format("Falha ao gerar artefatos para %d de %d entidades: %s",
+                    failures.size(), entityClasses.size(),
+                    failures.keySet().stream().map(classMapping -> classMapping.baseClass).collect(Collectors.joining(", "))));
+        }
+    }
+
+    private EntityMetadataReader createMetadataReader(URLClassLoader classLoader) throws MojoExecutionException {
+        switch (metadataBackend) {
+            case "reflection":
+                return new ReflectionEntityMetadataReader(classLoader);
+            case "bytecode":
+                return new BytecodeEntityMetadataReader(classLoader);
+            case "source":
+                List<Path> sourceRoots = new ArrayList<>();
+                for (String sourceRoot : project.getCompileSourceRoots()) {
+                    sourceRoots.add(Paths.get(sourceRoot));
                 }
-                if (classMapping.generateAdapter) {
-                    generateAdapter(classMapping, sourceClass, outputDirectory);
+                try {
+                    return new SourceEntityMetadataReader(sourceRoots, entityPackageBase, new BytecodeEntityMetadataReader(classLoader));
+                } catch (IOException e) {
+                    throw new MojoExecutionException("Não foi possível analisar os fontes das entidades", e);
                 }
-                if (classMapping.generateService) {
-                    generateService(classMapping, sourceClass, outputDirectory);
+            default:
+                throw new MojoExecutionException("metadataBackend inválido: " + metadataBackend + ". Valores aceitos: reflection, bytecode, source");
+        }
+    }
+
+    private Map<ClassMapping, Throwable> generateSequentially(ClassLoader classLoader, File outputDirectory) {
+        Map<ClassMapping, Throwable> failures = new LinkedHashMap<>();
+        for (ClassMapping classMapping : entityClasses) {
+            try {
+                generateEntity(classMapping, classLoader, outputDirectory);
+            } catch (Exception e) {
+                generationReport.entity(classMapping).failed(e);
+                failures.put(classMapping, e);
+            }
+        }
+        return failures;
+    }
+
+    private Map<ClassMapping, Throwable> generateInParallel(ClassLoader classLoader, File outputDirectory) throws MojoExecutionException {
+        ExecutorService executor = createExecutor();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ClassMapping classMapping : entityClasses) {
+                futures.add(executor.submit(() -> {
+                    Thread.currentThread().setContextClassLoader(classLoader);
+                    generateEntity(classMapping, classLoader, outputDirectory);
+                    return null;
+                }));
+            }
+            // As falhas são coletadas na ordem de declaração das entidades para que o resultado seja determinístico
+            Map<ClassMapping, Throwable> failures = new LinkedHashMap<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    generationReport.entity(entityClasses.get(i)).failed(e.getCause());
+                    failures.put(entityClasses.get(i), e.getCause());
                 }
-                if (classMapping.generateController) {
-                    generateController(classMapping, sourceClass, outputDirectory);
+            }
+            return failures;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Geração de artefatos interrompida", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ExecutorService createExecutor() {
+        if (virtualThreads) {
+            // Executors.newVirtualThreadPerTaskExecutor só existe a partir do Java 21
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                getLog().warn("Virtual threads não estão disponíveis nesta JVM (requer Java 21+). Usando um pool de threads fixo.");
+            }
+        }
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(Math.max(1, Math.min(poolSize, entityClasses.size())));
+    }
+
+    private void generateEntity(ClassMapping classMapping, ClassLoader classLoader, File outputDirectory) throws ClassNotFoundException, IOException {
+        GenerationReport.EntityReport entityReport = generationReport.entity(classMapping);
+        String fingerprint = null;
+        if (incremental) {
+            long start = System.nanoTime();
+            fingerprint = FingerprintIndex.fingerprint(fingerprintInputs(classMapping), generationSettings(classMapping));
+            entityReport.fingerprinted(System.nanoTime() - start);
+            if (fingerprintIndex.isUpToDate(classMapping.baseClass, fingerprint)
+                    && expectedOutputFiles(classMapping, outputDirectory).stream().allMatch(File::exists)) {
+                fingerprintIndex.update(classMapping.baseClass, fingerprint);
+                upToDateEntities.incrementAndGet();
+                entityReport.upToDate();
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+        EntityModel sourceClass = entityModel(metadataReader.read(classMapping.baseClass));
+        entityReport.loaded(System.nanoTime() - start, sourceClass.getFields().size());
+        if (classMapping.generateDTO) {
+            generateArtifact(entityReport, "dto", () -> generateDTO(classMapping, sourceClass));
+        }
+        if (classMapping.generateRepository) {
+            generateArtifact(entityReport, "repository", () -> generateRepository(classMapping, sourceClass));
+        }
+        if (classMapping.generateMapper) {
+            generateArtifact(entityReport, "mapper", () -> generateMapper(classMapping, sourceClass));
+        }
+        if (classMapping.generateAdapter) {
+            generateArtifact(entityReport, "adapter", () -> generateAdapter(classMapping, sourceClass));
+        }
+        if (classMapping.generateService) {
+            generateArtifact(entityReport, "service", () -> generateService(classMapping, sourceClass));
+        }
+        if (classMapping.generateController) {
+            generateArtifact(entityReport, "controller", () -> generateController(classMapping, sourceClass));
+        }
+        for (ProjectionMapping projection : classMapping.projections) {
+            generateArtifact(entityReport, "projection", () -> generateProjection(classMapping, sourceClass, projection));
+        }
+        if (classMapping.cache) {
+            generateArtifact(entityReport, "cache", () -> generateCachingAdapter(classMapping, sourceClass));
+        }
+        if (classMapping.generateBenchmark) {
+            generateArtifact(entityReport, "benchmark", testFileWriter, () -> generateMappingBenchmark(classMapping, sourceClass));
+        }
+
+        if (fingerprintIndex != null) {
+            fingerprintIndex.update(classMapping.baseClass, fingerprint);
+        }
+    }
+
+    /**
+     * Arquivos que definem a entidade e os tipos declarados nos seus campos, dos quais depende a classificação de cada
+     * campo (enum, coleção ou entidade). Quando o mapeamento gera artefatos que leem outras entidades (projeções com
+     * {@code maxDepth} e benchmarks), entram também os tipos dos campos das entidades alcançadas pelas associações até
+     * a profundidade usada.
+     */
+    private List<byte[]> fingerprintInputs(ClassMapping classMapping) throws ClassNotFoundException, IOException {
+        List<byte[]> inputs = new ArrayList<>(metadataReader.readInputs(classMapping.baseClass));
+        if (inputs.isEmpty()) {
+            return inputs;
+        }
+        int depth = classMapping.generateBenchmark ? 1 : 0;
+        for (ProjectionMapping projection : classMapping.projections) {
+            depth = Math.max(depth, projection.maxDepth);
+        }
+        Set<String> visited = new HashSet<>(Set.of(classMapping.baseClass));
+        Set<String> expanded = new HashSet<>(Set.of(classMapping.baseClass));
+        List<String> level = List.of(classMapping.baseClass);
+        for (int i = 0; i <= depth && !level.isEmpty(); i++) {
+            List<String> next = new ArrayList<>();
+            for (String className : level) {
+                for (EntityFieldModel field : entityModel(metadataReader.read(className)).getFields()) {
+                    for (String declaredType : declaredTypes(field.getType())) {
+                        if (visited.add(declaredType)) {
+                            inputs.addAll(metadataReader.readReferencedInputs(declaredType));
+                        }
+                    }
+                    String associated = field.isAssociation() ? field.getElementType().getQualifiedName() : null;
+                    if (i < depth && associated != null && expanded.add(associated)) {
+                        next.add(associated);
+                    }
                 }
-            } catch (ClassNotFoundException | IOException e) {
-                throw new RuntimeException(e);
             }
+            level = next;
+        }
+        return inputs;
+    }
+
+    /**
+     * Nomes binários do tipo do campo e de seus argumentos genéricos, sem primitivos e com arrays pelo tipo dos
+     * elementos.
+     */
+    private static List<String> declaredTypes(TypeMetadata type) {
+        List<String> names = new ArrayList<>();
+        List<TypeMetadata> types = new ArrayList<>(type.getTypeArguments());
+        types.add(0, type);
+        for (TypeMetadata declared : types) {
+            while (declared != null && declared.isArray()) {
+                declared = declared.getComponentType();
+            }
+            if (declared != null && !declared.isPrimitive()) {
+                names.add(declared.getBinaryName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Constrói, renderiza e grava um artefato, registrando o tempo de cada fase no relatório.
+     */
+    private void generateArtifact(GenerationReport.EntityReport entityReport, String artifact, ArtifactGenerator generator)
+            throws ClassNotFoundException, IOException {
+        generateArtifact(entityReport, artifact, fileWriter, generator);
+    }
+
+    private void generateArtifact(GenerationReport.EntityReport entityReport, String artifact, GeneratedFileWriter writer,
+                                  ArtifactGenerator generator) throws ClassNotFoundException, IOException {
+        long start = System.nanoTime();
+        JavaFile javaFile = generator.generate();
+        long built = System.nanoTime();
+        byte[] content = writer.render(javaFile);
+        long rendered = System.nanoTime();
+        GeneratedFileWriter.Outcome outcome = writer.write(javaFile, content);
+        entityReport.artifact(artifact, javaFile.typeSpec.name, built - start, rendered - built, System.nanoTime() - rendered,
+                content.length, outcome);
+    }
+
+    /**
+     * Grava uma classe de suporte compartilhada pelas entidades, registrada no relatório em
+     * {@link GenerationReport#SHARED}.
+     */
+    private void generateShared(String description, ArtifactGenerator generator) throws MojoExecutionException {
+        try {
+            generateArtifact(generationReport.shared(), "shared", generator);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new MojoExecutionException("Não foi possível gravar " + description, e);
+        }
+    }
+
+    private interface ArtifactGenerator {
+        JavaFile generate() throws ClassNotFoundException, IOException;
+    }
+
+    /**
+     * Configurações que influenciam o código gerado para a entidade; qualquer mudança invalida o índice incremental.
+     */
+    private String generationSettings(ClassMapping classMapping) {
+        StringBuilder settings = new StringBuilder()
+                .append(pluginVersion()).append('|')
+                .append(entityPackageBase).append('|')
+                .append(dtoOutputPackageBase).append('|')
+                .append(adapterOutputPackageBase).append('|')
+                .append(repositoryOutputPackageBase).append('|')
+                .append(persistenceOutputPackageBase).append('|')
+                .append(mapperOutputPackageBase).append('|')
+                .append(serviceOutputPackageBase).append('|')
+                .append(controllerOutputPackageBase).append('|')
+                .append(securityAdapterClassName).append('|')
+                .append(dtoMappingStyle).append('|')
+                .append(dtoMappingContext).append('|')
+                .append(keysetPagination).append('|')
+                .append(sliceQueries).append('|')
+                .append(streamingExport).append('|')
+                .append(streamFetchSize).append('|')
+                .append(batchOperations).append('|')
+                .append(batchSize).append('|')
+                .append(conditionalRequests).append('|')
+                .append(asyncEndpoints).append('|')
+                .append(asyncPoolSize).append('|')
+                .append(asyncQueueCapacity).append('|')
+                .append(entityGraphs).append('|')
+                .append(batchFetchSize).append('|')
+                .append(instrumentation).append('|')
+                .append(overwrite);
+        for (Field field : ClassMapping.class.getFields()) {
+            try {
+                settings.append('|').append(field.getName()).append('=').append(field.get(classMapping));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return settings.toString();
+    }
+
+    private String pluginVersion() {
+        try (InputStream in = getClass().getResourceAsStream("/META-INF/maven/br.com.archbase/archbase-maven-plugin/pom.properties")) {
+            if (in != null) {
+                Properties properties = new Properties();
+                properties.load(in);
+                return properties.getProperty("version", "unknown");
+            }
+        } catch (IOException e) {
+            getLog().debug("Não foi possível determinar a versão do plugin", e);
+        }
+        return "unknown";
+    }
+
+    private List<File> expectedOutputFiles(ClassMapping classMapping, File outputDirectory) {
+        String simpleName = StringUtils.substringAfterLast("." + classMapping.baseClass.replace('$', '.'), ".");
+        List<File> files = new ArrayList<>();
+        if (classMapping.generateDTO) {
+            files.add(outputFile(outputDirectory, dtoOutputPackageBase + classMapping.targetPackageSuffix, simpleName + "Dto"));
+        }
+        if (classMapping.generateRepository) {
+            files.add(outputFile(outputDirectory, repositoryOutputPackageBase + classMapping.targetPackageSuffix, simpleName + "JpaRepository"));
         }
+        if (classMapping.generateMapper) {
+            files.add(outputFile(outputDirectory, mapperOutputPackageBase + classMapping.targetPackageSuffix, simpleName + "PersistenceMapper"));
+        }
+        if (classMapping.generateAdapter) {
+            files.add(outputFile(outputDirectory, adapterOutputPackageBase + classMapping.targetPackageSuffix, simpleName + "PersistenceAdapter"));
+        }
+        if (classMapping.generateService) {
+            files.add(outputFile(outputDirectory, serviceOutputPackageBase + classMapping.targetPackageSuffix, simpleName + "Service"));
+        }
+        if (classMapping.generateController) {
+            files.add(outputFile(outputDirectory, controllerOutputPackageBase + classMapping.targetPackageSuffix, simpleName + "Controller"));
+        }
+        for (ProjectionMapping projection : classMapping.projections) {
+            files.add(outputFile(outputDirectory, dtoOutputPackageBase + classMapping.targetPackageSuffix, projectionDtoName(simpleName, projection)));
+        }
+        if (classMapping.cache) {
+            files.add(outputFile(outputDirectory, adapterOutputPackageBase + classMapping.targetPackageSuffix, simpleName + "CachingPersistenceAdapter"));
+        }
+        if (classMapping.generateBenchmark) {
+            files.add(outputFile(new File(project.getBasedir(), "src/test/java"), dtoOutputPackageBase + classMapping.targetPackageSuffix,
+                    simpleName + "MappingBenchmark"));
+        }
+        return files;
+    }
 
+    private File outputFile(File outputDirectory, String packageName, String className) {
+        return new File(outputDirectory, packageName.replace('.', File.separatorChar) + File.separator + className + ".java");
     }
 
 
 
-    private void generateController(ClassMapping classMapping, Class<?> sourceClass, File outputDirectory) throws IOException {
+    JavaFile generateController(ClassMapping classMapping, EntityModel sourceClass) {
         String controllerClassName = sourceClass.getSimpleName() + "Controller";
-        ClassName sourceClassName = ClassName.get(sourceClass);
+        ClassName sourceClassName = sourceClass.getClassName();
         ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase+classMapping.targetPackageSuffix, sourceClass.getSimpleName()+"Dto");
         ClassName sourceClassNameService = ClassName.get(serviceOutputPackageBase+classMapping.targetPackageSuffix, sourceClass.getSimpleName()+"Service");
 
@@ -141,6 +694,14 @@ public class ArchbaseGeneratorCodeMojo
         ClassName autoWired = ClassName.get("org.springframework.beans.factory.annotation", "Autowired");
         ClassName pageable = ClassName.get("org.springframework.data.domain", "Page");
         ClassName list = ClassName.get("java.util", "List");
+        boolean conditional = conditionalRequests(sourceClass);
+        List<ParameterSpec> webRequest = conditional
+                ? List.of(ParameterSpec.builder(ClassName.get("org.springframework.web.context.request", "WebRequest"), "request").build())
+                : List.of();
+        // @ResponseStatus sobrescreveria o 304 definido por checkNotModified
+        List<AnnotationSpec> okStatus = conditional ? List.of() : List.of(AnnotationSpec.builder(responseStatus)
+                .addMember("value", "$T.OK", httpStatus)
+                .build());
 
         TypeSpec controllerClass = TypeSpec.classBuilder(controllerClassName)
                 .addModifiers(Modifier.PUBLIC)
@@ -151,29 +712,36 @@ public class ArchbaseGeneratorCodeMojo
                 .addField(FieldSpec.builder(sourceClassNameService, "service", Modifier.PRIVATE, Modifier.FINAL)
                         .addAnnotation(autoWired)
                         .build())
+                .addFields(metricsField())
+                .addFields(streamingExport ? List.of(FieldSpec.builder(ClassName.get("com.fasterxml.jackson.databind", "ObjectMapper"), "objectMapper", Modifier.PRIVATE)
+                        .addAnnotation(autoWired)
+                        .build()) : List.of())
                 .addMethod(MethodSpec.constructorBuilder()
                         .addAnnotation(autoWired)
                         .addParameter(sourceClassNameService, "service")
                         .addStatement("this.service = service")
                         .build())
-                .addMethod(MethodSpec.methodBuilder("createEntity")
+                .addMethod(asyncEndpoint(MethodSpec.methodBuilder("createEntity")
                         .addAnnotation(postMapping)
                         .returns(ParameterizedTypeName.get(responseEntity, sourceClassNameDTO))
                         .addParameter(ParameterSpec.builder(sourceClassNameDTO, "entity")
                                 .addAnnotation(requestBody)
                                 .build())
                         .addModifiers(Modifier.PUBLIC)
+                        .addCode(timedEndpointBegin(sourceClass, "createEntity"))
                         .addStatement("$T.notNull(entity)", archbaseAssert)
-                        .beginControlFlow("if (entity.getId() != null)")
-                        .addStatement("$T<$T> entityOptional = service.getEntityById(entity.getId())", Optional.class, sourceClassName)
-                        .beginControlFlow("if (entityOptional.isPresent())")
+                        .beginControlFlow("if (entity.getId() != null && service.existsEntityById(entity.getId()))")
                         .addStatement("throw new $T(String.format(\"Já existe uma Entidade com o id %s. Não será possível salvá-la.\", entity.getId()))", validationException)
                         .endControlFlow()
-                        .endControlFlow()
-                        .addStatement("$T createdEntity = service.createEntity(entity.toDomain())", sourceClassName)
-                        .addStatement("return ResponseEntity.ok($T.fromDomain(createdEntity))", sourceClassNameDTO)
-                        .build())
-                .addMethod(MethodSpec.methodBuilder("updateEntity")
+                        .addStatement("$T createdEntity = service.createEntity($L)", sourceClassName, timed(sourceClass, "mapping", "toDomain", "entity.toDomain()"))
+                        .addStatement("return ResponseEntity.ok($L)", timed(sourceClass, "mapping", "fromDomain", "$T.fromDomain(createdEntity)", sourceClassNameDTO))
+                        .addCode(timedEndpointEnd())
+                        .build(),
+                        CodeBlock.builder()
+                                .addStatement("$T.notNull(entity)", archbaseAssert)
+                                .addStatement("return service.createEntityAsync(entity.getId(), entity.toDomain()).thenApply(createdEntity -> ResponseEntity.ok($T.fromDomain(createdEntity)))", sourceClassNameDTO)
+                                .build()))
+                .addMethod(asyncEndpoint(MethodSpec.methodBuilder("updateEntity")
                         .addAnnotation(AnnotationSpec.builder(putMapping)
                                 .addMember("value", "$S", "/{id}")
                                 .build())
@@ -185,19 +753,25 @@ public class ArchbaseGeneratorCodeMojo
                                 .addAnnotation(requestBody)
                                 .build())
                         .addModifiers(Modifier.PUBLIC)
+                        .addCode(timedEndpointBegin(sourceClass, "updateEntity"))
                         .addStatement("$T.notNull(id)", archbaseAssert)
                         .addStatement("$T.notNull(entity)", archbaseAssert)
                         .beginControlFlow("if (!id.equals(entity.getId()))")
                         .addStatement("throw new $T(String.format(\"Id informado %s não pode ser diferente do id da Entidade %s \", id, entity.getId()))", validationException)
                         .endControlFlow()
-                        .addStatement("$T<$T> entityOptional = service.getEntityById(id)", Optional.class, sourceClassName)
-                        .beginControlFlow("if (entityOptional.isEmpty())")
-                        .addStatement("throw new $T(String.format(\"Entidade %s não encontrado. Não será possível salvá-la.\", id))", validationException)
-                        .endControlFlow()
-                        .addStatement("$T updatedEntity = service.updateEntity(entity.toDomain())", sourceClassName)
-                        .addStatement("return ResponseEntity.ok($T.fromDomain(updatedEntity))", sourceClassNameDTO)
-                        .build())
-                .addMethod(MethodSpec.methodBuilder("removeEntity")
+                        .addStatement("$T updatedEntity = service.updateEntity($L)", sourceClassName, timed(sourceClass, "mapping", "toDomain", "entity.toDomain()"))
+                        .addStatement("return ResponseEntity.ok($L)", timed(sourceClass, "mapping", "fromDomain", "$T.fromDomain(updatedEntity)", sourceClassNameDTO))
+                        .addCode(timedEndpointEnd())
+                        .build(),
+                        CodeBlock.builder()
+                                .addStatement("$T.notNull(id)", archbaseAssert)
+                                .addStatement("$T.notNull(entity)", archbaseAssert)
+                                .beginControlFlow("if (!id.equals(entity.getId()))")
+                                .addStatement("throw new $T(String.format(\"Id informado %s não pode ser diferente do id da Entidade %s \", id, entity.getId()))", validationException)
+                                .endControlFlow()
+                                .addStatement("return service.updateEntityAsync(entity.toDomain()).thenApply(updatedEntity -> ResponseEntity.ok($T.fromDomain(updatedEntity)))", sourceClassNameDTO)
+                                .build()))
+                .addMethod(asyncEndpoint(MethodSpec.methodBuilder("removeEntity")
                         .addAnnotation(AnnotationSpec.builder(deleteMapping)
                                 .addMember("value", "$S", "/{id}")
                                 .build())
@@ -206,14 +780,13 @@ public class ArchbaseGeneratorCodeMojo
                                 .addAnnotation(pathVariable)
                                 .build())
                         .addModifiers(Modifier.PUBLIC)
-                        .addStatement("$T<$T> entityOptional = service.getEntityById(id)", Optional.class, sourceClassName)
-                        .beginControlFlow("if (entityOptional.isEmpty())")
-                        .addStatement("throw new $T(String.format(\"Entidade id %s não encontrada.\", id))", validationException)
-                        .endControlFlow()
+                        .addCode(timedEndpointBegin(sourceClass, "removeEntity"))
                         .addStatement("$T removedEntity = service.removeEntity(id)", sourceClassName)
-                        .addStatement("return ResponseEntity.ok($T.fromDomain(removedEntity))", sourceClassNameDTO)
-                        .build())
-                .addMethod(MethodSpec.methodBuilder("getEntityById")
+                        .addStatement("return ResponseEntity.ok($L)", timed(sourceClass, "mapping", "fromDomain", "$T.fromDomain(removedEntity)", sourceClassNameDTO))
+                        .addCode(timedEndpointEnd())
+                        .build(),
+                        CodeBlock.of("return service.removeEntityAsync(id).thenApply(removedEntity -> ResponseEntity.ok($T.fromDomain(removedEntity)));\n", sourceClassNameDTO)))
+                .addMethod(asyncEndpoint(MethodSpec.methodBuilder("getEntityById")
                         .addAnnotation(AnnotationSpec.builder(getMapping)
                                 .addMember("value", "$S", "/{id}")
                                 .build())
@@ -221,22 +794,28 @@ public class ArchbaseGeneratorCodeMojo
                         .addParameter(ParameterSpec.builder(String.class, "id")
                                 .addAnnotation(pathVariable)
                                 .build())
+                        .addParameters(webRequest)
                         .addModifiers(Modifier.PUBLIC)
+                        .addCode(timedEndpointBegin(sourceClass, "getEntityById"))
+                        .addCode(entityNotModified(conditional))
                         .beginControlFlow("try")
                         .addStatement("$T<$T> entityOptional = service.getEntityById(id)", Optional.class, sourceClassName)
-                        .addStatement("return entityOptional.map(entity -> ResponseEntity.ok($T.fromDomain(entity))).orElseGet(() -> ResponseEntity.notFound().build())", sourceClassNameDTO)
+                        .addStatement("return entityOptional.map(entity -> ResponseEntity.ok($L)).orElseGet(() -> ResponseEntity.notFound().build())", timed(sourceClass, "mapping", "fromDomain", "$T.fromDomain(entity)", sourceClassNameDTO))
                         .nextControlFlow("catch (Exception e)")
                         .addStatement("return ResponseEntity.status($T.INTERNAL_SERVER_ERROR).build()", httpStatus)
                         .endControlFlow()
-                        .build())
-                .addMethod(MethodSpec.methodBuilder("findAll")
+                        .addCode(timedEndpointEnd())
+                        .build(),
+                        CodeBlock.builder()
+                                .add(entityNotModified(conditional))
+                                .addStatement("return service.getEntityByIdAsync(id)\n.thenApply(entityOptional -> entityOptional.map(entity -> ResponseEntity.ok($T.fromDomain(entity))).orElseGet(() -> ResponseEntity.notFound().build()))\n.exceptionally(e -> ResponseEntity.status($T.INTERNAL_SERVER_ERROR).build())", sourceClassNameDTO, httpStatus)
+                                .build()))
+                .addMethod(asyncEndpoint(MethodSpec.methodBuilder("findAll")
                         .addAnnotation(AnnotationSpec.builder(getMapping)
                                 .addMember("value", "$S", "/findAll")
                                 .addMember("params", "{$S, $S}", "page", "size")
                                 .build())
-                        .addAnnotation(AnnotationSpec.builder(responseStatus)
-                                .addMember("value", "$T.OK", httpStatus)
-                                .build())
+                        .addAnnotations(okStatus)
                         .addAnnotation(responseBody)
                         .returns(ParameterizedTypeName.get(pageable, sourceClassNameDTO))
                         .addParameter(ParameterSpec.builder(int.class, "page")
@@ -249,17 +828,23 @@ public class ArchbaseGeneratorCodeMojo
                                         .addMember("value", "$S", "size")
                                         .build())
                                 .build())
+                        .addParameters(webRequest)
                         .addModifiers(Modifier.PUBLIC)
+                        .addCode(timedEndpointBegin(sourceClass, "findAll"))
+                        .addCode(pageNotModified(conditional, "null"))
                         .addStatement("return service.findAll(page, size)")
-                        .build())
-                .addMethod(MethodSpec.methodBuilder("findAll")
+                        .addCode(timedEndpointEnd())
+                        .build(),
+                        CodeBlock.builder()
+                                .add(pageNotModified(conditional, "null"))
+                                .addStatement("return service.findAllAsync(page, size)")
+                                .build()))
+                .addMethod(asyncEndpoint(MethodSpec.methodBuilder("findAll")
                         .addAnnotation(AnnotationSpec.builder(getMapping)
                                 .addMember("value", "$S", "/findAll")
                                 .addMember("params", "{$S, $S, $S}", "page", "size", "sort")
                                 .build())
-                        .addAnnotation(AnnotationSpec.builder(responseStatus)
-                                .addMember("value", "$T.OK", httpStatus)
-                                .build())
+                        .addAnnotations(okStatus)
                         .addAnnotation(responseBody)
                         .returns(ParameterizedTypeName.get(pageable, sourceClassNameDTO))
                         .addParameter(ParameterSpec.builder(int.class, "page")
@@ -277,10 +862,18 @@ public class ArchbaseGeneratorCodeMojo
                                         .addMember("value", "$S", "sort")
                                         .build())
                                 .build())
+                        .addParameters(webRequest)
                         .addModifiers(Modifier.PUBLIC)
+                        .addCode(timedEndpointBegin(sourceClass, "findAllSorted"))
+                        .addCode(pageNotModified(conditional, "sort"))
                         .addStatement("return service.findAll(page, size, sort)")
-                        .build())
-                .addMethod(MethodSpec.methodBuilder("findAll")
+                        .addCode(timedEndpointEnd())
+                        .build(),
+                        CodeBlock.builder()
+                                .add(pageNotModified(conditional, "sort"))
+                                .addStatement("return service.findAllAsync(page, size, sort)")
+                                .build()))
+                .addMethod(asyncEndpoint(MethodSpec.methodBuilder("findAll")
                         .addAnnotation(AnnotationSpec.builder(getMapping)
                                 .addMember("value", "$S", "/findAll")
                                 .addMember("params", "{$S}", "ids")
@@ -296,9 +889,12 @@ public class ArchbaseGeneratorCodeMojo
                                         .build())
                                 .build())
                         .addModifiers(Modifier.PUBLIC)
+                        .addCode(timedEndpointBegin(sourceClass, "findAllByIds"))
                         .addStatement("return service.findAll(ids)")
-                        .build())
-                .addMethod(MethodSpec.methodBuilder("find")
+                        .addCode(timedEndpointEnd())
+                        .build(),
+                        CodeBlock.of("return service.findAllAsync(ids);\n")))
+                .addMethod(asyncEndpoint(MethodSpec.methodBuilder("find")
                         .addAnnotation(AnnotationSpec.builder(getMapping)
                                 .addMember("value", "$S", "/findWithFilter")
                                 .addMember("params", "{$S, $S, $S}", "page", "size", "filter")
@@ -324,9 +920,12 @@ public class ArchbaseGeneratorCodeMojo
                                         .build())
                                 .build())
                         .addModifiers(Modifier.PUBLIC)
+                        .addCode(timedEndpointBegin(sourceClass, "findWithFilter"))
                         .addStatement("return service.findWithFilter(filter, page, size)")
-                        .build())
-                .addMethod(MethodSpec.methodBuilder("find")
+                        .addCode(timedEndpointEnd())
+                        .build(),
+                        CodeBlock.of("return service.findWithFilterAsync(filter, page, size);\n")))
+                .addMethod(asyncEndpoint(MethodSpec.methodBuilder("find")
                         .addAnnotation(AnnotationSpec.builder(getMapping)
                                 .addMember("value", "$S", "/findWithFilterAndSort")
                                 .addMember("params", "{$S, $S, $S, $S}", "page", "size", "filter", "sort")
@@ -357,25 +956,26 @@ public class ArchbaseGeneratorCodeMojo
                                         .build())
                                 .build())
                         .addModifiers(Modifier.PUBLIC)
+                        .addCode(timedEndpointBegin(sourceClass, "findWithFilterSorted"))
                         .addStatement("return service.findWithFilter(filter, page, size, sort)")
-                        .build())
+                        .addCode(timedEndpointEnd())
+                        .build(),
+                        CodeBlock.of("return service.findWithFilterAsync(filter, page, size, sort);\n")))
+                .addMethods(projectionControllerMethods(classMapping, sourceClass))
+                .addMethods(keysetControllerMethods(classMapping, sourceClass))
+                .addMethods(sliceControllerMethods(classMapping, sourceClass))
+                .addMethods(streamingControllerMethods(classMapping, sourceClass))
+                .addMethods(batchControllerMethods(classMapping, sourceClass))
                 .build();
 
-        JavaFile javaFile = JavaFile.builder(controllerOutputPackageBase + classMapping.targetPackageSuffix, controllerClass)
+        return JavaFile.builder(controllerOutputPackageBase + classMapping.targetPackageSuffix, controllerClass)
                 .build();
-
-        String packagePath = (controllerOutputPackageBase + classMapping.targetPackageSuffix).replace('.', File.separatorChar);
-        File destinationFile = new File(outputDirectory, packagePath + File.separator + sourceClassName + ".java");
-
-        if (!destinationFile.exists()) {
-            javaFile.writeTo(outputDirectory);
-        }
     }
 
-    private void generateService(ClassMapping classMapping, Class<?> sourceClass, File outputDirectory) throws IOException {
+    JavaFile generateService(ClassMapping classMapping, EntityModel sourceClass) {
         String serviceClassName = sourceClass.getSimpleName() + "Service";
 
-        ClassName sourceClassName = ClassName.get(sourceClass);
+        ClassName sourceClassName = sourceClass.getClassName();
         ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase+classMapping.targetPackageSuffix, sourceClass.getSimpleName()+"Dto");
 
         ClassName createOrUpdateOrRemoveEntityUseCase = ClassName.get("br.com.archbase.ddd.domain.contracts", "CreateOrUpdateOrRemoveEntityUseCase");
@@ -387,15 +987,30 @@ public class ArchbaseGeneratorCodeMojo
         ClassName pageable = ClassName.get("org.springframework.data.domain", "Page");
         ClassName optional = ClassName.get("java.util", "Optional");
         ClassName list = ClassName.get("java.util", "List");
-
+        ClassName transactional = ClassName.get("org.springframework.transaction.annotation", "Transactional");
 
         TypeSpec serviceClass = TypeSpec.classBuilder(serviceClassName)
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(ClassName.get("org.springframework.stereotype", "Component"))
+                .addAnnotation(AnnotationSpec.builder(transactional)
+                        .addMember("readOnly", "true")
+                        .build())
                 .addSuperinterface(ParameterizedTypeName.get(createOrUpdateOrRemoveEntityUseCase, sourceClassName, sourceClassName))
                 .addSuperinterface(ParameterizedTypeName.get(findDataWithFilterQuery, ClassName.get(String.class), sourceClassNameDTO))
                 .addField(sourceClassNameAdapter, "persistenceAdapter", Modifier.PRIVATE, Modifier.FINAL)
                 .addField(securityAdapter, "securityAdapter", Modifier.PRIVATE, Modifier.FINAL)
+                .addFields(metricsField())
+                .addFields(asyncEndpoints ? List.of(FieldSpec.builder(ClassName.get("java.util.concurrent", "Executor"), "executor", Modifier.PRIVATE)
+                        .addAnnotation(ClassName.get("org.springframework.beans.factory.annotation", "Autowired"))
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.beans.factory.annotation", "Qualifier"))
+                                .addMember("value", "$T.EXECUTOR", ClassName.get(serviceOutputPackageBase, "ServiceExecutorConfiguration"))
+                                .build())
+                        .build(),
+                        // Proxy do próprio service, para que as tarefas no executor passem pelas transações e métricas dele
+                        FieldSpec.builder(ClassName.get(serviceOutputPackageBase + classMapping.targetPackageSuffix, serviceClassName), "self", Modifier.PRIVATE)
+                                .addAnnotation(ClassName.get("org.springframework.beans.factory.annotation", "Autowired"))
+                                .addAnnotation(ClassName.get("org.springframework.context.annotation", "Lazy"))
+                                .build()) : List.of())
                 .addMethod(MethodSpec.constructorBuilder()
                         .addModifiers(Modifier.PUBLIC)
                         .addParameter(sourceClassNameAdapter, "persistenceAdapter")
@@ -405,27 +1020,36 @@ public class ArchbaseGeneratorCodeMojo
                         .build())
                 .addMethod(MethodSpec.methodBuilder("createEntity")
                         .addAnnotation(Override.class)
+                        .addAnnotation(transactional)
                         .returns(sourceClassName)
                         .addParameter(sourceClassName, "entity")
                         .addModifiers(Modifier.PUBLIC)
-                        .addStatement("$T validationResult = entity.validar()", archbaseValidationResult)
-                        .beginControlFlow("if (!validationResult.isValid())")
-                        .addStatement("throw new $T(validationResult.getErrors())", validationException)
-                        .endControlFlow()
-                        .addStatement("entity.criadoPor(securityAdapter.buscarUsuarioLogado())")
+                        .addCode(asyncEndpoints ? CodeBlock.of("prepareCreate(entity);\n") : CodeBlock.builder()
+                                .addStatement("$T validationResult = $L", archbaseValidationResult, timed(sourceClass, "service", "validar", "entity.validar()"))
+                                .beginControlFlow("if (!validationResult.isValid())")
+                                .addStatement("throw new $T(validationResult.getErrors())", validationException)
+                                .endControlFlow()
+                                .addStatement("entity.criadoPor(securityAdapter.buscarUsuarioLogado())")
+                                .build())
                         .addStatement("return persistenceAdapter.saveEntity(entity)")
                         .build())
                 .addMethod(MethodSpec.methodBuilder("updateEntity")
                         .addAnnotation(Override.class)
+                        .addAnnotation(transactional)
                         .returns(sourceClassName)
                         .addParameter(sourceClassName, "entity")
                         .addModifiers(Modifier.PUBLIC)
-                        .addStatement("$T validationResult = entity.validar()", archbaseValidationResult)
-                        .beginControlFlow("if (!validationResult.isValid())")
-                        .addStatement("throw new $T(validationResult.getErrors())", validationException)
-                        .endControlFlow()
-                        .addStatement("entity.alteradoPor(securityAdapter.buscarUsuarioLogado())")
-                        .addStatement("return persistenceAdapter.saveEntity(entity)")
+                        .addCode(asyncEndpoints ? CodeBlock.builder()
+                                .addStatement("prepareUpdate(entity)")
+                                .addStatement("return updatePreparedEntity(entity)")
+                                .build() : CodeBlock.builder()
+                                .addStatement("$T validationResult = $L", archbaseValidationResult, timed(sourceClass, "service", "validar", "entity.validar()"))
+                                .beginControlFlow("if (!validationResult.isValid())")
+                                .addStatement("throw new $T(validationResult.getErrors())", validationException)
+                                .endControlFlow()
+                                .addStatement("entity.alteradoPor(securityAdapter.buscarUsuarioLogado())")
+                                .addStatement("return persistenceAdapter.updateEntity(entity).orElseThrow(() -> new $T(String.format(\"Entidade %s não encontrado. Não será possível salvá-la.\", entity.getId())))", validationException)
+                                .build())
                         .build())
                 .addMethod(MethodSpec.methodBuilder("getEntityById")
                         .addAnnotation(Override.class)
@@ -486,33 +1110,36 @@ public class ArchbaseGeneratorCodeMojo
                         .build())
                 .addMethod(MethodSpec.methodBuilder("removeEntity")
                         .addAnnotation(Override.class)
+                        .addAnnotation(transactional)
                         .returns(sourceClassName)
                         .addParameter(String.class, "id")
                         .addModifiers(Modifier.PUBLIC)
-                        .addCode("Optional<$T> entityOptional = persistenceAdapter.getEntityById(id);\n", sourceClassName)
-                        .beginControlFlow("if (entityOptional.isEmpty())")
-                        .addStatement("throw new $T(String.format(\"Entidade id %s não encontrada.\", id))", validationException)
-                        .endControlFlow()
-                        .addStatement("return persistenceAdapter.removeEntity(entityOptional.get())")
+                        .addStatement("return persistenceAdapter.removeEntityById(id).orElseThrow(() -> new $T(String.format(\"Entidade id %s não encontrada.\", id)))", validationException)
                         .build())
+                .addMethod(MethodSpec.methodBuilder("existsEntityById")
+                        .returns(boolean.class)
+                        .addParameter(String.class, "id")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addStatement("return persistenceAdapter.existsEntityById(id)")
+                        .build())
+                .addMethods(projectionServiceMethods(classMapping, sourceClass))
+                .addMethods(keysetServiceMethods(classMapping, sourceClass))
+                .addMethods(sliceServiceMethods(classMapping, sourceClass))
+                .addMethods(streamingServiceMethods(classMapping, sourceClass))
+                .addMethods(batchServiceMethods(classMapping, sourceClass))
+                .addMethods(conditionalServiceMethods(classMapping, sourceClass))
+                .addMethods(asyncServiceMethods(classMapping, sourceClass))
                 .build();
 
-        JavaFile javaFile = JavaFile.builder(serviceOutputPackageBase + classMapping.targetPackageSuffix, serviceClass)
+        return JavaFile.builder(serviceOutputPackageBase + classMapping.targetPackageSuffix, serviceClass)
                 .build();
-
-        String packagePath = (serviceOutputPackageBase + classMapping.targetPackageSuffix).replace('.', File.separatorChar);
-        File destinationFile = new File(outputDirectory, packagePath + File.separator + sourceClassName + ".java");
-
-        if (!destinationFile.exists()) {
-            javaFile.writeTo(outputDirectory);
-        }
     }
 
-    private void generateMapper(ClassMapping classMapping, Class<?> sourceClass, File outputDirectory) throws IOException {
+    JavaFile generateMapper(ClassMapping classMapping, EntityModel sourceClass) {
         String mapperClassName = sourceClass.getSimpleName() + "PersistenceMapper";
         ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase+classMapping.targetPackageSuffix, sourceClass.getSimpleName()+"Entity");
         ClassName entityPersistenceMapper = ClassName.get("br.com.archbase.ddd.domain.contracts", "EntityPersistenceMapper");
-        ClassName sourceClassName = ClassName.get(sourceClass);
+        ClassName sourceClassName = sourceClass.getClassName();
 
         TypeSpec mapperClass = TypeSpec.classBuilder(mapperClassName)
                 .addModifiers(Modifier.PUBLIC)
@@ -537,18 +1164,11 @@ public class ArchbaseGeneratorCodeMojo
                 .build();
 
 
-        JavaFile javaFile = JavaFile.builder(mapperOutputPackageBase + classMapping.targetPackageSuffix, mapperClass)
+        return JavaFile.builder(mapperOutputPackageBase + classMapping.targetPackageSuffix, mapperClass)
                 .build();
-
-        String packagePath = (mapperOutputPackageBase + classMapping.targetPackageSuffix).replace('.', File.separatorChar);
-        File destinationFile = new File(outputDirectory, packagePath + File.separator + mapperClassName + ".java");
-
-        if (!destinationFile.exists()) {
-            javaFile.writeTo(outputDirectory);
-        }
     }
 
-    private void generateRepository(ClassMapping classMapping, Class<?> sourceClass, File outputDirectory) throws IOException {
+    JavaFile generateRepository(ClassMapping classMapping, EntityModel sourceClass) {
         String repositoryClassName = sourceClass.getSimpleName() + "JpaRepository";
         ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase+classMapping.targetPackageSuffix, sourceClass.getSimpleName()+"Entity");
         ClassName archbaseCommonJpaRepository = ClassName.get("br.com.archbase.ddd.infraestructure.persistence.jpa.repository", "ArchbaseCommonJpaRepository");
@@ -556,25 +1176,24 @@ public class ArchbaseGeneratorCodeMojo
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(ClassName.get("org.springframework.stereotype", "Repository"))
                 .addSuperinterface(ParameterizedTypeName.get(archbaseCommonJpaRepository, sourceClassNameEntity, ClassName.get(String.class), ClassName.get(Long.class)))
+                .addMethods(entityGraphRepositoryMethods(classMapping, sourceClass))
+                .addMethods(projectionRepositoryMethods(classMapping, sourceClass))
+                .addMethods(sliceRepositoryMethods(classMapping, sourceClass))
+                .addMethods(streamingRepositoryMethods(classMapping, sourceClass))
+                .addMethods(batchRepositoryMethods(classMapping, sourceClass))
+                .addMethods(conditionalRepositoryMethods(classMapping, sourceClass))
                 .build();
-        JavaFile javaFile = JavaFile.builder(repositoryOutputPackageBase + classMapping.targetPackageSuffix, jpaRepositoryClass)
+        return JavaFile.builder(repositoryOutputPackageBase + classMapping.targetPackageSuffix, jpaRepositoryClass)
                 .build();
-
-        String packagePath = (repositoryOutputPackageBase + classMapping.targetPackageSuffix).replace('.', File.separatorChar);
-        File destinationFile = new File(outputDirectory, packagePath + File.separator + repositoryClassName + ".java");
-
-        if (!destinationFile.exists()) {
-            javaFile.writeTo(outputDirectory);
-        }
     }
 
-    private void generateAdapter(ClassMapping classMapping, Class<?> sourceClass, File outputDirectory) throws IOException {
+    JavaFile generateAdapter(ClassMapping classMapping, EntityModel sourceClass) {
         String adapterClassName = sourceClass.getSimpleName() + "PersistenceAdapter";
         String repositoryClassName = sourceClass.getSimpleName()+"JpaRepository";
         ClassName entityPersistenceMapper = ClassName.get("br.com.archbase.ddd.domain.contracts", "EntityPersistenceMapper");
         ClassName entityPersistencePort = ClassName.get("br.com.archbase.ddd.domain.contracts", "EntityPersistencePort");
         ClassName findDataWithFilterQuery = ClassName.get("br.com.archbase.ddd.domain.contracts", "FindDataWithFilterQuery");
-        ClassName sourceClassName = ClassName.get(sourceClass);
+        ClassName sourceClassName = sourceClass.getClassName();
         ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase+classMapping.targetPackageSuffix, sourceClass.getSimpleName()+"Entity");
         ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase+classMapping.targetPackageSuffix, sourceClass.getSimpleName()+"Dto");
         ClassName pageClassName = ClassName.get("org.springframework.data.domain", "Page");
@@ -601,26 +1220,28 @@ public class ArchbaseGeneratorCodeMojo
          */
         MethodSpec saveEntity = MethodSpec.methodBuilder("saveEntity")
                 .addAnnotation(Override.class)
+                .addAnnotation(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
                 .addModifiers(Modifier.PUBLIC)
                 .returns(sourceClassName)
                 .addParameter(sourceClassName, "entity")
                 .build();
         saveEntity = saveEntity.toBuilder()
-                .addStatement("$T persistenceEntity = mapper.toEntity(entity)", sourceClassNameEntity)
-                .addStatement("$T savedEntity = repository.save(persistenceEntity)", sourceClassNameEntity)
-                .addStatement("return mapper.toDomain(savedEntity)")
+                .addStatement("$T persistenceEntity = $L", sourceClassNameEntity, timed(sourceClass, "mapping", "toEntity", "mapper.toEntity(entity)"))
+                .addStatement("$T savedEntity = $L", sourceClassNameEntity, timed(sourceClass, "repository", "save", "repository.save(persistenceEntity)"))
+                .addStatement("return $L", timed(sourceClass, "mapping", "toDomain", "mapper.toDomain(savedEntity)"))
                 .build();
         /**
          * removeEntity method
          */
         MethodSpec removeEntity = MethodSpec.methodBuilder("removeEntity")
                 .addAnnotation(Override.class)
+                .addAnnotation(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
                 .addModifiers(Modifier.PUBLIC)
                 .returns(sourceClassName)
                 .addParameter(sourceClassName, "entity")
                 .build();
         removeEntity = removeEntity.toBuilder()
-                .addStatement("repository.deleteById(entity.getId().toString())")
+                .addStatement("$L", timedRun(sourceClass, "repository", "deleteById", "repository.deleteById(entity.getId().toString())"))
                 .addStatement("return entity")
                 .build();
 
@@ -630,12 +1251,12 @@ public class ArchbaseGeneratorCodeMojo
         MethodSpec getEntityById = MethodSpec.methodBuilder("getEntityById")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
-                .returns(ParameterizedTypeName.get(Optional.class,sourceClass))
+                .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), sourceClass.getClassName()))
                 .addParameter(String.class, "id")
                 .build();
         getEntityById = getEntityById.toBuilder()
-                .addStatement("Optional<$T> entityOptional = repository.findById(id)",sourceClassNameEntity)
-                .addStatement("return entityOptional.map(mapper::toDomain)")
+                .addStatement("Optional<$T> entityOptional = $L", sourceClassNameEntity, timed(sourceClass, "repository", "findById", "repository." + readByIdCall(sourceClass, "id")))
+                .addStatement("return $L", timed(sourceClass, "mapping", "toDomain", "entityOptional.map(mapper::toDomain)"))
                 .build();
 
         /**
@@ -644,7 +1265,7 @@ public class ArchbaseGeneratorCodeMojo
         MethodSpec getEntityByName = MethodSpec.methodBuilder("getEntityByName")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
-                .returns(ParameterizedTypeName.get(Optional.class,sourceClass))
+                .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), sourceClass.getClassName()))
                 .addParameter(String.class, "name")
                 .build();
         getEntityByName = getEntityByName.toBuilder()
@@ -664,6 +1285,56 @@ public class ArchbaseGeneratorCodeMojo
                 .addStatement("return false")
                 .build();
 
+        /**
+         * existsEntityById method
+         */
+        MethodSpec existsEntityById = MethodSpec.methodBuilder("existsEntityById")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(boolean.class)
+                .addParameter(String.class, "id")
+                .addStatement("return $L", timed(sourceClass, "repository", "existsById", "repository.existsById(id)"))
+                .build();
+
+        /**
+         * updateEntity method
+         */
+        MethodSpec updateEntity = MethodSpec.methodBuilder("updateEntity")
+                .addJavadoc("Altera a entidade com uma única leitura: a busca pelo id deixa a entidade gerenciada e o merge feito\n"
+                        + "pelo save a reaproveita, sem outro select. Uma versão desatualizada falha pelo controle otimista.\n")
+                .addAnnotation(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), sourceClassName))
+                .addParameter(sourceClassName, "entity")
+                .beginControlFlow("if ($L.isEmpty())", timed(sourceClass, "repository", "findById", "repository.findById(entity.getId().toString())"))
+                .addStatement("return Optional.empty()")
+                .endControlFlow()
+                .addCode(instrumentation
+                        // Mapeamento e gravação medidos separadamente
+                        ? CodeBlock.builder()
+                                .addStatement("$T persistenceEntity = $L", sourceClassNameEntity, timed(sourceClass, "mapping", "toEntity", "mapper.toEntity(entity)"))
+                                .addStatement("$T savedEntity = $L", sourceClassNameEntity, timed(sourceClass, "repository", "save", "repository.save(persistenceEntity)"))
+                                .build()
+                        : CodeBlock.builder()
+                                .addStatement("$T savedEntity = repository.save(mapper.toEntity(entity))", sourceClassNameEntity)
+                                .build())
+                .addStatement("return Optional.of($L)", timed(sourceClass, "mapping", "toDomain", "mapper.toDomain(savedEntity)"))
+                .build();
+
+        /**
+         * removeEntityById method
+         */
+        MethodSpec removeEntityById = MethodSpec.methodBuilder("removeEntityById")
+                .addJavadoc("Remove a entidade com uma única leitura, retornando o estado removido.\n")
+                .addAnnotation(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), sourceClassName))
+                .addParameter(String.class, "id")
+                .addStatement("Optional<$T> entityOptional = $L", sourceClassNameEntity, timed(sourceClass, "repository", "findById", "repository.findById(id)"))
+                .addStatement("Optional<$T> removedEntity = $L", sourceClassName, timed(sourceClass, "mapping", "toDomain", "entityOptional.map(mapper::toDomain)"))
+                .addStatement("$L", timedRun(sourceClass, "repository", "delete", "entityOptional.ifPresent(repository::delete)"))
+                .addStatement("return removedEntity")
+                .build();
+
         /**
          * existsEntityByName method
          */
@@ -674,8 +1345,8 @@ public class ArchbaseGeneratorCodeMojo
                 .addParameter(String.class, "id")
                 .build();
         findById = findById.toBuilder()
-                .addStatement("Optional<$T> byId = repository.findById(id)", sourceClassNameEntity)
-                .addStatement("return byId.map($T::toDto).orElse(null)",sourceClassNameEntity)
+                .addStatement("Optional<$T> byId = $L", sourceClassNameEntity, timed(sourceClass, "repository", "findById", "repository." + readByIdCall(sourceClass, "id")))
+                .addStatement("return $L", timed(sourceClass, "mapping", "toDto", "byId.map($T::toDto).orElse(null)", sourceClassNameEntity))
                 .build();
 
         /**
@@ -690,8 +1361,8 @@ public class ArchbaseGeneratorCodeMojo
                 .build();
         findAll = findAll.toBuilder()
                 .addStatement("$T pageable = $T.of(page, size)", pageableClassname, pageRequestClassname)
-                .addStatement("$T<$T> result = repository.findAll(pageable)",pageClassName, sourceClassNameEntity)
-                .addStatement("List<$T> list = result.stream().map($T::toDto).toList()",sourceClassNameDTO, sourceClassNameEntity)
+                .addStatement("$T<$T> result = $L", pageClassName, sourceClassNameEntity, timed(sourceClass, "repository", "findAll", "repository.findAll(pageable)"))
+                .addStatement("List<$T> list = $L", sourceClassNameDTO, timed(sourceClass, "mapping", "toDto", "result.stream().map($T::toDto).toList()", sourceClassNameEntity))
                 .addStatement("return new PageEntity(list, pageable, result.getTotalElements())")
                 .build();
 
@@ -707,9 +1378,9 @@ public class ArchbaseGeneratorCodeMojo
                 .addParameter(String[].class, "sort")
                 .build();
         findAll2 = findAll2.toBuilder()
-                .addStatement("$T pageable = $T.of(page, size, $T.by($T.convertSortToJpa(sort)))", pageableClassname, pageRequestClassname, sortClassname, sortUtilsClassname)
-                .addStatement("$T<$T> result = repository.findAll(pageable)",pageClassName, sourceClassNameEntity)
-                .addStatement("List<$T> list = result.stream().map($T::toDto).toList()",sourceClassNameDTO, sourceClassNameEntity)
+                .addStatement("$T pageable = $T.of(page, size, $L)", pageableClassname, pageRequestClassname, convertedSort())
+                .addStatement("$T<$T> result = $L", pageClassName, sourceClassNameEntity, timed(sourceClass, "repository", "findAll", "repository.findAll(pageable)"))
+                .addStatement("List<$T> list = $L", sourceClassNameDTO, timed(sourceClass, "mapping", "toDto", "result.stream().map($T::toDto).toList()", sourceClassNameEntity))
                 .addStatement("return new PageEntity(list, pageable, result.getTotalElements())")
                 .build();
 
@@ -723,8 +1394,9 @@ public class ArchbaseGeneratorCodeMojo
                 .addParameter(TypeUtils.parameterize(List.class, String.class), "ids")
                 .build();
         findAll3 = findAll3.toBuilder()
-                .addStatement("List<$T> result = repository.findAllById(ids)",sourceClassNameEntity)
-                .addStatement("return result.stream().map($T::toDto).toList()",sourceClassNameEntity)
+                .addStatement("List<$T> result = $L", sourceClassNameEntity, timed(sourceClass, "repository", "findAllById",
+                        entityGraph(sourceClass).isEmpty() ? "repository.findAllById(ids)" : "repository.findAllWithGraphByIdIn(ids)"))
+                .addStatement("return $L", timed(sourceClass, "mapping", "toDto", "result.stream().map($T::toDto).toList()", sourceClassNameEntity))
                 .build();
 
         /**
@@ -740,8 +1412,8 @@ public class ArchbaseGeneratorCodeMojo
                 .build();
         findWithFilter = findWithFilter.toBuilder()
                 .addStatement("$T pageable = $T.of(page, size)", pageableClassname, pageRequestClassname)
-                .addStatement("$T<$T> result = repository.findAll(filter, pageable)",pageClassName, sourceClassNameEntity)
-                .addStatement("List<$T> list = result.stream().map($T::toDto).toList()",sourceClassNameDTO, sourceClassNameEntity)
+                .addStatement("$T<$T> result = $L", pageClassName, sourceClassNameEntity, timed(sourceClass, "repository", "findWithFilter", "repository.findAll(filter, pageable)"))
+                .addStatement("List<$T> list = $L", sourceClassNameDTO, timed(sourceClass, "mapping", "toDto", "result.stream().map($T::toDto).toList()", sourceClassNameEntity))
                 .addStatement("return new PageEntity(list, pageable, result.getTotalElements())")
                 .build();
 
@@ -758,9 +1430,9 @@ public class ArchbaseGeneratorCodeMojo
                 .addParameter(String[].class, "sort")
                 .build();
         findWithFilter2 = findWithFilter2.toBuilder()
-                .addStatement("$T pageable = $T.of(page, size, $T.by($T.convertSortToJpa(sort)))", pageableClassname, pageRequestClassname, sortClassname, sortUtilsClassname)
-                .addStatement("$T<$T> result = repository.findAll(filter, pageable)",pageClassName, sourceClassNameEntity)
-                .addStatement("List<$T> list = result.stream().map($T::toDto).toList()",sourceClassNameDTO, sourceClassNameEntity)
+                .addStatement("$T pageable = $T.of(page, size, $L)", pageableClassname, pageRequestClassname, convertedSort())
+                .addStatement("$T<$T> result = $L", pageClassName, sourceClassNameEntity, timed(sourceClass, "repository", "findWithFilter", "repository.findAll(filter, pageable)"))
+                .addStatement("List<$T> list = $L", sourceClassNameDTO, timed(sourceClass, "mapping", "toDto", "result.stream().map($T::toDto).toList()", sourceClassNameEntity))
                 .addStatement("return new PageEntity(list, pageable, result.getTotalElements())")
                 .build();
 
@@ -796,165 +1468,2826 @@ public class ArchbaseGeneratorCodeMojo
                 .build();
 
 
+
         TypeSpec adapterClass = TypeSpec.classBuilder(adapterClassName)
                 .addModifiers(Modifier.PUBLIC)
                 .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.stereotype", "Component")).build())
+                // Consultas sem snapshots para verificação de alterações e sem flush; as gravações declaram a própria transação
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
+                        .addMember("readOnly", "true")
+                        .build())
                 .addSuperinterface(ParameterizedTypeName.get(entityPersistencePort, sourceClassName, sourceClassName))
                 .addSuperinterface(ParameterizedTypeName.get(findDataWithFilterQuery, ClassName.get(String.class), sourceClassNameDTO))
                 .addField(repositoryField)
                 .addField(mapperField)
+                .addFields(metricsField())
+                .addFields(keysetPagination || streamingExport || batchOperations ? List.of(entityManagerField()) : List.of())
+                .addFields(batchOperations ? List.of(FieldSpec.builder(int.class, "BATCH_SIZE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$L", batchSize)
+                        .build()) : List.of())
                 .addMethod(saveEntity)
                 .addMethod(removeEntity)
                 .addMethod(getEntityById)
                 .addMethod(getEntityByName)
                 .addMethod(existsEntityByName)
+                .addMethod(existsEntityById)
+                .addMethod(updateEntity)
+                .addMethod(removeEntityById)
                 .addMethod(findById)
                 .addMethod(findAll)
                 .addMethod(findAll2)
                 .addMethod(findAll3)
                 .addMethod(findWithFilter)
                 .addMethod(findWithFilter2)
+                .addMethods(projectionAdapterMethods(classMapping, sourceClass))
+                .addMethods(keysetAdapterMethods(classMapping, sourceClass))
+                .addMethods(sliceAdapterMethods(classMapping, sourceClass))
+                .addMethods(streamingAdapterMethods(classMapping, sourceClass))
+                .addMethods(batchAdapterMethods(classMapping, sourceClass))
+                .addMethods(conditionalAdapterMethods(classMapping, sourceClass))
                 .addType(pageEntity)
                 .addType(listEntity)
                 .build();
 
-        JavaFile javaFile = JavaFile.builder(adapterOutputPackageBase + classMapping.targetPackageSuffix, adapterClass)
+        return JavaFile.builder(adapterOutputPackageBase + classMapping.targetPackageSuffix, adapterClass)
                 .build();
+    }
 
-        String packagePath = (adapterOutputPackageBase + classMapping.targetPackageSuffix).replace('.', File.separatorChar);
-        File destinationFile = new File(outputDirectory, packagePath + File.separator + adapterClassName + ".java");
-
-        if (!destinationFile.exists()) {
-            javaFile.writeTo(outputDirectory);
+    /**
+     * DTO de uma projeção, mapeado diretamente da entidade de persistência para que apenas os campos
+     * selecionados (e suas associações, até {@code maxDepth}) sejam lidos.
+     */
+    JavaFile generateProjection(ClassMapping classMapping, EntityModel sourceClass, ProjectionMapping projection)
+            throws ClassNotFoundException, IOException {
+        if (StringUtils.isBlank(projection.name)) {
+            throw new IllegalArgumentException("Projeção sem nome em " + classMapping.baseClass);
+        }
+        ClassName projectionClassName = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix,
+                projectionDtoName(sourceClass.getSimpleName(), projection));
+        ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase + classMapping.targetPackageSuffix,
+                sourceClass.getSimpleName() + "Entity");
+        TypeSpec.Builder projectionBuilder = buildProjection(projectionClassName, sourceClassNameEntity, sourceClass, projection.fields, projection, 0)
+                .addModifiers(Modifier.PUBLIC);
+        if (projection.query) {
+            // Construtor usado pela expressão "select new" do repositório, com os campos na ordem de queryProjectionFields
+            queryProjectionFields(sourceClass, projection);
+            projectionBuilder.addAnnotation(ClassName.get("lombok", "AllArgsConstructor"));
         }
+        TypeSpec projectionClass = projectionBuilder.build();
+        return JavaFile.builder(projectionClassName.packageName(), projectionClass)
+                .build();
     }
 
-    public static List<Field> getAllFields(Class<?> type) {
-        List<Field> fields = new ArrayList<>();
-        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
-            for (Field field : c.getDeclaredFields()) {
-                fields.add(field);
+    private TypeSpec.Builder buildProjection(ClassName className, ClassName entityClassName, EntityModel model, List<String> paths,
+                                             ProjectionMapping projection, int depth) throws ClassNotFoundException, IOException {
+        // Agrupa os caminhos pelo primeiro campo: "cliente.nome" seleciona "nome" dentro de "cliente"
+        Map<String, List<String>> selection = new LinkedHashMap<>();
+        for (String path : paths) {
+            List<String> subpaths = selection.computeIfAbsent(StringUtils.substringBefore(path, "."), name -> new ArrayList<>());
+            if (path.contains(".")) {
+                subpaths.add(StringUtils.substringAfter(path, "."));
             }
         }
-        fields.sort(new Comparator<Field>() {
-            @Override
-            public int compare(Field o1, Field o2) {
-                return o1.getName().compareTo(o2.getName());
+        for (String name : selection.keySet()) {
+            if (model.getFields().stream().noneMatch(field -> field.getName().equals(name))) {
+                throw new IllegalArgumentException(String.format("Campo %s não existe em %s (projeção %s)",
+                        name, model.getSimpleName(), projection.name));
             }
-        });
-        return fields;
-    }
-
-    private void generateDTO(ClassMapping classMapping, Class<?> sourceClass, File outputDirectory) throws IOException {
-        String dtoClassName = sourceClass.getSimpleName() + "Dto";
-        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(dtoClassName)
-                .addModifiers(Modifier.PUBLIC)
-                .addAnnotation(AnnotationSpec.builder(ClassName.get("lombok", "Getter"))
-                        .build())
-                .addAnnotation(AnnotationSpec.builder(ClassName.get("lombok", "Builder"))
-                        .build())
-                .addAnnotation(AnnotationSpec.builder(ClassName.get("com.fasterxml.jackson.annotation", "JsonIdentityInfo"))
-                        .addMember("generator", "$T.class", ClassName.get("com.fasterxml.jackson.annotation.ObjectIdGenerators", "UUIDGenerator"))
-                        .addMember("property", "$S", "@id")
-                        .build());
-
-        for (Field field : getAllFields(sourceClass)) {
-            String fieldName = field.getName();
-            TypeName fieldType = getFieldType(field);
-            classBuilder.addField(FieldSpec.builder(fieldType, fieldName, Modifier.PRIVATE).build());
         }
 
-        // Adicionar método fromDomain
-        classBuilder.addMethod(createFromDomainMethod(sourceClass, dtoClassName));
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(className)
+                .addAnnotation(ClassName.get("lombok", "Getter"))
+                .addAnnotation(ClassName.get("lombok", "NoArgsConstructor"));
+        NameAllocator names = localNames(model);
+        String entity = names.newName("entity");
+        String dto = names.newName("dto");
+        String element = names.newName("element");
+        MethodSpec.Builder fromEntity = MethodSpec.methodBuilder("fromEntity")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(className)
+                .addParameter(entityClassName, entity)
+                .beginControlFlow("if ($L == null)", entity)
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("$T $L = new $T()", className, dto, className);
 
-        // Adicionar método toDomain
-        classBuilder.addMethod(createToDomainMethod(sourceClass, dtoClassName));
+        for (EntityFieldModel field : model.getFields()) {
+            String fieldName = field.getName();
+            String accessor = field.getAccessorSuffix();
+            List<String> subpaths = selection.get(fieldName);
+            if (subpaths == null && !selection.isEmpty()) {
+                continue;
+            }
 
+            if (!field.isAssociation()) {
+                if (projection.query && field.getType().isCollection()) {
+                    // Coleções não podem ser selecionadas em uma expressão de construtor
+                    if (subpaths == null) {
+                        continue;
+                    }
+                    throw new IllegalArgumentException(String.format("Campo %s de %s é uma coleção e não pode ser usado em uma projeção com query (projeção %s)",
+                            fieldName, model.getSimpleName(), projection.name));
+                }
+                if (subpaths != null && !subpaths.isEmpty()) {
+                    throw new IllegalArgumentException(String.format("Campo %s de %s não é uma associação (projeção %s)",
+                            fieldName, model.getSimpleName(), projection.name));
+                }
+                classBuilder.addField(field.getDtoType(), fieldName, Modifier.PRIVATE);
+                if (field.getKind() == EntityFieldModel.Kind.IDENTIFIER) {
+                    fromEntity.addStatement("$L.$L = $L.get$L() != null ? $L.get$L().toString() : null", dto, fieldName, entity, accessor, entity, accessor);
+                } else {
+                    fromEntity.addStatement("$L.$L = $L.get$L()", dto, fieldName, entity, accessor);
+                }
+                continue;
+            }
 
-        TypeSpec dtoClass = classBuilder.build();
+            if (depth >= projection.maxDepth) {
+                if (subpaths == null) {
+                    continue;
+                }
+                throw new IllegalArgumentException(String.format("Campo %s de %s excede maxDepth %d (projeção %s)",
+                        fieldName, model.getSimpleName(), projection.maxDepth, projection.name));
+            }
+            ClassName nestedClassName = className.nestedClass(capitalize(fieldName) + "Dto");
+            ClassName nestedEntityClassName = persistenceClassName(field.getElementType());
+            EntityModel nestedModel = entityModel(metadataReader.read(field.getElementType().getQualifiedName()));
+            classBuilder.addType(buildProjection(nestedClassName, nestedEntityClassName, nestedModel,
+                            subpaths != null ? subpaths : List.of(), projection, depth + 1)
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .build());
 
-        String packagePath = (dtoOutputPackageBase+ classMapping.targetPackageSuffix).replace('.', File.separatorChar);
-        File destinationFile = new File(outputDirectory, packagePath + File.separator + dtoClassName + ".java");
+            if (field.getKind() == EntityFieldModel.Kind.ASSOCIATION) {
+                classBuilder.addField(nestedClassName, fieldName, Modifier.PRIVATE);
+                fromEntity.addStatement("$L.$L = $T.fromEntity($L.get$L())", dto, fieldName, nestedClassName, entity, accessor);
+                continue;
+            }
 
-        if (!destinationFile.exists()) {
-            JavaFile javaFile = JavaFile.builder(dtoOutputPackageBase + classMapping.targetPackageSuffix, dtoClass)
-                    .addStaticImport(Collectors.class, "toSet")
-                    .build();
-            javaFile.writeTo(outputDirectory);
+            TypeName collectionType = ParameterizedTypeName.get(dtoCollectionClass(field.getType()), nestedClassName);
+            String source = names.newName(fieldName + "Source");
+            String target = names.newName(fieldName + "Target");
+            classBuilder.addField(collectionType, fieldName, Modifier.PRIVATE);
+            fromEntity.addStatement("$T $L = $L.get$L()",
+                            ParameterizedTypeName.get(field.getType().getClassName(), WildcardTypeName.subtypeOf(nestedEntityClassName)), source, entity, accessor)
+                    .beginControlFlow("if ($L != null && $L.isEmpty())", source, source)
+                    .addStatement("$L.$L = $L", dto, fieldName, emptyDtoCollection(field.getType()))
+                    .nextControlFlow("else if ($L != null)", source)
+                    .addStatement("$T $L = $L", collectionType, target, newDtoCollection(field.getType(), source + ".size()"))
+                    .beginControlFlow("for ($T $L : $L)", nestedEntityClassName, element, source)
+                    .addStatement("$L.add($T.fromEntity($L))", target, nestedClassName, element)
+                    .endControlFlow()
+                    .addStatement("$L.$L = $L", dto, fieldName, target)
+                    .endControlFlow();
         }
+
+        fromEntity.addStatement("return $L", dto);
+        return classBuilder.addMethod(fromEntity.build());
     }
 
-    private MethodSpec createFromDomainMethod(Class<?> domainClass, String dtoClassName) {
-        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("fromDomain")
+    /**
+     * Campos selecionados por uma projeção com {@code query}, na ordem dos campos do DTO.
+     */
+    private List<EntityFieldModel> queryProjectionFields(EntityModel model, ProjectionMapping projection) {
+        if (projection.maxDepth > 0) {
+            throw new IllegalArgumentException(String.format("Projeção %s de %s com query não pode incluir associações (maxDepth deve ser 0)",
+                    projection.name, model.getSimpleName()));
+        }
+        List<EntityFieldModel> fields = new ArrayList<>();
+        for (EntityFieldModel field : model.getFields()) {
+            if (field.isAssociation() || field.getType().isCollection()) {
+                continue;
+            }
+            if (projection.fields.isEmpty() || projection.fields.contains(field.getName())) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * {@code @EntityGraph} com as associações simples da entidade. Coleções ficam de fora: buscadas junto com uma
+     * página, fariam o Hibernate paginar em memória; elas são lidas em lotes pelo {@code BatchFetchConfiguration}.
+     */
+    private List<AnnotationSpec> entityGraph(EntityModel sourceClass) {
+        if (!entityGraphs) {
+            return List.of();
+        }
+        List<String> attributePaths = new ArrayList<>();
+        for (EntityFieldModel field : sourceClass.getFields()) {
+            if (field.getKind() == EntityFieldModel.Kind.ASSOCIATION) {
+                attributePaths.add(field.getName());
+            }
+        }
+        if (attributePaths.isEmpty()) {
+            return List.of();
+        }
+        return List.of(AnnotationSpec.builder(ClassName.get("org.springframework.data.jpa.repository", "EntityGraph"))
+                .addMember("attributePaths", attributePaths.stream().map(path -> CodeBlock.of("$S", path)).collect(CodeBlock.joining(", ", "{", "}")))
+                .build());
+    }
+
+    private List<MethodSpec> entityGraphRepositoryMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        List<AnnotationSpec> entityGraph = entityGraph(sourceClass);
+        if (entityGraph.isEmpty()) {
+            return List.of();
+        }
+        ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Entity");
+        return List.of(MethodSpec.methodBuilder("findAll")
+                        .addAnnotation(Override.class)
+                        .addAnnotations(entityGraph)
+                        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                        .returns(ParameterizedTypeName.get(ClassName.get("org.springframework.data.domain", "Page"), sourceClassNameEntity))
+                        .addParameter(ClassName.get("org.springframework.data.domain", "Pageable"), "pageable")
+                        .build(),
+                MethodSpec.methodBuilder("findWithGraphById")
+                        .addJavadoc("{@code findById} com o grafo de leitura. As gravações usam o {@code findById} herdado.\n")
+                        .addAnnotations(entityGraph)
+                        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                        .returns(ParameterizedTypeName.get(ClassName.get(Optional.class), sourceClassNameEntity))
+                        .addParameter(String.class, "id")
+                        .build(),
+                MethodSpec.methodBuilder("findAllWithGraphByIdIn")
+                        .addJavadoc("{@code findAllById} com o grafo de leitura. As gravações usam o {@code findAllById} herdado.\n")
+                        .addAnnotations(entityGraph)
+                        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                        .returns(ParameterizedTypeName.get(ClassName.get(List.class), sourceClassNameEntity))
+                        .addParameter(ParameterizedTypeName.get(Collection.class, String.class), "ids")
+                        .build());
+    }
+
+    /**
+     * Chamada ao repositório das leituras por id: com {@code entityGraphs}, o método com o grafo de leitura.
+     */
+    private String readByIdCall(EntityModel sourceClass, String argument) {
+        return (entityGraph(sourceClass).isEmpty() ? "findById" : "findWithGraphById") + "(" + argument + ")";
+    }
+
+    /**
+     * Expressão que converte o parâmetro {@code sort} pelo {@code SortUtils}.
+     */
+    private CodeBlock convertedSort() {
+        ClassName sortClassname = ClassName.get("org.springframework.data.domain", "Sort");
+        ClassName sortUtilsClassname = ClassName.get("br.com.archbase.query.rsql.jpa", "SortUtils");
+        return CodeBlock.of("$T.by($T.convertSortToJpa(sort))", sortClassname, sortUtilsClassname);
+    }
+
+    /**
+     * Com {@code instrumentation} envolve a expressão em {@code metrics.time}, que mede o tempo da operação na camada
+     * informada; caso contrário retorna a própria expressão.
+     */
+    private CodeBlock timed(EntityModel sourceClass, String layer, String operation, String format, Object... args) {
+        CodeBlock expression = CodeBlock.of(format, args);
+        if (!instrumentation) {
+            return expression;
+        }
+        return CodeBlock.of("metrics.time($S, $S, $S, () -> $L)", sourceClass.getSimpleName(), layer, operation, expression);
+    }
+
+    private CodeBlock timedRun(EntityModel sourceClass, String layer, String operation, String format, Object... args) {
+        CodeBlock expression = CodeBlock.of(format, args);
+        if (!instrumentation) {
+            return expression;
+        }
+        return CodeBlock.of("metrics.run($S, $S, $S, () -> $L)", sourceClass.getSimpleName(), layer, operation, expression);
+    }
+
+    /**
+     * Início e fim do bloco que mede um endpoint inteiro do controller.
+     */
+    private CodeBlock timedEndpointBegin(EntityModel sourceClass, String operation) {
+        if (!instrumentation) {
+            return CodeBlock.of("");
+        }
+        return CodeBlock.of("return metrics.time($S, $S, $S, () -> {\n$>", sourceClass.getSimpleName(), "controller", operation);
+    }
+
+    private CodeBlock timedEndpointEnd() {
+        return instrumentation ? CodeBlock.of("$<});\n") : CodeBlock.of("");
+    }
+
+    private List<FieldSpec> metricsField() {
+        if (!instrumentation) {
+            return List.of();
+        }
+        ClassName crudMetrics = ClassName.get(serviceOutputPackageBase, "CrudMetrics");
+        return List.of(FieldSpec.builder(crudMetrics, "metrics", Modifier.PRIVATE)
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.beans.factory.annotation", "Autowired"))
+                        .addMember("required", "false")
+                        .build())
+                .initializer("$T.NOOP", crudMetrics)
+                .build());
+    }
+
+    /**
+     * Consultas das projeções com {@code query}: uma expressão de construtor JPQL que preenche o DTO sem
+     * materializar as entidades.
+     */
+    private List<MethodSpec> projectionRepositoryMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        ClassName queryAnnotation = ClassName.get("org.springframework.data.jpa.repository", "Query");
+        ClassName pageClassName = ClassName.get("org.springframework.data.domain", "Page");
+        ClassName pageableClassname = ClassName.get("org.springframework.data.domain", "Pageable");
+        String entityName = sourceClass.getSimpleName() + "Entity";
+
+        List<MethodSpec> methods = new ArrayList<>();
+        for (ProjectionMapping projection : classMapping.projections) {
+            if (!projection.query) {
+                continue;
+            }
+            ClassName projectionClassName = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix,
+                    projectionDtoName(sourceClass.getSimpleName(), projection));
+            String selection = queryProjectionFields(sourceClass, projection).stream()
+                    .map(field -> "e." + field.getName())
+                    .collect(Collectors.joining(", "));
+            methods.add(MethodSpec.methodBuilder("findAll" + capitalize(projection.name))
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .addAnnotation(AnnotationSpec.builder(queryAnnotation)
+                            .addMember("value", "$S", "select new " + projectionClassName.canonicalName() + "(" + selection + ") from " + entityName + " e")
+                            .addMember("countQuery", "$S", "select count(e) from " + entityName + " e")
+                            .build())
+                    .returns(ParameterizedTypeName.get(pageClassName, projectionClassName))
+                    .addParameter(pageableClassname, "pageable")
+                    .build());
+        }
+        return methods;
+    }
+
+    private String projectionDtoName(String entitySimpleName, ProjectionMapping projection) {
+        return entitySimpleName + capitalize(projection.name) + "Dto";
+    }
+
+    private ClassName persistenceClassName(TypeMetadata domainType) {
+        return ClassName.get(StringUtils.replace(domainType.getPackageName(), entityPackageBase, persistenceOutputPackageBase),
+                domainType.getSimpleName() + "Entity");
+    }
+
+    /**
+     * Consultas paginadas que devolvem os DTOs das projeções; {@code sort} é opcional.
+     */
+    private List<MethodSpec> projectionAdapterMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Entity");
+        ClassName pageClassName = ClassName.get("org.springframework.data.domain", "Page");
+        ClassName pageImpl = ClassName.get("org.springframework.data.domain", "PageImpl");
+        ClassName pageableClassname = ClassName.get("org.springframework.data.domain", "Pageable");
+        ClassName pageRequestClassname = ClassName.get("org.springframework.data.domain", "PageRequest");
+
+        List<MethodSpec> methods = new ArrayList<>();
+        for (ProjectionMapping projection : classMapping.projections) {
+            ClassName projectionClassName = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix,
+                    projectionDtoName(sourceClass.getSimpleName(), projection));
+            CodeBlock pageable = CodeBlock.of("$T pageable = sort != null ? $T.of(page, size, $L) : $T.of(page, size)",
+                    pageableClassname, pageRequestClassname, convertedSort(), pageRequestClassname);
+
+            MethodSpec.Builder findAll = MethodSpec.methodBuilder("findAll" + capitalize(projection.name))
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(ParameterizedTypeName.get(pageClassName, projectionClassName))
+                    .addParameter(int.class, "page")
+                    .addParameter(int.class, "size")
+                    .addParameter(String[].class, "sort")
+                    .addStatement(pageable);
+            if (projection.query) {
+                findAll.addStatement("return repository.findAll$L(pageable)", capitalize(projection.name));
+            } else {
+                findAll.addStatement("$T<$T> result = repository.findAll(pageable)", pageClassName, sourceClassNameEntity)
+                        .addStatement("List<$T> list = result.stream().map($T::fromEntity).toList()", projectionClassName, projectionClassName)
+                        .addStatement("return new $T<>(list, pageable, result.getTotalElements())", pageImpl);
+            }
+            methods.add(findAll.build());
+            methods.add(MethodSpec.methodBuilder("findWithFilter" + capitalize(projection.name))
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(ParameterizedTypeName.get(pageClassName, projectionClassName))
+                    .addParameter(String.class, "filter")
+                    .addParameter(int.class, "page")
+                    .addParameter(int.class, "size")
+                    .addParameter(String[].class, "sort")
+                    .addStatement(pageable)
+                    .addStatement("$T<$T> result = repository.findAll(filter, pageable)", pageClassName, sourceClassNameEntity)
+                    .addStatement("List<$T> list = result.stream().map($T::fromEntity).toList()", projectionClassName, projectionClassName)
+                    .addStatement("return new $T<>(list, pageable, result.getTotalElements())", pageImpl)
+                    .build());
+        }
+        return methods;
+    }
+
+    private List<MethodSpec> projectionServiceMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        ClassName pageClassName = ClassName.get("org.springframework.data.domain", "Page");
+
+        List<MethodSpec> methods = new ArrayList<>();
+        for (ProjectionMapping projection : classMapping.projections) {
+            ClassName projectionClassName = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix,
+                    projectionDtoName(sourceClass.getSimpleName(), projection));
+            methods.add(MethodSpec.methodBuilder("findAll" + capitalize(projection.name))
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(ParameterizedTypeName.get(pageClassName, projectionClassName))
+                    .addParameter(int.class, "page")
+                    .addParameter(int.class, "size")
+                    .addParameter(String[].class, "sort")
+                    .addStatement("return persistenceAdapter.findAll$L(page, size, sort)", capitalize(projection.name))
+                    .build());
+            methods.add(MethodSpec.methodBuilder("findWithFilter" + capitalize(projection.name))
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(ParameterizedTypeName.get(pageClassName, projectionClassName))
+                    .addParameter(String.class, "filter")
+                    .addParameter(int.class, "page")
+                    .addParameter(int.class, "size")
+                    .addParameter(String[].class, "sort")
+                    .addStatement("return persistenceAdapter.findWithFilter$L(filter, page, size, sort)", capitalize(projection.name))
+                    .build());
+        }
+        return methods;
+    }
+
+    private List<MethodSpec> projectionControllerMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        ClassName pageClassName = ClassName.get("org.springframework.data.domain", "Page");
+        ClassName httpStatus = ClassName.get("org.springframework.http", "HttpStatus");
+        ClassName getMapping = ClassName.get("org.springframework.web.bind.annotation", "GetMapping");
+        ClassName responseBody = ClassName.get("org.springframework.web.bind.annotation", "ResponseBody");
+        ClassName responseStatus = ClassName.get("org.springframework.web.bind.annotation", "ResponseStatus");
+        ClassName requestParam = ClassName.get("org.springframework.web.bind.annotation", "RequestParam");
+
+        List<MethodSpec> methods = new ArrayList<>();
+        for (ProjectionMapping projection : classMapping.projections) {
+            ClassName projectionClassName = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix,
+                    projectionDtoName(sourceClass.getSimpleName(), projection));
+            ParameterSpec page = ParameterSpec.builder(int.class, "page")
+                    .addAnnotation(AnnotationSpec.builder(requestParam).addMember("value", "$S", "page").build())
+                    .build();
+            ParameterSpec size = ParameterSpec.builder(int.class, "size")
+                    .addAnnotation(AnnotationSpec.builder(requestParam).addMember("value", "$S", "size").build())
+                    .build();
+            ParameterSpec sort = ParameterSpec.builder(String[].class, "sort")
+                    .addAnnotation(AnnotationSpec.builder(requestParam)
+                            .addMember("value", "$S", "sort")
+                            .addMember("required", "false")
+                            .build())
+                    .build();
+
+            methods.add(MethodSpec.methodBuilder("findAll" + capitalize(projection.name))
+                    .addAnnotation(AnnotationSpec.builder(getMapping)
+                            .addMember("value", "$S", "/findAll/" + unCapitalize(projection.name))
+                            .addMember("params", "{$S, $S}", "page", "size")
+                            .build())
+                    .addAnnotation(AnnotationSpec.builder(responseStatus)
+                            .addMember("value", "$T.OK", httpStatus)
+                            .build())
+                    .addAnnotation(responseBody)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(ParameterizedTypeName.get(pageClassName, projectionClassName))
+                    .addParameter(page)
+                    .addParameter(size)
+                    .addParameter(sort)
+                    .addStatement("return service.findAll$L(page, size, sort)", capitalize(projection.name))
+                    .build());
+            methods.add(MethodSpec.methodBuilder("findWithFilter" + capitalize(projection.name))
+                    .addAnnotation(AnnotationSpec.builder(getMapping)
+                            .addMember("value", "$S", "/findWithFilter/" + unCapitalize(projection.name))
+                            .addMember("params", "{$S, $S, $S}", "page", "size", "filter")
+                            .build())
+                    .addAnnotation(AnnotationSpec.builder(responseStatus)
+                            .addMember("value", "$T.OK", httpStatus)
+                            .build())
+                    .addAnnotation(responseBody)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(ParameterizedTypeName.get(pageClassName, projectionClassName))
+                    .addParameter(ParameterSpec.builder(String.class, "filter")
+                            .addAnnotation(AnnotationSpec.builder(requestParam).addMember("value", "$S", "filter").build())
+                            .build())
+                    .addParameter(page)
+                    .addParameter(size)
+                    .addParameter(sort)
+                    .addStatement("return service.findWithFilter$L(filter, page, size, sort)", capitalize(projection.name))
+                    .build());
+        }
+        return methods;
+    }
+
+    private FieldSpec entityManagerField() {
+        return FieldSpec.builder(ClassName.get("jakarta.persistence", "EntityManager"), "entityManager", Modifier.PRIVATE)
+                .addAnnotation(ClassName.get("jakarta.persistence", "PersistenceContext"))
+                .build();
+    }
+
+    private List<MethodSpec> keysetAdapterMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!keysetPagination) {
+            return List.of();
+        }
+        ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Entity");
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        return List.of(MethodSpec.methodBuilder("findAllByCursor")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(dtoOutputPackageBase, "CursorPage"), sourceClassNameDTO))
+                .addParameter(String.class, "cursor")
+                .addParameter(int.class, "size")
+                .addParameter(String[].class, "sort")
+                .addStatement("return $T.find(entityManager, $T.class, cursor, size, sort).map($T::toDto)",
+                        ClassName.get(adapterOutputPackageBase, "KeysetPagination"), sourceClassNameEntity, sourceClassNameEntity)
+                .build());
+    }
+
+    private List<MethodSpec> keysetServiceMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!keysetPagination) {
+            return List.of();
+        }
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        return List.of(MethodSpec.methodBuilder("findAllByCursor")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(dtoOutputPackageBase, "CursorPage"), sourceClassNameDTO))
+                .addParameter(String.class, "cursor")
+                .addParameter(int.class, "size")
+                .addParameter(String[].class, "sort")
+                .addStatement("return persistenceAdapter.findAllByCursor(cursor, size, sort)")
+                .build());
+    }
+
+    private List<MethodSpec> keysetControllerMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!keysetPagination) {
+            return List.of();
+        }
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        ClassName httpStatus = ClassName.get("org.springframework.http", "HttpStatus");
+        ClassName requestParam = ClassName.get("org.springframework.web.bind.annotation", "RequestParam");
+        return List.of(MethodSpec.methodBuilder("findAllByCursor")
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "GetMapping"))
+                        .addMember("value", "$S", "/findAll/cursor")
+                        .addMember("params", "{$S}", "size")
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "ResponseStatus"))
+                        .addMember("value", "$T.OK", httpStatus)
+                        .build())
+                .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "ResponseBody"))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(dtoOutputPackageBase, "CursorPage"), sourceClassNameDTO))
+                .addParameter(ParameterSpec.builder(String.class, "cursor")
+                        .addAnnotation(AnnotationSpec.builder(requestParam)
+                                .addMember("value", "$S", "cursor")
+                                .addMember("required", "false")
+                                .build())
+                        .build())
+                .addParameter(ParameterSpec.builder(int.class, "size")
+                        .addAnnotation(AnnotationSpec.builder(requestParam).addMember("value", "$S", "size").build())
+                        .build())
+                .addParameter(ParameterSpec.builder(String[].class, "sort")
+                        .addAnnotation(AnnotationSpec.builder(requestParam)
+                                .addMember("value", "$S", "sort")
+                                .addMember("required", "false")
+                                .build())
+                        .build())
+                .addStatement("return service.findAllByCursor(cursor, size, sort)")
+                .build());
+    }
+
+    private List<MethodSpec> sliceRepositoryMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!sliceQueries) {
+            return List.of();
+        }
+        ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Entity");
+        // Consulta derivada sem critérios: o retorno Slice dispensa a consulta de contagem
+        return List.of(MethodSpec.methodBuilder("findAllBy")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .addAnnotations(entityGraph(sourceClass))
+                .returns(ParameterizedTypeName.get(ClassName.get("org.springframework.data.domain", "Slice"), sourceClassNameEntity))
+                .addParameter(ClassName.get("org.springframework.data.domain", "Pageable"), "pageable")
+                .build());
+    }
+
+    private List<MethodSpec> sliceAdapterMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!sliceQueries) {
+            return List.of();
+        }
+        ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Entity");
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        ClassName pageableClassname = ClassName.get("org.springframework.data.domain", "Pageable");
+        ClassName pageRequestClassname = ClassName.get("org.springframework.data.domain", "PageRequest");
+        return List.of(MethodSpec.methodBuilder("findAllSlice")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get("org.springframework.data.domain", "Slice"), sourceClassNameDTO))
+                .addParameter(int.class, "page")
+                .addParameter(int.class, "size")
+                .addParameter(String[].class, "sort")
+                .addStatement("$T pageable = sort != null ? $T.of(page, size, $L) : $T.of(page, size)",
+                        pageableClassname, pageRequestClassname, convertedSort(), pageRequestClassname)
+                .addStatement("return repository.findAllBy(pageable).map($T::toDto)", sourceClassNameEntity)
+                .build());
+    }
+
+    private List<MethodSpec> sliceServiceMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!sliceQueries) {
+            return List.of();
+        }
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        return List.of(MethodSpec.methodBuilder("findAllSlice")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get("org.springframework.data.domain", "Slice"), sourceClassNameDTO))
+                .addParameter(int.class, "page")
+                .addParameter(int.class, "size")
+                .addParameter(String[].class, "sort")
+                .addStatement("return persistenceAdapter.findAllSlice(page, size, sort)")
+                .build());
+    }
+
+    private List<MethodSpec> sliceControllerMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!sliceQueries) {
+            return List.of();
+        }
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        ClassName httpStatus = ClassName.get("org.springframework.http", "HttpStatus");
+        ClassName requestParam = ClassName.get("org.springframework.web.bind.annotation", "RequestParam");
+        return List.of(MethodSpec.methodBuilder("findAllSlice")
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "GetMapping"))
+                        .addMember("value", "$S", "/findAll/slice")
+                        .addMember("params", "{$S, $S}", "page", "size")
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "ResponseStatus"))
+                        .addMember("value", "$T.OK", httpStatus)
+                        .build())
+                .addAnnotation(ClassName.get("org.springframework.web.bind.annotation", "ResponseBody"))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(ClassName.get("org.springframework.data.domain", "Slice"), sourceClassNameDTO))
+                .addParameter(ParameterSpec.builder(int.class, "page")
+                        .addAnnotation(AnnotationSpec.builder(requestParam).addMember("value", "$S", "page").build())
+                        .build())
+                .addParameter(ParameterSpec.builder(int.class, "size")
+                        .addAnnotation(AnnotationSpec.builder(requestParam).addMember("value", "$S", "size").build())
+                        .build())
+                .addParameter(ParameterSpec.builder(String[].class, "sort")
+                        .addAnnotation(AnnotationSpec.builder(requestParam)
+                                .addMember("value", "$S", "sort")
+                                .addMember("required", "false")
+                                .build())
+                        .build())
+                .addStatement("return service.findAllSlice(page, size, sort)")
+                .build());
+    }
+
+    private List<MethodSpec> streamingRepositoryMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!streamingExport) {
+            return List.of();
+        }
+        String entityName = sourceClass.getSimpleName() + "Entity";
+        ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase + classMapping.targetPackageSuffix, entityName);
+        ClassName queryHint = ClassName.get("jakarta.persistence", "QueryHint");
+        return List.of(MethodSpec.methodBuilder("streamAll")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.data.jpa.repository", "Query"))
+                        .addMember("value", "$S", "select e from " + entityName + " e")
+                        .build())
+                // Leitura em blocos pelo cursor do driver e sem snapshots para verificação de alterações
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.data.jpa.repository", "QueryHints"))
+                        .addMember("value", "{$L, $L}",
+                                AnnotationSpec.builder(queryHint)
+                                        .addMember("name", "$S", "org.hibernate.fetchSize")
+                                        .addMember("value", "$S", String.valueOf(streamFetchSize))
+                                        .build(),
+                                AnnotationSpec.builder(queryHint)
+                                        .addMember("name", "$S", "org.hibernate.readOnly")
+                                        .addMember("value", "$S", "true")
+                                        .build())
+                        .build())
+                .returns(ParameterizedTypeName.get(ClassName.get("java.util.stream", "Stream"), sourceClassNameEntity))
+                .build());
+    }
+
+    private List<MethodSpec> streamingAdapterMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!streamingExport) {
+            return List.of();
+        }
+        ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Entity");
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        return List.of(MethodSpec.methodBuilder("streamAll")
+                .addJavadoc("Percorre todas as entidades sem mantê-las no contexto de persistência. O stream do repositório\n"
+                        + "exige uma transação aberta durante toda a leitura.\n")
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
+                        .addMember("readOnly", "true")
+                        .build())
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get("java.util.function", "Consumer"), WildcardTypeName.supertypeOf(sourceClassNameDTO)), "action")
+                .beginControlFlow("try ($T<$T> stream = repository.streamAll())", ClassName.get("java.util.stream", "Stream"), sourceClassNameEntity)
+                .addCode("stream.forEach(entity -> {\n$>")
+                .addStatement("action.accept(entity.toDto())")
+                .addStatement("entityManager.detach(entity)")
+                .addCode("$<});\n")
+                .endControlFlow()
+                .build());
+    }
+
+    private List<MethodSpec> streamingServiceMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!streamingExport) {
+            return List.of();
+        }
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        return List.of(MethodSpec.methodBuilder("streamAll")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(ClassName.get("java.util.function", "Consumer"), WildcardTypeName.supertypeOf(sourceClassNameDTO)), "action")
+                .addStatement("persistenceAdapter.streamAll(action)")
+                .build());
+    }
+
+    private List<MethodSpec> streamingControllerMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!streamingExport) {
+            return List.of();
+        }
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        ClassName responseEntity = ClassName.get("org.springframework.http", "ResponseEntity");
+        ClassName streamingResponseBody = ClassName.get("org.springframework.web.servlet.mvc.method.annotation", "StreamingResponseBody");
+        ClassName sequenceWriter = ClassName.get("com.fasterxml.jackson.databind", "SequenceWriter");
+        return List.of(MethodSpec.methodBuilder("export")
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "GetMapping"))
+                        .addMember("value", "$S", "/export")
+                        .addMember("produces", "$S", "application/x-ndjson")
+                        .build())
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(responseEntity, streamingResponseBody))
+                // O corpo é gravado fora da thread da requisição; a transação da leitura é aberta pelo adapter nessa thread
+                .addCode("$T body = output -> {\n", streamingResponseBody)
+                .addCode("$>")
+                .beginControlFlow("try ($T writer = objectMapper.writerFor($T.class).withRootValueSeparator($S).writeValues(output))",
+                        sequenceWriter, sourceClassNameDTO, "\n")
+                .addCode("service.streamAll(dto -> {\n$>")
+                .beginControlFlow("try")
+                .addStatement("writer.write(dto)")
+                .nextControlFlow("catch ($T e)", IOException.class)
+                .addStatement("throw new $T(e)", java.io.UncheckedIOException.class)
+                .endControlFlow()
+                .addCode("$<});\n")
+                .endControlFlow()
+                .addCode("$<};\n")
+                .addStatement("return $T.ok().body(body)", responseEntity)
+                .build());
+    }
+
+    private List<MethodSpec> batchRepositoryMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!batchOperations) {
+            return List.of();
+        }
+        String entityName = sourceClass.getSimpleName() + "Entity";
+        return List.of(MethodSpec.methodBuilder("findExistingIds")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.data.jpa.repository", "Query"))
+                        .addMember("value", "$S", "select e.id from " + entityName + " e where e.id in :ids")
+                        .build())
+                .returns(ParameterizedTypeName.get(List.class, String.class))
+                .addParameter(ParameterSpec.builder(ParameterizedTypeName.get(Collection.class, String.class), "ids")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.data.repository.query", "Param"))
+                                .addMember("value", "$S", "ids")
+                                .build())
+                        .build())
+                .build());
+    }
+
+    private List<MethodSpec> batchAdapterMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!batchOperations) {
+            return List.of();
+        }
+        ClassName sourceClassName = sourceClass.getClassName();
+        ClassName sourceClassNameEntity = ClassName.get(persistenceOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Entity");
+        ClassName transactional = ClassName.get("org.springframework.transaction.annotation", "Transactional");
+        ClassName validationException = ClassName.get("br.com.archbase.validation.exception", "ArchbaseValidationException");
+        ParameterizedTypeName domainList = ParameterizedTypeName.get(ClassName.get(List.class), sourceClassName);
+        ParameterizedTypeName idList = ParameterizedTypeName.get(List.class, String.class);
+
+        List<MethodSpec> methods = new ArrayList<>();
+        for (boolean update : new boolean[]{false, true}) {
+            MethodSpec.Builder saveEntities = MethodSpec.methodBuilder(update ? "updateEntities" : "saveEntities")
+                    .addJavadoc(update
+                            ? "Altera as entidades em blocos de {@code BATCH_SIZE}, em uma única transação. Cada bloco é lido com um\n"
+                            + "único {@code findAllById}, que também verifica a existência dos ids, de modo que o merge do\n"
+                            + "{@code saveAll} encontra as entidades já gerenciadas e não faz um select por entidade.\n"
+                            : "Grava as entidades em blocos de {@code BATCH_SIZE}, em uma única transação. O contexto de\n"
+                            + "persistência é descarregado e limpo a cada bloco para que os inserts sejam agrupados\n"
+                            + "em lotes JDBC e a memória não cresça com o tamanho da lista.\n")
+                    .addAnnotation(transactional)
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(domainList)
+                    .addParameter(domainList, "entities")
+                    .addStatement("$T saved = new $T<>(entities.size())", domainList, ArrayList.class)
+                    .beginControlFlow("for (int from = 0; from < entities.size(); from += BATCH_SIZE)")
+                    .addStatement("$T chunk = entities.subList(from, $T.min(from + BATCH_SIZE, entities.size()))", domainList, Math.class)
+                    .addStatement("$T<$T> persistenceEntities = new $T<>(chunk.size())", List.class, sourceClassNameEntity, ArrayList.class);
+            if (update) {
+                saveEntities.addStatement("$T ids = new $T<>(chunk.size())", idList, ArrayList.class);
+            }
+            saveEntities.beginControlFlow("for ($T entity : chunk)", sourceClassName)
+                    .addStatement("persistenceEntities.add(mapper.toEntity(entity))");
+            if (update) {
+                saveEntities.addStatement("ids.add(entity.getId().toString())");
+            }
+            saveEntities.endControlFlow();
+            if (update) {
+                saveEntities.addStatement("$T<String> missing = new $T<>(ids)", Set.class, LinkedHashSet.class)
+                        .addComment("Torna as entidades do bloco gerenciadas para o merge do saveAll")
+                        .beginControlFlow("for ($T existing : repository.findAllById(ids))", sourceClassNameEntity)
+                        .addStatement("missing.remove(existing.getId().toString())")
+                        .endControlFlow()
+                        .beginControlFlow("if (!missing.isEmpty())")
+                        .addStatement("throw new $T(String.format($S, missing))", validationException, "Entidades %s não encontradas. Não será possível salvá-las.")
+                        .endControlFlow();
+            }
+            methods.add(saveEntities
+                    .addStatement("$T<$T> savedEntities = repository.saveAll(persistenceEntities)", List.class, sourceClassNameEntity)
+                    .addComment("Descarrega antes de mapear para que os objetos de domínio recebam a versão já incrementada")
+                    .addStatement("repository.flush()")
+                    .beginControlFlow("for ($T savedEntity : savedEntities)", sourceClassNameEntity)
+                    .addStatement("saved.add(mapper.toDomain(savedEntity))")
+                    .endControlFlow()
+                    .addStatement("entityManager.clear()")
+                    .endControlFlow()
+                    .addStatement("return saved")
+                    .build());
+        }
+
+        MethodSpec removeEntities = MethodSpec.methodBuilder("removeEntities")
+                .addJavadoc("Remove as entidades com um delete por bloco de ids. Os callbacks e cascatas do JPA não são\n"
+                        + "executados, como em {@code deleteAllByIdInBatch}.\n")
+                .addAnnotation(transactional)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(idList, "ids")
+                .beginControlFlow("for (int from = 0; from < ids.size(); from += BATCH_SIZE)")
+                .addStatement("repository.deleteAllByIdInBatch(ids.subList(from, $T.min(from + BATCH_SIZE, ids.size())))", Math.class)
+                .endControlFlow()
+                .build();
+
+        MethodSpec findExistingIds = MethodSpec.methodBuilder("findExistingIds")
+                .addJavadoc("Ids existentes entre os informados, consultados em blocos de {@code BATCH_SIZE} para que a lista\n"
+                        + "do {@code in} não cresça com o tamanho do lote.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(idList)
+                .addParameter(ParameterizedTypeName.get(Collection.class, String.class), "ids")
+                .addStatement("$T pending = new $T<>(ids)", idList, ArrayList.class)
+                .addStatement("$T existing = new $T<>(pending.size())", idList, ArrayList.class)
+                .beginControlFlow("for (int from = 0; from < pending.size(); from += BATCH_SIZE)")
+                .addStatement("existing.addAll(repository.findExistingIds(pending.subList(from, $T.min(from + BATCH_SIZE, pending.size()))))", Math.class)
+                .endControlFlow()
+                .addStatement("return existing")
+                .build();
+
+        methods.add(removeEntities);
+        methods.add(findExistingIds);
+        return methods;
+    }
+
+    private List<MethodSpec> batchServiceMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!batchOperations) {
+            return List.of();
+        }
+        ClassName sourceClassName = sourceClass.getClassName();
+        ClassName archbaseValidationResult = ClassName.get("br.com.archbase.validation.fluentvalidator.context", "ArchbaseValidationResult");
+        ClassName validationException = ClassName.get("br.com.archbase.validation.exception", "ArchbaseValidationException");
+        ParameterizedTypeName domainList = ParameterizedTypeName.get(ClassName.get(List.class), sourceClassName);
+        ParameterizedTypeName idList = ParameterizedTypeName.get(List.class, String.class);
+
+        List<MethodSpec> methods = new ArrayList<>();
+        for (String[] operation : new String[][]{{"createEntities", "criadoPor", "saveEntities"}, {"updateEntities", "alteradoPor", "updateEntities"}}) {
+            methods.add(MethodSpec.methodBuilder(operation[0])
+                    .addAnnotation(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
+                    .addModifiers(Modifier.PUBLIC)
+                    .returns(domainList)
+                    .addParameter(domainList, "entities")
+                    .addComment("Todas as entidades são validadas antes que qualquer uma seja gravada")
+                    .addStatement("var usuario = securityAdapter.buscarUsuarioLogado()")
+                    .beginControlFlow("for ($T entity : entities)", sourceClassName)
+                    .addStatement("$T validationResult = $L", archbaseValidationResult, timed(sourceClass, "service", "validar", "entity.validar()"))
+                    .beginControlFlow("if (!validationResult.isValid())")
+                    .addStatement("throw new $T(validationResult.getErrors())", validationException)
+                    .endControlFlow()
+                    .addStatement("entity.$L(usuario)", operation[1])
+                    .endControlFlow()
+                    .addStatement("return persistenceAdapter.$L(entities)", operation[2])
+                    .build());
+        }
+        methods.add(MethodSpec.methodBuilder("removeEntities")
+                .addAnnotation(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(idList, "ids")
+                .addStatement("$T<String> missing = new $T<>(ids)", Set.class, LinkedHashSet.class)
+                .beginControlFlow("for (String id : persistenceAdapter.findExistingIds(ids))")
+                .addStatement("missing.remove(id)")
+                .endControlFlow()
+                .beginControlFlow("if (!missing.isEmpty())")
+                .addStatement("throw new $T(String.format($S, missing))", validationException, "Entidades com ids %s não encontradas.")
+                .endControlFlow()
+                .addStatement("persistenceAdapter.removeEntities(ids)")
+                .build());
+        methods.add(MethodSpec.methodBuilder("findExistingIds")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(idList)
+                .addParameter(ParameterizedTypeName.get(Collection.class, String.class), "ids")
+                .addStatement("return persistenceAdapter.findExistingIds(ids)")
+                .build());
+        return methods;
+    }
+
+    private List<MethodSpec> batchControllerMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!batchOperations) {
+            return List.of();
+        }
+        ClassName sourceClassName = sourceClass.getClassName();
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        ClassName archbaseAssert = ClassName.get("br.com.archbase.shared.kernel.utils", "ArchbaseAssert");
+        ClassName validationException = ClassName.get("br.com.archbase.validation.exception", "ArchbaseValidationException");
+        ClassName responseEntity = ClassName.get("org.springframework.http", "ResponseEntity");
+        ClassName requestBody = ClassName.get("org.springframework.web.bind.annotation", "RequestBody");
+        ParameterizedTypeName dtoList = ParameterizedTypeName.get(ClassName.get(List.class), sourceClassNameDTO);
+        ParameterizedTypeName domainList = ParameterizedTypeName.get(ClassName.get(List.class), sourceClassName);
+        ParameterizedTypeName idList = ParameterizedTypeName.get(List.class, String.class);
+        ParameterSpec entities = ParameterSpec.builder(dtoList, "entities").addAnnotation(requestBody).build();
+
+        CodeBlock collectIds = CodeBlock.builder()
+                .addStatement("$T ids = new $T<>(entities.size())", idList, ArrayList.class)
+                .beginControlFlow("for ($T entity : entities)", sourceClassNameDTO)
+                .beginControlFlow("if (entity.getId() != null)")
+                .addStatement("ids.add(entity.getId())")
+                .endControlFlow()
+                .endControlFlow()
+                .build();
+        CodeBlock toDomain = CodeBlock.builder()
+                .addStatement("$T domains = new $T<>(entities.size())", domainList, ArrayList.class)
+                .beginControlFlow("for ($T entity : entities)", sourceClassNameDTO)
+                .addStatement("domains.add(entity.toDomain())")
+                .endControlFlow()
+                .build();
+        CodeBlock fromDomain = CodeBlock.builder()
+                .addStatement("$T result = new $T<>(saved.size())", dtoList, ArrayList.class)
+                .beginControlFlow("for ($T entity : saved)", sourceClassName)
+                .addStatement("result.add($T.fromDomain(entity))", sourceClassNameDTO)
+                .endControlFlow()
+                .addStatement("return $T.ok(result)", responseEntity)
+                .build();
+
+        MethodSpec createEntities = MethodSpec.methodBuilder("createEntities")
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PostMapping"))
+                        .addMember("value", "$S", "/batch")
+                        .build())
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(responseEntity, dtoList))
+                .addParameter(entities)
+                .addStatement("$T.notNull(entities)", archbaseAssert)
+                .addCode(collectIds)
+                .beginControlFlow("if (!ids.isEmpty())")
+                .addStatement("$T existing = service.findExistingIds(ids)", idList)
+                .beginControlFlow("if (!existing.isEmpty())")
+                .addStatement("throw new $T(String.format($S, existing))", validationException, "Já existem Entidades com os ids %s. Não será possível salvá-las.")
+                .endControlFlow()
+                .endControlFlow()
+                .addCode(toDomain)
+                .addStatement("$T saved = service.createEntities(domains)", domainList)
+                .addCode(fromDomain)
+                .build();
+
+        MethodSpec updateEntities = MethodSpec.methodBuilder("updateEntities")
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "PutMapping"))
+                        .addMember("value", "$S", "/batch")
+                        .build())
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(responseEntity, dtoList))
+                .addParameter(entities)
+                .addStatement("$T.notNull(entities)", archbaseAssert)
+                .addCode(collectIds)
+                .beginControlFlow("if (ids.size() != entities.size())")
+                .addStatement("throw new $T($S)", validationException, "Todas as Entidades devem informar o id para serem alteradas.")
+                .endControlFlow()
+                .addCode(toDomain)
+                .addStatement("$T saved = service.updateEntities(domains)", domainList)
+                .addCode(fromDomain)
+                .build();
+
+        MethodSpec removeEntities = MethodSpec.methodBuilder("removeEntities")
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.web.bind.annotation", "DeleteMapping"))
+                        .addMember("value", "$S", "/batch")
+                        .build())
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(responseEntity, ClassName.get(Void.class)))
+                .addParameter(ParameterSpec.builder(idList, "ids").addAnnotation(requestBody).build())
+                .addStatement("$T.notNull(ids)", archbaseAssert)
+                .addStatement("service.removeEntities(ids)")
+                .addStatement("return $T.noContent().build()", responseEntity)
+                .build();
+
+        return List.of(createEntities, updateEntities, removeEntities);
+    }
+
+    private boolean conditionalRequests(EntityModel sourceClass) {
+        if (!conditionalRequests) {
+            return false;
+        }
+        for (EntityFieldModel field : sourceClass.getFields()) {
+            if ("version".equals(field.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CodeBlock entityNotModified(boolean conditional) {
+        if (!conditional) {
+            return CodeBlock.of("");
+        }
+        // Com o ETag igual ao If-None-Match o Spring responde 304 e a entidade nem é carregada
+        return CodeBlock.builder()
+                .addStatement("$T version = service.findVersionById(id)", Long.class)
+                .beginControlFlow("if (version != null && request.checkNotModified(String.valueOf(version)))")
+                .addStatement("return null")
+                .endControlFlow()
+                .build();
+    }
+
+    private CodeBlock pageNotModified(boolean conditional, String sort) {
+        if (!conditional) {
+            return CodeBlock.of("");
+        }
+        return CodeBlock.builder()
+                .beginControlFlow("if (request.checkNotModified(service.findAllVersionTag(page, size, $L)))", sort)
+                .addStatement("return null")
+                .endControlFlow()
+                .build();
+    }
+
+    private List<MethodSpec> conditionalRepositoryMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!conditionalRequests(sourceClass)) {
+            return List.of();
+        }
+        String entityName = sourceClass.getSimpleName() + "Entity";
+        ClassName query = ClassName.get("org.springframework.data.jpa.repository", "Query");
+        return List.of(MethodSpec.methodBuilder("findVersionById")
+                        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                        .addAnnotation(AnnotationSpec.builder(query)
+                                .addMember("value", "$S", "select e.version from " + entityName + " e where e.id = :id")
+                                .build())
+                        .returns(Long.class)
+                        .addParameter(ParameterSpec.builder(String.class, "id")
+                                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.data.repository.query", "Param"))
+                                        .addMember("value", "$S", "id")
+                                        .build())
+                                .build())
+                        .build(),
+                MethodSpec.methodBuilder("findVersions")
+                        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                        .addAnnotation(AnnotationSpec.builder(query)
+                                .addMember("value", "$S", "select e.id, e.version from " + entityName + " e")
+                                .addMember("countQuery", "$S", "select count(e) from " + entityName + " e")
+                                .build())
+                        .returns(ParameterizedTypeName.get(ClassName.get("org.springframework.data.domain", "Page"), ArrayTypeName.of(Object.class)))
+                        .addParameter(ClassName.get("org.springframework.data.domain", "Pageable"), "pageable")
+                        .build());
+    }
+
+    private List<MethodSpec> conditionalAdapterMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!conditionalRequests(sourceClass)) {
+            return List.of();
+        }
+        ClassName pageableClassname = ClassName.get("org.springframework.data.domain", "Pageable");
+        ClassName pageRequestClassname = ClassName.get("org.springframework.data.domain", "PageRequest");
+        ClassName messageDigest = ClassName.get("java.security", "MessageDigest");
+        ClassName charsets = ClassName.get("java.nio.charset", "StandardCharsets");
+        return List.of(MethodSpec.methodBuilder("findVersionById")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(Long.class)
+                        .addParameter(String.class, "id")
+                        .addStatement("return repository.findVersionById(id)")
+                        .build(),
+                MethodSpec.methodBuilder("findAllVersionTag")
+                        .addJavadoc("Resumo das versões da página, lido sem carregar as entidades. Muda quando uma entidade da página\n"
+                                + "é alterada, entra ou sai dela, ou quando o total de registros muda.\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String.class)
+                        .addParameter(int.class, "page")
+                        .addParameter(int.class, "size")
+                        .addParameter(String[].class, "sort")
+                        .addStatement("$T pageable = sort != null ? $T.of(page, size, $L) : $T.of(page, size)",
+                                pageableClassname, pageRequestClassname, convertedSort(), pageRequestClassname)
+                        .addStatement("$T<Object[]> versions = repository.findVersions(pageable)", ClassName.get("org.springframework.data.domain", "Page"))
+                        .addStatement("$T digest", messageDigest)
+                        .beginControlFlow("try")
+                        .addStatement("digest = $T.getInstance($S)", messageDigest, "SHA-256")
+                        .nextControlFlow("catch ($T e)", ClassName.get("java.security", "NoSuchAlgorithmException"))
+                        .addStatement("throw new $T(e)", IllegalStateException.class)
+                        .endControlFlow()
+                        .addStatement("digest.update(Long.toString(versions.getTotalElements()).getBytes($T.UTF_8))", charsets)
+                        .beginControlFlow("for (Object[] row : versions)")
+                        .addStatement("digest.update((\";\" + row[0] + \":\" + row[1]).getBytes($T.UTF_8))", charsets)
+                        .endControlFlow()
+                        .addStatement("return $T.of().formatHex(digest.digest())", ClassName.get("java.util", "HexFormat"))
+                        .build());
+    }
+
+    private List<MethodSpec> conditionalServiceMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!conditionalRequests(sourceClass)) {
+            return List.of();
+        }
+        return List.of(MethodSpec.methodBuilder("findVersionById")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(Long.class)
+                        .addParameter(String.class, "id")
+                        .addStatement("return persistenceAdapter.findVersionById(id)")
+                        .build(),
+                MethodSpec.methodBuilder("findAllVersionTag")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String.class)
+                        .addParameter(int.class, "page")
+                        .addParameter(int.class, "size")
+                        .addParameter(String[].class, "sort")
+                        .addStatement("return persistenceAdapter.findAllVersionTag(page, size, sort)")
+                        .build());
+    }
+
+    /**
+     * Com {@code asyncEndpoints} troca o endpoint bloqueante pela variante que retorna {@code CompletableFuture}, com
+     * as mesmas anotações e parâmetros e o corpo informado.
+     */
+    private MethodSpec asyncEndpoint(MethodSpec blocking, CodeBlock asyncBody) {
+        if (!asyncEndpoints) {
+            return blocking;
+        }
+        return MethodSpec.methodBuilder(blocking.name)
+                .addAnnotations(blocking.annotations)
+                .addModifiers(blocking.modifiers)
+                .returns(ParameterizedTypeName.get(ClassName.get("java.util.concurrent", "CompletableFuture"), blocking.returnType))
+                .addParameters(blocking.parameters)
+                .addCode(asyncBody)
+                .build();
+    }
+
+    private List<MethodSpec> asyncServiceMethods(ClassMapping classMapping, EntityModel sourceClass) {
+        if (!asyncEndpoints) {
+            return List.of();
+        }
+        ClassName sourceClassName = sourceClass.getClassName();
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        ClassName completableFuture = ClassName.get("java.util.concurrent", "CompletableFuture");
+        ClassName validationException = ClassName.get("br.com.archbase.validation.exception", "ArchbaseValidationException");
+        ClassName archbaseValidationResult = ClassName.get("br.com.archbase.validation.fluentvalidator.context", "ArchbaseValidationResult");
+        ClassName page = ClassName.get("org.springframework.data.domain", "Page");
+        ParameterizedTypeName pageFuture = ParameterizedTypeName.get(completableFuture, ParameterizedTypeName.get(page, sourceClassNameDTO));
+        CodeBlock validate = CodeBlock.builder()
+                .addStatement("$T validationResult = $L", archbaseValidationResult, timed(sourceClass, "service", "validar", "entity.validar()"))
+                .beginControlFlow("if (!validationResult.isValid())")
+                .addStatement("throw new $T(validationResult.getErrors())", validationException)
+                .endControlFlow()
+                .build();
+
+        ClassName transactional = ClassName.get("org.springframework.transaction.annotation", "Transactional");
+        // Sem transação na thread da requisição: o trabalho é feito no executor, que abre as suas
+        AnnotationSpec notSupported = AnnotationSpec.builder(transactional)
+                .addMember("propagation", "$T.NOT_SUPPORTED", ClassName.get("org.springframework.transaction.annotation", "Propagation"))
+                .build();
+        List<MethodSpec> methods = new ArrayList<>();
+        // Validação e usuário logado são resolvidos na thread da requisição; a gravação vai para o executor pelo proxy
+        methods.add(MethodSpec.methodBuilder("prepareCreate")
+                .addJavadoc("Valida a entidade e registra o usuário que a criou. Executado na thread da requisição.\n")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(sourceClassName, "entity")
+                .addCode(validate)
+                .addStatement("entity.criadoPor(securityAdapter.buscarUsuarioLogado())")
+                .build());
+        methods.add(MethodSpec.methodBuilder("prepareUpdate")
+                .addJavadoc("Valida a entidade e registra o usuário que a alterou. Executado na thread da requisição.\n")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(sourceClassName, "entity")
+                .addCode(validate)
+                .addStatement("entity.alteradoPor(securityAdapter.buscarUsuarioLogado())")
+                .build());
+        methods.add(MethodSpec.methodBuilder("savePreparedEntity")
+                .addJavadoc("Grava uma entidade já preparada por {@link #prepareCreate}. O {@code id} informado pelo cliente,\n"
+                        + "quando existir, é verificado na mesma transação da gravação.\n")
+                .addAnnotation(transactional)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(sourceClassName)
+                .addParameter(String.class, "id")
+                .addParameter(sourceClassName, "entity")
+                .beginControlFlow("if (id != null && persistenceAdapter.existsEntityById(id))")
+                .addStatement("throw new $T(String.format(\"Já existe uma Entidade com o id %s. Não será possível salvá-la.\", id))", validationException)
+                .endControlFlow()
+                .addStatement("return persistenceAdapter.saveEntity(entity)")
+                .build());
+        methods.add(MethodSpec.methodBuilder("updatePreparedEntity")
+                .addJavadoc("Altera uma entidade já preparada por {@link #prepareUpdate}.\n")
+                .addAnnotation(transactional)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(sourceClassName)
+                .addParameter(sourceClassName, "entity")
+                .addStatement("return persistenceAdapter.updateEntity(entity).orElseThrow(() -> new $T(String.format(\"Entidade %s não encontrado. Não será possível salvá-la.\", entity.getId())))", validationException)
+                .build());
+        methods.add(MethodSpec.methodBuilder("createEntityAsync")
+                .addJavadoc("Cria a entidade no executor dos services. O {@code id} informado pelo cliente, quando existir,\n"
+                        + "é verificado antes da gravação.\n")
+                .addAnnotation(notSupported)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(completableFuture, sourceClassName))
+                .addParameter(String.class, "id")
+                .addParameter(sourceClassName, "entity")
+                .addStatement("prepareCreate(entity)")
+                .addStatement("return $T.supplyAsync(() -> self.savePreparedEntity(id, entity), executor)", completableFuture)
+                .build());
+        methods.add(MethodSpec.methodBuilder("updateEntityAsync")
+                .addAnnotation(notSupported)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(completableFuture, sourceClassName))
+                .addParameter(sourceClassName, "entity")
+                .addStatement("prepareUpdate(entity)")
+                .addStatement("return $T.supplyAsync(() -> self.updatePreparedEntity(entity), executor)", completableFuture)
+                .build());
+        methods.add(MethodSpec.methodBuilder("removeEntityAsync")
+                .addAnnotation(notSupported)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(completableFuture, sourceClassName))
+                .addParameter(String.class, "id")
+                .addStatement("return $T.supplyAsync(() -> self.removeEntity(id), executor)", completableFuture)
+                .build());
+        methods.add(MethodSpec.methodBuilder("getEntityByIdAsync")
+                .addAnnotation(notSupported)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(completableFuture, ParameterizedTypeName.get(ClassName.get(Optional.class), sourceClassName)))
+                .addParameter(String.class, "id")
+                .addStatement("return $T.supplyAsync(() -> self.getEntityById(id), executor)", completableFuture)
+                .build());
+        methods.add(MethodSpec.methodBuilder("findAllAsync")
+                .addAnnotation(notSupported)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(pageFuture)
+                .addParameter(int.class, "page")
+                .addParameter(int.class, "size")
+                .addStatement("return $T.supplyAsync(() -> self.findAll(page, size), executor)", completableFuture)
+                .build());
+        methods.add(MethodSpec.methodBuilder("findAllAsync")
+                .addAnnotation(notSupported)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(pageFuture)
+                .addParameter(int.class, "page")
+                .addParameter(int.class, "size")
+                .addParameter(String[].class, "sort")
+                .addStatement("return $T.supplyAsync(() -> self.findAll(page, size, sort), executor)", completableFuture)
+                .build());
+        methods.add(MethodSpec.methodBuilder("findAllAsync")
+                .addAnnotation(notSupported)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ParameterizedTypeName.get(completableFuture, ParameterizedTypeName.get(ClassName.get(List.class), sourceClassNameDTO)))
+                .addParameter(ParameterizedTypeName.get(List.class, String.class), "ids")
+                .addStatement("return $T.supplyAsync(() -> self.findAll(ids), executor)", completableFuture)
+                .build());
+        methods.add(MethodSpec.methodBuilder("findWithFilterAsync")
+                .addAnnotation(notSupported)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(pageFuture)
+                .addParameter(String.class, "filter")
+                .addParameter(int.class, "page")
+                .addParameter(int.class, "size")
+                .addStatement("return $T.supplyAsync(() -> self.findWithFilter(filter, page, size), executor)", completableFuture)
+                .build());
+        methods.add(MethodSpec.methodBuilder("findWithFilterAsync")
+                .addAnnotation(notSupported)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(pageFuture)
+                .addParameter(String.class, "filter")
+                .addParameter(int.class, "page")
+                .addParameter(int.class, "size")
+                .addParameter(String[].class, "sort")
+                .addStatement("return $T.supplyAsync(() -> self.findWithFilter(filter, page, size, sort), executor)", completableFuture)
+                .build());
+        return methods;
+    }
+
+    public static List<FieldMetadata> getAllFields(EntityMetadata type) {
+        List<FieldMetadata> fields = new ArrayList<>();
+        for (EntityMetadata c = type; c != null; c = c.getSuperclass()) {
+            for (FieldMetadata field : c.getDeclaredFields()) {
+                fields.add(field);
+            }
+        }
+        fields.sort(new Comparator<FieldMetadata>() {
+            @Override
+            public int compare(FieldMetadata o1, FieldMetadata o2) {
+                return o1.getName().compareTo(o2.getName());
+            }
+        });
+        return fields;
+    }
+
+    JavaFile generateDTO(ClassMapping classMapping, EntityModel sourceClass) {
+        String dtoClassName = sourceClass.getSimpleName() + "Dto";
+        boolean direct = dtoMappingContext || "direct".equals(dtoMappingStyle);
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(dtoClassName)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("lombok", "Getter"))
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("lombok", "Builder"))
+                        .build());
+        if (direct) {
+            classBuilder.addAnnotation(ClassName.get("lombok", "NoArgsConstructor"))
+                    .addAnnotation(ClassName.get("lombok", "AllArgsConstructor"));
+        }
+        classBuilder.addAnnotation(AnnotationSpec.builder(ClassName.get("com.fasterxml.jackson.annotation", "JsonIdentityInfo"))
+                        .addMember("generator", "$T.class", ClassName.get("com.fasterxml.jackson.annotation.ObjectIdGenerators", "UUIDGenerator"))
+                        .addMember("property", "$S", "@id")
+                        .build());
+
+        for (EntityFieldModel field : sourceClass.getFields()) {
+            classBuilder.addField(FieldSpec.builder(field.getDtoType(), field.getName(), Modifier.PRIVATE).build());
+        }
+
+        if (direct) {
+            ClassName contextType = dtoMappingContext ? ClassName.get(dtoOutputPackageBase, "DtoMappingContext") : null;
+            if (contextType != null) {
+                classBuilder.addMethod(MethodSpec.methodBuilder("fromDomain")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(ClassName.get("", dtoClassName))
+                        .addParameter(sourceClass.getClassName(), "domain")
+                        .addStatement("return fromDomain(domain, new $T())", contextType)
+                        .build());
+            }
+            classBuilder.addMethod(createDirectFromDomainMethod(sourceClass, dtoClassName, contextType));
+            if (contextType != null) {
+                classBuilder.addMethod(MethodSpec.methodBuilder("toDomain")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(sourceClass.getClassName())
+                        .addStatement("return toDomain(new $T())", contextType)
+                        .build());
+            }
+            classBuilder.addMethod(createDirectToDomainMethod(sourceClass, contextType));
+            return JavaFile.builder(dtoOutputPackageBase + classMapping.targetPackageSuffix, classBuilder.build())
+                    .build();
+        }
+
+        // Adicionar método fromDomain
+        classBuilder.addMethod(createFromDomainMethod(sourceClass, dtoClassName));
+
+        // Adicionar método toDomain
+        classBuilder.addMethod(createToDomainMethod(sourceClass, dtoClassName));
+
+
+        TypeSpec dtoClass = classBuilder.build();
+
+        return JavaFile.builder(dtoOutputPackageBase + classMapping.targetPackageSuffix, dtoClass)
+                .addStaticImport(Collectors.class, "toSet")
+                .build();
+    }
+
+    private MethodSpec createFromDomainMethod(EntityModel domainClass, String dtoClassName) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("fromDomain")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ClassName.get("", dtoClassName))
+                .addParameter(domainClass.getClassName(), "domain")
+                .beginControlFlow("if (domain == null)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addCode("return $T.builder()",ClassName.get("", dtoClassName));
+
+        for (EntityFieldModel field : domainClass.getFields()) {
+            String fieldName = field.getName();
+            String accessor = field.getAccessorSuffix();
+
+            switch (field.getKind()) {
+                case COLLECTION:
+                    // Para coleções de tipos complexos
+                    methodBuilder.addCode("\n\t.$L(domain.get$L() != null ? domain.get$L().stream().map($T::fromDomain).collect(toSet()) : null)",
+                            fieldName, accessor, accessor, field.getAssociationDto());
+                    break;
+                case ASSOCIATION:
+                    // Para tipos complexos únicos
+                    methodBuilder.addCode("\n\t.$L(domain.get$L() != null ? $T.fromDomain(domain.get$L()) : null)",
+                            fieldName, accessor, field.getAssociationDto(), accessor);
+                    break;
+                case IDENTIFIER:
+                    methodBuilder.addCode("\n\t.$L(domain.get$L().toString())", fieldName, accessor);
+                    break;
+                default:
+                    // Tratamento para tipos não complexos
+                    methodBuilder.addCode("\n\t.$L(domain.get$L())", fieldName, accessor);
+            }
+        }
+
+        methodBuilder.addCode("\n.build();\n");
+        return methodBuilder.build();
+    }
+
+    private MethodSpec createToDomainMethod(EntityModel domainClass, String dtoClassName) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("toDomain")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(domainClass.getClassName())
+                .addCode("return $T.builder()",domainClass.getClassName());
+
+        for (EntityFieldModel field : domainClass.getFields()) {
+            String fieldName = field.getName();
+
+            switch (field.getKind()) {
+                case COLLECTION:
+                    // Para coleções de tipos complexos
+                    methodBuilder.addCode("\n\t.$L(this.$L != null ? this.$L.stream().map($T::toDomain).collect(toSet()) : new $T<>())",
+                            fieldName, fieldName, fieldName, field.getAssociationDto(), ClassName.get(HashSet.class));
+                    break;
+                case ASSOCIATION:
+                    // Para tipos complexos únicos
+                    methodBuilder.addCode("\n\t.$L(this.$L != null ? this.$L.toDomain() : null)",
+                            fieldName, fieldName, fieldName);
+                    break;
+                default:
+                    // Tratamento para tipos não complexos
+                    methodBuilder.addCode("\n\t.$L(this.$L)", fieldName, fieldName);
+            }
+        }
+
+        methodBuilder.addCode("\n.build();\n");
+        return methodBuilder.build();
+    }
+
+    /**
+     * Versão de {@code fromDomain} sem builder nem streams: o DTO é criado pelo construtor e os campos atribuídos
+     * diretamente. Coleções vazias recebem a coleção vazia compartilhada quando o tipo declarado permite.
+     *
+     * Com {@code contextType} o DTO é registrado no contexto antes de seus campos serem mapeados, de modo que
+     * referências repetidas e ciclos devolvam a mesma instância.
+     */
+    private MethodSpec createDirectFromDomainMethod(EntityModel domainClass, String dtoClassName, ClassName contextType) {
+        ClassName dtoType = ClassName.get("", dtoClassName);
+        NameAllocator names = localNames(domainClass);
+        String domain = names.newName("domain");
+        String context = contextType != null ? names.newName("context") : null;
+        String contextArgument = context != null ? ", " + context : "";
+        String dto = names.newName("dto");
+        String element = names.newName("element");
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("fromDomain")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(dtoType)
+                .addParameter(domainClass.getClassName(), domain);
+        if (contextType != null) {
+            methodBuilder.addParameter(contextType, context);
+        }
+        methodBuilder.beginControlFlow("if ($L == null)", domain)
+                .addStatement("return null")
+                .endControlFlow();
+        if (contextType != null) {
+            String existing = names.newName("existing");
+            methodBuilder.addStatement("$T $L = $L.dtoOf($L)", dtoType, existing, context, domain)
+                    .beginControlFlow("if ($L != null)", existing)
+                    .addStatement("return $L", existing)
+                    .endControlFlow();
+        }
+        methodBuilder.addStatement("$T $L = new $T()", dtoType, dto, dtoType);
+        if (contextType != null) {
+            methodBuilder.addStatement("$L.register($L, $L)", context, domain, dto);
+        }
+
+        for (EntityFieldModel field : domainClass.getFields()) {
+            String fieldName = field.getName();
+            String accessor = field.getAccessorSuffix();
+
+            switch (field.getKind()) {
+                case COLLECTION:
+                    String source = names.newName(fieldName + "Source");
+                    String target = names.newName(fieldName + "Target");
+                    methodBuilder.addStatement("$T $L = $L.get$L()",
+                                    ParameterizedTypeName.get(field.getType().getClassName(), field.getElementType().getClassName()), source, domain, accessor)
+                            .beginControlFlow("if ($L != null && $L.isEmpty())", source, source)
+                            .addStatement("$L.$L = $L", dto, fieldName, emptyDtoCollection(field.getType()))
+                            .nextControlFlow("else if ($L != null)", source)
+                            .addStatement("$T $L = $L", field.getDtoType(), target, newDtoCollection(field.getType(), source + ".size()"))
+                            .beginControlFlow("for ($T $L : $L)", field.getElementType().getClassName(), element, source)
+                            .addStatement("$L.add($T.fromDomain($L$L))", target, field.getAssociationDto(), element, contextArgument)
+                            .endControlFlow()
+                            .addStatement("$L.$L = $L", dto, fieldName, target)
+                            .endControlFlow();
+                    break;
+                case ASSOCIATION:
+                    methodBuilder.addStatement("$L.$L = $T.fromDomain($L.get$L()$L)", dto, fieldName, field.getAssociationDto(), domain, accessor, contextArgument);
+                    break;
+                case IDENTIFIER:
+                    methodBuilder.addStatement("$L.$L = $L.get$L().toString()", dto, fieldName, domain, accessor);
+                    break;
+                default:
+                    methodBuilder.addStatement("$L.$L = $L.get$L()", dto, fieldName, domain, accessor);
+            }
+        }
+
+        methodBuilder.addStatement("return $L", dto);
+        return methodBuilder.build();
+    }
+
+    /**
+     * Versão de {@code toDomain} sem streams: as coleções da entidade são criadas com o tamanho final e preenchidas
+     * em laço. A entidade continua sendo montada pelo seu builder.
+     *
+     * Com {@code contextType} entidades já mapeadas são reutilizadas. Como a entidade só existe depois do
+     * {@code build()}, uma referência de volta a um DTO ainda em mapeamento interrompe o ciclo e é preenchida pelo
+     * contexto quando aquele DTO termina de ser mapeado, apontando para a mesma instância.
+     */
+    private MethodSpec createDirectToDomainMethod(EntityModel domainClass, ClassName contextType) {
+        NameAllocator names = localNames(domainClass);
+        String context = contextType != null ? names.newName("context") : null;
+        String element = names.newName("element");
+        String mapped = names.newName("mapped");
+        String value = names.newName("value");
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("toDomain")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(domainClass.getClassName());
+        if (contextType != null) {
+            String existing = names.newName("existing");
+            methodBuilder.addParameter(contextType, context)
+                    .addStatement("$T $L = $L.domainOf(this)", domainClass.getClassName(), existing, context)
+                    .beginControlFlow("if ($L != null || !$L.enter(this))", existing, context)
+                    .addStatement("return $L", existing)
+                    .endControlFlow();
+        }
+
+        Map<EntityFieldModel, String> targets = new HashMap<>();
+        for (EntityFieldModel field : domainClass.getFields()) {
+            if (field.getKind() != EntityFieldModel.Kind.COLLECTION) {
+                continue;
+            }
+            String fieldName = field.getName();
+            String target = names.newName(fieldName + "Target");
+            targets.put(field, target);
+            methodBuilder.addStatement("$T $L", ParameterizedTypeName.get(field.getType().getClassName(), field.getElementType().getClassName()), target)
+                    .beginControlFlow("if (this.$L == null || this.$L.isEmpty())", fieldName, fieldName)
+                    .addStatement("$L = $L", target, newCollection(field.getType(), null))
+                    .nextControlFlow("else")
+                    .addStatement("$L = $L", target, newCollection(field.getType(), "this." + fieldName + ".size()"))
+                    .beginControlFlow("for ($T $L : this.$L)", field.getAssociationDto(), element, fieldName);
+            if (contextType != null) {
+                methodBuilder.addStatement("$T $L = $L.toDomain($L)", field.getElementType().getClassName(), mapped, element, context)
+                        .beginControlFlow("if ($L != null)", mapped)
+                        .addStatement("$L.add($L)", target, mapped)
+                        .nextControlFlow("else")
+                        .addStatement("$L.whenMapped($L, $L -> $L.add(($T) $L))", context, element, value, target,
+                                field.getElementType().getClassName(), value)
+                        .endControlFlow();
+            } else {
+                methodBuilder.addStatement("$L.add($L.toDomain())", target, element);
+            }
+            methodBuilder.endControlFlow()
+                    .endControlFlow();
+        }
+
+        String domain = contextType != null ? names.newName("domain") : null;
+        if (contextType != null) {
+            methodBuilder.addCode("$T $L = $T.builder()", domainClass.getClassName(), domain, domainClass.getClassName());
+        } else {
+            methodBuilder.addCode("return $T.builder()", domainClass.getClassName());
+        }
+        for (EntityFieldModel field : domainClass.getFields()) {
+            String fieldName = field.getName();
+
+            switch (field.getKind()) {
+                case COLLECTION:
+                    methodBuilder.addCode("\n\t.$L($L)", fieldName, targets.get(field));
+                    break;
+                case ASSOCIATION:
+                    methodBuilder.addCode("\n\t.$L(this.$L != null ? this.$L.toDomain($L) : null)",
+                            fieldName, fieldName, fieldName, context != null ? context : "");
+                    break;
+                default:
+                    methodBuilder.addCode("\n\t.$L(this.$L)", fieldName, fieldName);
+            }
+        }
+
+        methodBuilder.addCode("\n.build();\n");
+        if (contextType != null) {
+            for (EntityFieldModel field : domainClass.getFields()) {
+                if (field.getKind() == EntityFieldModel.Kind.ASSOCIATION) {
+                    methodBuilder.beginControlFlow("if (this.$L != null && $L.inProgress(this.$L))", field.getName(), context, field.getName())
+                            .addStatement("$L.whenMapped(this.$L, $L -> $T.assign($L, $S, $L))", context, field.getName(), value,
+                                    contextType, domain, field.getName(), value)
+                            .endControlFlow();
+                }
+            }
+            methodBuilder.addStatement("$L.registerDomain(this, $L)", context, domain)
+                    .addStatement("return $L", domain);
+        }
+        return methodBuilder.build();
+    }
+
+    /**
+     * Contexto de mapeamento compartilhado pelos DTOs gerados com {@code dtoMappingContext}.
+     */
+    JavaFile generateDtoMappingContext() {
+        TypeVariableName t = TypeVariableName.get("T");
+        ParameterizedTypeName identityMap = ParameterizedTypeName.get(IdentityHashMap.class, Object.class, Object.class);
+        AnnotationSpec unchecked = AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build();
+        ParameterizedTypeName consumer = ParameterizedTypeName.get(ClassName.get(java.util.function.Consumer.class), ClassName.get(Object.class));
+        ParameterizedTypeName classType = ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class));
+        ClassName fieldType = ClassName.get(java.lang.reflect.Field.class);
+        ParameterizedTypeName fieldMap = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), fieldType);
+        ParameterizedTypeName fieldCache = ParameterizedTypeName.get(ClassName.get(ClassValue.class), fieldMap);
+
+        TypeSpec contextClass = TypeSpec.classBuilder("DtoMappingContext")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("Mapa de identidade usado durante o mapeamento entre entidades e DTOs.\n\n"
+                        + "Uma instância pode ser reutilizada durante uma requisição: cada objeto é mapeado uma única vez\n"
+                        + "e ciclos entre associações são interrompidos. Não é thread-safe.\n")
+                .addField(FieldSpec.builder(Object.class, "IN_PROGRESS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("new $T()", Object.class)
+                        .build())
+                .addField(FieldSpec.builder(fieldCache, "FIELDS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$L", TypeSpec.anonymousClassBuilder("")
+                                .superclass(fieldCache)
+                                .addMethod(MethodSpec.methodBuilder("computeValue")
+                                        .addAnnotation(Override.class)
+                                        .addModifiers(Modifier.PROTECTED)
+                                        .returns(fieldMap)
+                                        .addParameter(classType, "type")
+                                        .addStatement("return new $T<>()", ConcurrentHashMap.class)
+                                        .build())
+                                .build())
+                        .build())
+                .addField(identityMap, "dtos", Modifier.PRIVATE)
+                .addField(identityMap, "domains", Modifier.PRIVATE)
+                .addField(ParameterizedTypeName.get(ClassName.get(IdentityHashMap.class), ClassName.get(Object.class),
+                        ParameterizedTypeName.get(ClassName.get(List.class), consumer)), "pending", Modifier.PRIVATE)
+                .addMethod(MethodSpec.methodBuilder("dtoOf")
+                        .addAnnotation(unchecked)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addTypeVariable(t)
+                        .returns(t)
+                        .addParameter(Object.class, "domain")
+                        .addStatement("return dtos == null ? null : ($T) dtos.get(domain)", t)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("register")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(Object.class, "domain")
+                        .addParameter(Object.class, "dto")
+                        .beginControlFlow("if (dtos == null)")
+                        .addStatement("dtos = new $T<>()", IdentityHashMap.class)
+                        .endControlFlow()
+                        .addStatement("dtos.put(domain, dto)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("domainOf")
+                        .addAnnotation(unchecked)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addTypeVariable(t)
+                        .returns(t)
+                        .addParameter(Object.class, "dto")
+                        .addStatement("$T domain = domains == null ? null : domains.get(dto)", Object.class)
+                        .addStatement("return domain == IN_PROGRESS ? null : ($T) domain", t)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("enter")
+                        .addJavadoc("Marca o DTO como em mapeamento; retorna {@code false} se ele já estiver sendo mapeado (ciclo).\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addParameter(Object.class, "dto")
+                        .beginControlFlow("if (domains == null)")
+                        .addStatement("domains = new $T<>()", IdentityHashMap.class)
+                        .endControlFlow()
+                        .addStatement("return domains.putIfAbsent(dto, IN_PROGRESS) == null")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("inProgress")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addParameter(Object.class, "dto")
+                        .addStatement("return domains != null && domains.get(dto) == IN_PROGRESS")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("whenMapped")
+                        .addJavadoc("Executa {@code action} com a entidade do DTO em mapeamento assim que ela for registrada.\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(Object.class, "dto")
+                        .addParameter(consumer, "action")
+                        .beginControlFlow("if (pending == null)")
+                        .addStatement("pending = new $T<>()", IdentityHashMap.class)
+                        .endControlFlow()
+                        .addStatement("pending.computeIfAbsent(dto, key -> new $T<>()).add(action)", ArrayList.class)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("registerDomain")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(Object.class, "dto")
+                        .addParameter(Object.class, "domain")
+                        .addStatement("domains.put(dto, domain)")
+                        .addStatement("$T actions = pending == null ? null : pending.remove(dto)", ParameterizedTypeName.get(ClassName.get(List.class), consumer))
+                        .beginControlFlow("if (actions != null)")
+                        .addStatement("actions.forEach(action -> action.accept(domain))")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("assign")
+                        .addJavadoc("Atribui uma referência de volta a uma entidade já construída pelo builder, que não expõe setters.\n"
+                                + "O campo é localizado e liberado uma única vez por classe e nome.\n")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(Object.class, "target")
+                        .addParameter(String.class, "fieldName")
+                        .addParameter(Object.class, "value")
+                        .addStatement("$T type = target.getClass()", classType)
+                        .addStatement("$T field = FIELDS.get(type).computeIfAbsent(fieldName, name -> findField(type, name))", fieldType)
+                        .beginControlFlow("try")
+                        .addStatement("field.set(target, value)")
+                        .nextControlFlow("catch ($T e)", IllegalAccessException.class)
+                        .addStatement("throw new $T(e)", IllegalStateException.class)
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("findField")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(fieldType)
+                        .addParameter(classType, "type")
+                        .addParameter(String.class, "fieldName")
+                        .beginControlFlow("for ($T current = type; current != null; current = current.getSuperclass())", classType)
+                        .beginControlFlow("try")
+                        .addStatement("$T field = current.getDeclaredField(fieldName)", fieldType)
+                        .addStatement("field.setAccessible(true)")
+                        .addStatement("return field")
+                        .nextControlFlow("catch ($T e)", NoSuchFieldException.class)
+                        .addComment("Procura na superclasse")
+                        .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("throw new $T(\"Campo \" + fieldName + \" não encontrado em \" + type.getName())", IllegalStateException.class)
+                        .build())
+                .build();
+
+        return JavaFile.builder(dtoOutputPackageBase, contextClass)
+                .build();
+    }
+
+    /**
+     * Benchmark JMH dos mapeamentos de uma entidade, gravado em {@code src/test/java} no pacote do DTO para as
+     * entidades com {@code generateBenchmark} no {@code ClassMapping}. O estado é um DTO sintético preenchido com
+     * {@code elements} elementos em cada coleção; as associações recebem os campos simples da entidade associada.
+     */
+    JavaFile generateMappingBenchmark(ClassMapping classMapping, EntityModel sourceClass) throws ClassNotFoundException, IOException {
+        String packageName = dtoOutputPackageBase + classMapping.targetPackageSuffix;
+        ClassName sourceClassName = sourceClass.getClassName();
+        ClassName sourceClassNameDTO = ClassName.get(packageName, sourceClass.getSimpleName() + "Dto");
+        ClassName persistenceEntity = persistenceClassName(sourceClass.getMetadata().getType());
+        boolean persistence = classMapping.generateMapper && classMapping.generateAdapter;
+        String jmh = "org.openjdk.jmh.annotations";
+
+        NameAllocator names = localNames(sourceClass);
+        String elements = names.newName("elements");
+        String index = names.newName("index");
+        MethodSpec.Builder sample = MethodSpec.methodBuilder("sample")
+                .addJavadoc("DTO preenchido com {@code $L} elementos em cada coleção.\n", elements)
+                .addModifiers(Modifier.STATIC)
+                .returns(sourceClassNameDTO)
+                .addParameter(int.class, elements);
+        CodeBlock.Builder builder = CodeBlock.builder().add("return $T.builder()", sourceClassNameDTO);
+        for (EntityFieldModel field : sourceClass.getFields()) {
+            CodeBlock element;
+            if (field.getKind() == EntityFieldModel.Kind.COLLECTION) {
+                element = sampleAssociation(field);
+            } else if (field.getKind() == EntityFieldModel.Kind.VALUE && field.getType().isCollection()) {
+                element = field.getType().getTypeArguments().isEmpty() ? null : sampleElement(field.getType().getTypeArguments().get(0), field.getName(), index);
+            } else {
+                CodeBlock value = field.getKind() == EntityFieldModel.Kind.ASSOCIATION ? sampleAssociation(field) : sampleValue(field);
+                if (value != null) {
+                    builder.add("\n\t.$L($L)", field.getName(), value);
+                }
+                continue;
+            }
+            if (element == null) {
+                continue;
+            }
+            String collection = names.get(field);
+            CodeBlock newCollection = field.getKind() == EntityFieldModel.Kind.COLLECTION
+                    ? newDtoCollection(field.getType(), elements) : newCollection(field.getType(), elements);
+            sample.addStatement("$T $L = $L", field.getDtoType(), collection, newCollection)
+                    .beginControlFlow("for (int $L = 0; $L < $L; $L++)", index, index, elements, index)
+                    .addStatement("$L.add($L)", collection, element)
+                    .endControlFlow();
+            builder.add("\n\t.$L($L)", field.getName(), collection);
+        }
+        sample.addCode(builder.add("\n.build();\n").build());
+
+        MethodSpec.Builder setUp = MethodSpec.methodBuilder("setUp")
+                .addAnnotation(ClassName.get(jmh, "Setup"))
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("dto = sample(elements)")
+                .addStatement("domain = dto.toDomain()");
+        if (persistence) {
+            setUp.addStatement("entity = $T.fromDomain(domain)", persistenceEntity);
+        }
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(sourceClass.getSimpleName() + "MappingBenchmark")
+                .addJavadoc("Mede os mapeamentos de {@link $T} entre domínio, DTO e entidade de persistência.\n", sourceClassName)
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(AnnotationSpec.builder(ClassName.get(jmh, "State"))
+                        .addMember("value", "$T.Benchmark", ClassName.get(jmh, "Scope"))
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get(jmh, "BenchmarkMode"))
+                        .addMember("value", "$T.AverageTime", ClassName.get(jmh, "Mode"))
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get(jmh, "OutputTimeUnit"))
+                        .addMember("value", "$T.MICROSECONDS", ClassName.get("java.util.concurrent", "TimeUnit"))
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get(jmh, "Fork"))
+                        .addMember("value", "1")
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get(jmh, "Warmup"))
+                        .addMember("iterations", "3")
+                        .addMember("time", "1")
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get(jmh, "Measurement"))
+                        .addMember("iterations", "5")
+                        .addMember("time", "1")
+                        .build())
+                .addField(FieldSpec.builder(int.class, "elements", Modifier.PUBLIC)
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get(jmh, "Param"))
+                                .addMember("value", "{$S, $S, $S}", "1", "10", "100")
+                                .build())
+                        .build())
+                .addField(sourceClassNameDTO, "dto", Modifier.PRIVATE)
+                .addField(sourceClassName, "domain", Modifier.PRIVATE)
+                .addFields(persistence ? List.of(FieldSpec.builder(persistenceEntity, "entity", Modifier.PRIVATE).build()) : List.of())
+                .addMethod(setUp.build())
+                .addMethod(benchmark("fromDomain", sourceClassNameDTO, CodeBlock.of("$T.fromDomain(domain)", sourceClassNameDTO)))
+                .addMethod(benchmark("toDomain", sourceClassName, CodeBlock.of("dto.toDomain()")));
+        if (persistence) {
+            classBuilder.addMethod(benchmark("toEntity", persistenceEntity, CodeBlock.of("$T.fromDomain(domain)", persistenceEntity)))
+                    .addMethod(benchmark("entityToDomain", sourceClassName, CodeBlock.of("entity.toDomain()")))
+                    .addMethod(benchmark("toDto", sourceClassNameDTO, CodeBlock.of("entity.toDto()")));
+        }
+        classBuilder.addMethod(sample.build());
+
+        return JavaFile.builder(packageName, classBuilder.build())
+                .build();
+    }
+
+    private MethodSpec benchmark(String name, TypeName returnType, CodeBlock expression) {
+        return MethodSpec.methodBuilder(name)
+                .addAnnotation(ClassName.get("org.openjdk.jmh.annotations", "Benchmark"))
+                .addModifiers(Modifier.PUBLIC)
+                .returns(returnType)
+                .addStatement("return $L", expression)
+                .build();
+    }
+
+    /**
+     * DTO da entidade associada preenchido com os seus campos simples; as associações dela ficam nulas.
+     */
+    private CodeBlock sampleAssociation(EntityFieldModel field) throws ClassNotFoundException, IOException {
+        EntityModel associated = entityModel(metadataReader.read(field.getElementType().getQualifiedName()));
+        CodeBlock.Builder builder = CodeBlock.builder().add("$T.builder()", field.getAssociationDto());
+        for (EntityFieldModel associatedField : associated.getFields()) {
+            CodeBlock value = associatedField.isAssociation() ? null : sampleValue(associatedField);
+            if (value != null) {
+                builder.add(".$L($L)", associatedField.getName(), value);
+            }
+        }
+        return builder.add(".build()").build();
+    }
+
+    private CodeBlock sampleValue(EntityFieldModel field) {
+        switch (field.getKind()) {
+            case IDENTIFIER:
+                return CodeBlock.of("$T.randomUUID().toString()", UUID.class);
+            case BINARY:
+                return CodeBlock.of("new byte[1024]");
+            case VALUE:
+                return field.getType().isCollection() ? null : sampleValue(field.getType(), field.getName());
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Valor de exemplo para os tipos simples mais comuns; {@code null} para os demais, que ficam sem valor no DTO.
+     */
+    private CodeBlock sampleValue(TypeMetadata type, String name) {
+        if (type.isPrimitive()) {
+            switch (type.getSimpleName()) {
+                case "boolean":
+                    return CodeBlock.of("true");
+                case "char":
+                    return CodeBlock.of("'a'");
+                case "byte":
+                    return CodeBlock.of("(byte) 1");
+                case "short":
+                    return CodeBlock.of("(short) 1");
+                case "long":
+                    return CodeBlock.of("1L");
+                case "float":
+                    return CodeBlock.of("1.5f");
+                case "double":
+                    return CodeBlock.of("1.5d");
+                default:
+                    return CodeBlock.of("1");
+            }
+        }
+        if (type.isEnum()) {
+            return CodeBlock.of("$T.values()[0]", type.getClassName());
+        } else if (type.is(String.class)) {
+            return CodeBlock.of("$S", name);
+        } else if (type.is(Boolean.class)) {
+            return CodeBlock.of("$T.TRUE", Boolean.class);
+        } else if (type.is(Character.class)) {
+            return CodeBlock.of("'a'");
+        } else if (type.is(Byte.class)) {
+            return CodeBlock.of("(byte) 1");
+        } else if (type.is(Short.class)) {
+            return CodeBlock.of("(short) 1");
+        } else if (type.is(Integer.class)) {
+            return CodeBlock.of("1");
+        } else if (type.is(Long.class)) {
+            return CodeBlock.of("1L");
+        } else if (type.is(Float.class)) {
+            return CodeBlock.of("1.5f");
+        } else if (type.is(Double.class)) {
+            return CodeBlock.of("1.5d");
+        } else if (type.is(BigDecimal.class)) {
+            return CodeBlock.of("new $T($S)", BigDecimal.class, "1234.56");
+        } else if (type.is(BigInteger.class)) {
+            return CodeBlock.of("$T.valueOf(1234)", BigInteger.class);
+        } else if (type.is(UUID.class)) {
+            return CodeBlock.of("$T.randomUUID()", UUID.class);
+        } else if (type.is(Date.class)) {
+            return CodeBlock.of("new $T()", Date.class);
+        } else if (type.is(LocalDate.class) || type.is(LocalDateTime.class) || type.is(java.time.LocalTime.class)
+                || type.is(java.time.Instant.class) || type.is(java.time.OffsetDateTime.class) || type.is(java.time.ZonedDateTime.class)) {
+            return CodeBlock.of("$T.now()", type.getClassName());
+        }
+        return null;
+    }
+
+    /**
+     * Elemento de exemplo de uma coleção de valores, distinto a cada {@code index} para os tipos numéricos e texto.
+     */
+    private CodeBlock sampleElement(TypeMetadata elementType, String name, String index) {
+        if (elementType.is(String.class)) {
+            return CodeBlock.of("$S + $L", name, index);
+        } else if (elementType.is(Integer.class)) {
+            return CodeBlock.of("$L", index);
+        } else if (elementType.is(Long.class)) {
+            return CodeBlock.of("(long) $L", index);
+        }
+        return sampleValue(elementType, name);
+    }
+
+    /**
+     * Adapter com cache de leitura, gerado para as entidades com {@code cache} no {@code ClassMapping}. Estende o
+     * adapter gerado e tem prioridade na injeção; as leituras por id passam pelo cache e as gravações invalidam
+     * a entrada alterada ao término da transação.
+     */
+    JavaFile generateCachingAdapter(ClassMapping classMapping, EntityModel sourceClass) {
+        String packageName = adapterOutputPackageBase + classMapping.targetPackageSuffix;
+        ClassName sourceClassName = sourceClass.getClassName();
+        ClassName sourceClassNameDTO = ClassName.get(dtoOutputPackageBase + classMapping.targetPackageSuffix, sourceClass.getSimpleName() + "Dto");
+        ClassName adapterClassName = ClassName.get(packageName, sourceClass.getSimpleName() + "PersistenceAdapter");
+        ParameterizedTypeName cacheType = ParameterizedTypeName.get(ClassName.get(adapterOutputPackageBase, "ReadThroughCache"),
+                ClassName.get(String.class), sourceClassNameDTO);
+        ParameterizedTypeName domainList = ParameterizedTypeName.get(ClassName.get(List.class), sourceClassName);
+        ParameterizedTypeName optionalDomain = ParameterizedTypeName.get(ClassName.get(Optional.class), sourceClassName);
+        ClassName transactional = ClassName.get("org.springframework.transaction.annotation", "Transactional");
+
+        TypeSpec.Builder cachingClass = TypeSpec.classBuilder(sourceClass.getSimpleName() + "CachingPersistenceAdapter")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(ClassName.get("org.springframework.stereotype", "Component"))
+                .addAnnotation(ClassName.get("org.springframework.context.annotation", "Primary"))
+                .superclass(adapterClassName)
+                .addJavadoc("Cache de leitura por id de {@link $T}.\n\n"
+                        + "Os DTOs lidos são mantidos por até $L segundos, no máximo $L entradas. {@code findById} devolve o\n"
+                        + "próprio DTO em cache, que é compartilhado e deve ser tratado como somente leitura; {@code getEntityById}\n"
+                        + "devolve uma nova instância de domínio, que pode ser alterada. Associações alteradas por outras entidades\n"
+                        + "só são refletidas após a expiração da entrada.\n",
+                        adapterClassName, classMapping.cacheTtlSeconds, classMapping.cacheMaxSize)
+                .addField(FieldSpec.builder(cacheType, "cache", Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("new $T<>($L, $T.ofSeconds($L))", ClassName.get(adapterOutputPackageBase, "ReadThroughCache"),
+                                classMapping.cacheMaxSize, Duration.class, classMapping.cacheTtlSeconds)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("findById")
+                        .addJavadoc("Retorna o DTO em cache, sem cópia. Somente leitura: alterá-lo altera o que os próximos\n"
+                                + "chamadores recebem.\n")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(sourceClassNameDTO)
+                        .addParameter(String.class, "id")
+                        .addStatement("return cache.get(id, super::findById)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getEntityById")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(optionalDomain)
+                        .addParameter(String.class, "id")
+                        .addStatement("return $T.ofNullable(cache.get(id, super::findById)).map($T::toDomain)", Optional.class, sourceClassNameDTO)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("saveEntity")
+                        .addAnnotation(Override.class)
+                        .addAnnotation(transactional)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(sourceClassName)
+                        .addParameter(sourceClassName, "entity")
+                        .addStatement("$T savedEntity = super.saveEntity(entity)", sourceClassName)
+                        .addStatement("cache.invalidateAfterCommit(savedEntity.getId().toString())")
+                        .addStatement("return savedEntity")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("removeEntity")
+                        .addAnnotation(Override.class)
+                        .addAnnotation(transactional)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(sourceClassName)
+                        .addParameter(sourceClassName, "entity")
+                        .addStatement("cache.invalidateAfterCommit(entity.getId().toString())")
+                        .addStatement("return super.removeEntity(entity)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("updateEntity")
+                        .addAnnotation(Override.class)
+                        .addAnnotation(transactional)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(optionalDomain)
+                        .addParameter(sourceClassName, "entity")
+                        .addStatement("cache.invalidateAfterCommit(entity.getId().toString())")
+                        .addStatement("return super.updateEntity(entity)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("removeEntityById")
+                        .addAnnotation(Override.class)
+                        .addAnnotation(transactional)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(optionalDomain)
+                        .addParameter(String.class, "id")
+                        .addStatement("cache.invalidateAfterCommit(id)")
+                        .addStatement("return super.removeEntityById(id)")
+                        .build());
+        if (batchOperations) {
+            for (String method : new String[]{"saveEntities", "updateEntities"}) {
+                cachingClass.addMethod(MethodSpec.methodBuilder(method)
+                        .addAnnotation(Override.class)
+                        .addAnnotation(transactional)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(domainList)
+                        .addParameter(domainList, "entities")
+                        .addStatement("$T saved = super.$L(entities)", domainList, method)
+                        .beginControlFlow("for ($T entity : saved)", sourceClassName)
+                        .addStatement("cache.invalidateAfterCommit(entity.getId().toString())")
+                        .endControlFlow()
+                        .addStatement("return saved")
+                        .build());
+            }
+            cachingClass.addMethod(MethodSpec.methodBuilder("removeEntities")
+                    .addAnnotation(Override.class)
+                    .addAnnotation(transactional)
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(ParameterizedTypeName.get(List.class, String.class), "ids")
+                    .beginControlFlow("for (String id : ids)")
+                    .addStatement("cache.invalidateAfterCommit(id)")
+                    .endControlFlow()
+                    .addStatement("super.removeEntities(ids)")
+                    .build());
+        }
+        cachingClass.addMethod(MethodSpec.methodBuilder("getCache")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(cacheType)
+                .addStatement("return cache")
+                .build());
+
+        return JavaFile.builder(packageName, cachingClass.build())
+                .build();
+    }
+
+    /**
+     * Fachada de métricas usada pelo código gerado com {@code instrumentation}.
+     */
+    JavaFile generateCrudMetrics() {
+        TypeVariableName t = TypeVariableName.get("T");
+        ClassName crudMetrics = ClassName.get(serviceOutputPackageBase, "CrudMetrics");
+        MethodSpec record = MethodSpec.methodBuilder("record")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .addParameter(String.class, "entity")
+                .addParameter(String.class, "layer")
+                .addParameter(String.class, "operation")
+                .addParameter(long.class, "nanos")
+                .addParameter(boolean.class, "success")
+                .build();
+
+        TypeSpec metrics = TypeSpec.interfaceBuilder("CrudMetrics")
+                .addJavadoc("Métricas dos controllers, services e adapters gerados. Cada medição informa a entidade, a camada\n"
+                        + "({@code controller}, {@code service}, {@code mapping} ou {@code repository}), a operação, a duração e se\n"
+                        + "terminou sem exceção, o que permite separar a latência de um endpoint entre mapeamento e banco.\n\n"
+                        + "Para publicar as medições registre um bean que implemente {@link #record}, por exemplo com timers do\n"
+                        + "Micrometer; sem ele é usado {@link #NOOP}, que não mede nada.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(FunctionalInterface.class)
+                .addField(FieldSpec.builder(crudMetrics, "NOOP", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("(entity, layer, operation, nanos, success) -> {\n}")
+                        .build())
+                .addMethod(record)
+                .addMethod(MethodSpec.methodBuilder("time")
+                        .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                        .addTypeVariable(t)
+                        .returns(t)
+                        .addParameter(String.class, "entity")
+                        .addParameter(String.class, "layer")
+                        .addParameter(String.class, "operation")
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(java.util.function.Supplier.class), t), "action")
+                        .beginControlFlow("if (this == NOOP)")
+                        .addStatement("return action.get()")
+                        .endControlFlow()
+                        .addStatement("long start = System.nanoTime()")
+                        .addStatement("boolean success = false")
+                        .beginControlFlow("try")
+                        .addStatement("$T result = action.get()", t)
+                        .addStatement("success = true")
+                        .addStatement("return result")
+                        .nextControlFlow("finally")
+                        .addStatement("record(entity, layer, operation, System.nanoTime() - start, success)")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("run")
+                        .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                        .addParameter(String.class, "entity")
+                        .addParameter(String.class, "layer")
+                        .addParameter(String.class, "operation")
+                        .addParameter(Runnable.class, "action")
+                        .addCode("time(entity, layer, operation, () -> {\n$>")
+                        .addStatement("action.run()")
+                        .addStatement("return null")
+                        .addCode("$<});\n")
+                        .build())
+                .build();
+
+        return JavaFile.builder(serviceOutputPackageBase, metrics).build();
+    }
+
+    /**
+     * Leitura em lotes das associações e coleções carregadas sob demanda.
+     */
+    JavaFile generateBatchFetchConfiguration() {
+        ParameterizedTypeName properties = ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), ClassName.get(Object.class));
+        TypeSpec configuration = TypeSpec.classBuilder("BatchFetchConfiguration")
+                .addJavadoc("Faz o Hibernate inicializar as associações e coleções pendentes de até {@code batch_fetch_size}\n"
+                        + "entidades com uma única consulta, de modo que o mapeamento de uma página para DTOs não execute uma\n"
+                        + "consulta por registro. Um valor definido em {@code spring.jpa.properties} prevalece.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(ClassName.get("org.springframework.context.annotation", "Configuration"))
+                .addSuperinterface(ClassName.get("org.springframework.boot.autoconfigure.orm.jpa", "HibernatePropertiesCustomizer"))
+                .addMethod(MethodSpec.methodBuilder("customize")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(properties, "hibernateProperties")
+                        .addStatement("hibernateProperties.putIfAbsent($S, $L)", "hibernate.default_batch_fetch_size", batchFetchSize)
+                        .build())
+                .build();
+
+        return JavaFile.builder(repositoryOutputPackageBase, configuration).build();
+    }
+
+    /**
+     * Configuração do executor limitado usado pelos métodos assíncronos dos services.
+     */
+    JavaFile generateServiceExecutorConfiguration() {
+        ClassName value = ClassName.get("org.springframework.beans.factory.annotation", "Value");
+        ClassName threadFactory = ClassName.get("java.util.concurrent", "ThreadFactory");
+        ClassName threadPoolExecutor = ClassName.get("java.util.concurrent", "ThreadPoolExecutor");
+        ClassName taskDecorator = ClassName.get("org.springframework.core.task", "TaskDecorator");
+        ClassName securityContext = ClassName.get("org.springframework.security.core.context", "SecurityContext");
+        ClassName securityContextHolder = ClassName.get("org.springframework.security.core.context", "SecurityContextHolder");
+        ClassName localeContext = ClassName.get("org.springframework.context.i18n", "LocaleContext");
+        ClassName localeContextHolder = ClassName.get("org.springframework.context.i18n", "LocaleContextHolder");
+        ParameterizedTypeName decoratorList = ParameterizedTypeName.get(ClassName.get(List.class), taskDecorator);
+
+        TypeSpec contextExecutor = TypeSpec.anonymousClassBuilder("poolSize, poolSize, 60, $T.SECONDS, new $T<>(queueCapacity), threadFactory, new $T.CallerRunsPolicy()",
+                        ClassName.get("java.util.concurrent", "TimeUnit"), ClassName.get("java.util.concurrent", "ArrayBlockingQueue"), threadPoolExecutor)
+                .superclass(threadPoolExecutor)
+                .addMethod(MethodSpec.methodBuilder("execute")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(Runnable.class, "command")
+                        .addStatement("$T task = propagateContext(command)", Runnable.class)
+                        .beginControlFlow("for ($T decorator : decorators)", taskDecorator)
+                        .addStatement("task = decorator.decorate(task)")
+                        .endControlFlow()
+                        .addStatement("super.execute(task)")
+                        .build())
+                .build();
+
+        TypeSpec configuration = TypeSpec.classBuilder("ServiceExecutorConfiguration")
+                .addJavadoc("Executor dos métodos assíncronos dos services: {@code pool-size} threads, no máximo\n"
+                        + "{@code queue-capacity} tarefas aguardando e, com a fila cheia, execução na thread que submeteu a tarefa.\n"
+                        + "Com {@code virtual-threads=true} e Java 21+ as threads do pool são virtuais.\n\n"
+                        + "Cada tarefa executa com o {@code SecurityContext} e o {@code LocaleContext} da thread que a submeteu.\n"
+                        + "Outros valores ligados à thread, como o tenant, são propagados registrando beans {@link TaskDecorator},\n"
+                        + "aplicados em ordem a cada tarefa.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addAnnotation(ClassName.get("org.springframework.context.annotation", "Configuration"))
+                .addField(FieldSpec.builder(String.class, "EXECUTOR", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$S", "archbaseServiceExecutor")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("archbaseServiceExecutor")
+                        .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.context.annotation", "Bean"))
+                                .addMember("name", "EXECUTOR")
+                                .addMember("destroyMethod", "$S", "shutdown")
+                                .build())
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(ExecutorService.class)
+                        .addParameter(ParameterSpec.builder(int.class, "poolSize")
+                                .addAnnotation(AnnotationSpec.builder(value)
+                                        .addMember("value", "$S", "${archbase.service-executor.pool-size:" + asyncPoolSize + "}")
+                                        .build())
+                                .build())
+                        .addParameter(ParameterSpec.builder(int.class, "queueCapacity")
+                                .addAnnotation(AnnotationSpec.builder(value)
+                                        .addMember("value", "$S", "${archbase.service-executor.queue-capacity:" + asyncQueueCapacity + "}")
+                                        .build())
+                                .build())
+                        .addParameter(ParameterSpec.builder(boolean.class, "virtualThreads")
+                                .addAnnotation(AnnotationSpec.builder(value)
+                                        .addMember("value", "$S", "${archbase.service-executor.virtual-threads:false}")
+                                        .build())
+                                .build())
+                        .addParameter(ParameterizedTypeName.get(ClassName.get("org.springframework.beans.factory", "ObjectProvider"), taskDecorator), "taskDecorators")
+                        .addStatement("$T decorators = taskDecorators.orderedStream().toList()", decoratorList)
+                        .addStatement("$T threadFactory = virtualThreads ? virtualThreadFactory() : null", threadFactory)
+                        .beginControlFlow("if (threadFactory == null)")
+                        .addStatement("threadFactory = new $T($S)", ClassName.get("org.springframework.scheduling.concurrent", "CustomizableThreadFactory"), "archbase-service-")
+                        .endControlFlow()
+                        .addStatement("$T executor = $L", threadPoolExecutor, contextExecutor)
+                        .addStatement("executor.allowCoreThreadTimeOut(true)")
+                        .addStatement("return executor")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("propagateContext")
+                        .addJavadoc("Executa a tarefa com os contextos de segurança e de locale capturados na submissão, restaurando os\n"
+                                + "da thread executora ao final (com a fila cheia a própria thread da requisição executa a tarefa).\n")
+                        .addModifiers(Modifier.STATIC)
+                        .returns(Runnable.class)
+                        .addParameter(Runnable.class, "task")
+                        .addStatement("$T security = $T.getContext()", securityContext, securityContextHolder)
+                        .addStatement("$T locale = $T.getLocaleContext()", localeContext, localeContextHolder)
+                        .addCode("return () -> {\n$>")
+                        .addStatement("$T previousSecurity = $T.getContext()", securityContext, securityContextHolder)
+                        .addStatement("$T previousLocale = $T.getLocaleContext()", localeContext, localeContextHolder)
+                        .addStatement("$T.setContext(security)", securityContextHolder)
+                        .addStatement("$T.setLocaleContext(locale)", localeContextHolder)
+                        .beginControlFlow("try")
+                        .addStatement("task.run()")
+                        .nextControlFlow("finally")
+                        .addStatement("$T.setContext(previousSecurity)", securityContextHolder)
+                        .addStatement("$T.setLocaleContext(previousLocale)", localeContextHolder)
+                        .endControlFlow()
+                        .addCode("$<};\n")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("virtualThreadFactory")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(threadFactory)
+                        // Thread.ofVirtual só existe a partir do Java 21
+                        .beginControlFlow("try")
+                        .addStatement("Object builder = Thread.class.getMethod($S).invoke(null)", "ofVirtual")
+                        .addStatement("return ($T) Class.forName($S).getMethod($S).invoke(builder)", threadFactory, "java.lang.Thread$Builder", "factory")
+                        .nextControlFlow("catch ($T e)", ReflectiveOperationException.class)
+                        .addStatement("return null")
+                        .endControlFlow()
+                        .build())
+                .build();
+
+        return JavaFile.builder(serviceOutputPackageBase, configuration).build();
+    }
+
+    /**
+     * Cache limitado por tamanho e tempo de vida, compartilhado pelos adapters com cache.
+     */
+    JavaFile generateReadThroughCache() {
+        TypeVariableName k = TypeVariableName.get("K");
+        TypeVariableName v = TypeVariableName.get("V");
+        ClassName entryClass = ClassName.get(adapterOutputPackageBase, "ReadThroughCache", "Entry");
+        ParameterizedTypeName entryType = ParameterizedTypeName.get(entryClass, v);
+        ParameterizedTypeName entriesType = ParameterizedTypeName.get(ClassName.get(LinkedHashMap.class), k, entryType);
+        ClassName longAdder = ClassName.get("java.util.concurrent.atomic", "LongAdder");
+        ClassName synchronizationManager = ClassName.get("org.springframework.transaction.support", "TransactionSynchronizationManager");
+        ClassName synchronization = ClassName.get("org.springframework.transaction.support", "TransactionSynchronization");
+
+        TypeSpec entry = TypeSpec.classBuilder("Entry")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addTypeVariable(v)
+                .addField(v, "value", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(long.class, "loadedAt", Modifier.PRIVATE, Modifier.FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(v, "value")
+                        .addParameter(long.class, "loadedAt")
+                        .addStatement("this.value = value")
+                        .addStatement("this.loadedAt = loadedAt")
+                        .build())
+                .build();
+
+        TypeSpec cacheClass = TypeSpec.classBuilder("ReadThroughCache")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addTypeVariable(k)
+                .addTypeVariable(v)
+                .addJavadoc("Cache em memória com leitura sob demanda, limitado a {@code maxSize} entradas (as menos usadas são\n"
+                        + "descartadas) e a um tempo de vida por entrada.\n\n"
+                        + "Valores nulos não são armazenados. Um valor carregado enquanto a mesma chave é invalidada é descartado,\n"
+                        + "para que uma leitura concorrente não recoloque no cache um estado anterior à gravação.\n")
+                .addField(int.class, "maxSize", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(long.class, "ttlNanos", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(entriesType, "entries", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(long.class, "invalidations", Modifier.PRIVATE)
+                .addField(FieldSpec.builder(longAdder, "hits", Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("new $T()", longAdder)
+                        .build())
+                .addField(FieldSpec.builder(longAdder, "misses", Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("new $T()", longAdder)
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(int.class, "maxSize")
+                        .addParameter(Duration.class, "ttl")
+                        .addStatement("this.maxSize = maxSize")
+                        .addStatement("this.ttlNanos = ttl.toNanos()")
+                        .addCode("this.entries = new $T<>(16, 0.75f, true) {\n$>", LinkedHashMap.class)
+                        .addCode("@$T\n", Override.class)
+                        .beginControlFlow("protected boolean removeEldestEntry($T<$T, $T> eldest)", ClassName.get(Map.Entry.class), k, entryType)
+                        .addStatement("return size() > ReadThroughCache.this.maxSize")
+                        .endControlFlow()
+                        .addCode("$<};\n")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("get")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(v)
+                        .addParameter(k, "key")
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(java.util.function.Function.class),
+                                WildcardTypeName.supertypeOf(k), WildcardTypeName.subtypeOf(v)), "loader")
+                        .addStatement("long invalidationsBefore")
+                        .beginControlFlow("synchronized (entries)")
+                        .addStatement("$T entry = entries.get(key)", entryType)
+                        .beginControlFlow("if (entry != null && System.nanoTime() - entry.loadedAt < ttlNanos)")
+                        .addStatement("hits.increment()")
+                        .addStatement("return entry.value")
+                        .endControlFlow()
+                        .beginControlFlow("if (entry != null)")
+                        .addStatement("entries.remove(key)")
+                        .endControlFlow()
+                        .addStatement("invalidationsBefore = invalidations")
+                        .endControlFlow()
+                        .addStatement("misses.increment()")
+                        .addComment("A leitura é feita fora do bloqueio para não serializar as consultas ao banco")
+                        .addStatement("$T value = loader.apply(key)", v)
+                        .beginControlFlow("if (value != null)")
+                        .beginControlFlow("synchronized (entries)")
+                        .beginControlFlow("if (invalidations == invalidationsBefore)")
+                        .addStatement("entries.put(key, new Entry<>(value, System.nanoTime()))")
+                        .endControlFlow()
+                        .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return value")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("invalidate")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(k, "key")
+                        .beginControlFlow("synchronized (entries)")
+                        .addStatement("entries.remove(key)")
+                        .addStatement("invalidations++")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("invalidateAfterCommit")
+                        .addJavadoc("Invalida a chave imediatamente e, se houver uma transação ativa, novamente ao seu término, descartando\n"
+                                + "o que tiver sido lido enquanto ela estava aberta.\n")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(k, "key")
+                        .addStatement("invalidate(key)")
+                        .beginControlFlow("if ($T.isSynchronizationActive())", synchronizationManager)
+                        .addCode("$T.registerSynchronization(new $T() {\n$>", synchronizationManager, synchronization)
+                        .addCode("@$T\n", Override.class)
+                        .beginControlFlow("public void afterCompletion(int status)")
+                        .addStatement("invalidate(key)")
+                        .endControlFlow()
+                        .addCode("$<});\n")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("clear")
+                        .addModifiers(Modifier.PUBLIC)
+                        .beginControlFlow("synchronized (entries)")
+                        .addStatement("entries.clear()")
+                        .addStatement("invalidations++")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("size")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(int.class)
+                        .beginControlFlow("synchronized (entries)")
+                        .addStatement("return entries.size()")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getHits")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(long.class)
+                        .addStatement("return hits.sum()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getMisses")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(long.class)
+                        .addStatement("return misses.sum()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getHitRate")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(double.class)
+                        .addStatement("long hitCount = hits.sum()")
+                        .addStatement("long total = hitCount + misses.sum()")
+                        .addStatement("return total == 0 ? 0 : (double) hitCount / total")
+                        .build())
+                .addType(entry)
+                .build();
+
+        return JavaFile.builder(adapterOutputPackageBase, cacheClass)
+                .build();
+    }
+
+    /**
+     * Página de uma consulta por cursor: o conteúdo e o cursor da próxima página, nulo na última.
+     */
+    JavaFile generateCursorPage() {
+        TypeVariableName t = TypeVariableName.get("T");
+        TypeVariableName r = TypeVariableName.get("R");
+        ParameterizedTypeName content = ParameterizedTypeName.get(ClassName.get(List.class), t);
+
+        TypeSpec cursorPageClass = TypeSpec.classBuilder("CursorPage")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addTypeVariable(t)
+                .addJavadoc("Página de uma consulta paginada por cursor (keyset).\n\n"
+                        + "{@code nextCursor} identifica o último registro da página e é informado na próxima consulta;\n"
+                        + "é nulo quando não há mais registros.\n")
+                .addField(content, "content", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(String.class, "nextCursor", Modifier.PRIVATE, Modifier.FINAL)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(content, "content")
+                        .addParameter(String.class, "nextCursor")
+                        .addStatement("this.content = content")
+                        .addStatement("this.nextCursor = nextCursor")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getContent")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(content)
+                        .addStatement("return content")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getNextCursor")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(String.class)
+                        .addStatement("return nextCursor")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("hasNext")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addStatement("return nextCursor != null")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("map")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addTypeVariable(r)
+                        .returns(ParameterizedTypeName.get(ClassName.get(dtoOutputPackageBase, "CursorPage"), r))
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(java.util.function.Function.class),
+                                WildcardTypeName.supertypeOf(t), WildcardTypeName.subtypeOf(r)), "mapper")
+                        .addStatement("$T<$T> mapped = new $T<>(content.size())", List.class, r, ArrayList.class)
+                        .beginControlFlow("for ($T element : content)", t)
+                        .addStatement("mapped.add(mapper.apply(element))")
+                        .endControlFlow()
+                        .addStatement("return new CursorPage<>(mapped, nextCursor)")
+                        .build())
+                .build();
+
+        return JavaFile.builder(dtoOutputPackageBase, cursorPageClass)
+                .build();
+    }
+
+    /**
+     * Consulta por cursor compartilhada pelos adapters gerados com {@code keysetPagination}.
+     */
+    JavaFile generateKeysetPagination() {
+        ClassName cursorPage = ClassName.get(dtoOutputPackageBase, "CursorPage");
+        ClassName entityManager = ClassName.get("jakarta.persistence", "EntityManager");
+        ClassName criteriaBuilder = ClassName.get("jakarta.persistence.criteria", "CriteriaBuilder");
+        ClassName criteriaQuery = ClassName.get("jakarta.persistence.criteria", "CriteriaQuery");
+        ClassName root = ClassName.get("jakarta.persistence.criteria", "Root");
+        ClassName path = ClassName.get("jakarta.persistence.criteria", "Path");
+        ClassName predicate = ClassName.get("jakarta.persistence.criteria", "Predicate");
+        ClassName expression = ClassName.get("jakarta.persistence.criteria", "Expression");
+        ClassName jpaOrder = ClassName.get("jakarta.persistence.criteria", "Order");
+        ClassName sort = ClassName.get("org.springframework.data.domain", "Sort");
+        ClassName sortOrder = sort.nestedClass("Order");
+        ClassName sortUtils = ClassName.get("br.com.archbase.query.rsql.jpa", "SortUtils");
+        ClassName beanWrapper = ClassName.get("org.springframework.beans", "BeanWrapper");
+        ClassName propertyAccessorFactory = ClassName.get("org.springframework.beans", "PropertyAccessorFactory");
+        ClassName conversionService = ClassName.get("org.springframework.core.convert.support", "DefaultConversionService");
+        TypeVariableName e = TypeVariableName.get("E");
+        ParameterizedTypeName pathOfObject = ParameterizedTypeName.get(path, ClassName.get(Object.class));
+        ParameterizedTypeName paths = ParameterizedTypeName.get(ClassName.get(List.class), pathOfObject);
+        ParameterizedTypeName orders = ParameterizedTypeName.get(ClassName.get(List.class), sortOrder);
+        ParameterizedTypeName values = ParameterizedTypeName.get(List.class, Object.class);
+
+        MethodSpec find = MethodSpec.methodBuilder("find")
+                .addJavadoc("Retorna até {@code size} entidades posteriores ao {@code cursor} na ordenação informada.\n"
+                        + "O id é sempre acrescentado como último critério para que a ordem seja total.\n")
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-                .returns(ClassName.get("", dtoClassName))
-                .addParameter(domainClass, "domain")
-                .beginControlFlow("if (domain == null)")
+                .addTypeVariable(e)
+                .returns(ParameterizedTypeName.get(cursorPage, e))
+                .addParameter(entityManager, "entityManager")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), e), "entityClass")
+                .addParameter(String.class, "cursor")
+                .addParameter(int.class, "size")
+                .addParameter(String[].class, "sort")
+                .beginControlFlow("if (size < 1)")
+                .addStatement("throw new $T($S + size)", IllegalArgumentException.class, "O tamanho da página deve ser maior que zero: ")
+                .endControlFlow()
+                .addStatement("$T orders = new $T<>()", orders, ArrayList.class)
+                .addStatement("boolean hasId = false")
+                .beginControlFlow("if (sort != null)")
+                .beginControlFlow("for ($T order : $T.by($T.convertSortToJpa(sort)))", sortOrder, sort, sortUtils)
+                .addStatement("orders.add(order)")
+                .addStatement("hasId |= ID.equals(order.getProperty())")
+                .endControlFlow()
+                .endControlFlow()
+                .beginControlFlow("if (!hasId)")
+                .addStatement("orders.add($T.asc(ID))", sortOrder)
+                .endControlFlow()
+                .addCode("\n")
+                .addStatement("$T builder = entityManager.getCriteriaBuilder()", criteriaBuilder)
+                .addStatement("$T<$T> query = builder.createQuery(entityClass)", criteriaQuery, e)
+                .addStatement("$T<$T> root = query.from(entityClass)", root, e)
+                .addStatement("$T paths = new $T<>(orders.size())", paths, ArrayList.class)
+                .addStatement("$T<$T> jpaOrders = new $T<>(orders.size())", List.class, jpaOrder, ArrayList.class)
+                .beginControlFlow("for ($T order : orders)", sortOrder)
+                .addStatement("$T path = path(root, order.getProperty())", pathOfObject)
+                .addStatement("paths.add(path)")
+                .addStatement("jpaOrders.add(order.isAscending() ? builder.asc(path) : builder.desc(path))")
+                .endControlFlow()
+                .addStatement("query.select(root).orderBy(jpaOrders)")
+                .beginControlFlow("if (cursor != null && !cursor.isEmpty())")
+                .addStatement("query.where(after(builder, orders, paths, decode(cursor, orders, paths)))")
+                .endControlFlow()
+                .addCode("\n")
+                .addComment("Um registro a mais indica se existe uma próxima página, sem consulta de contagem")
+                .addStatement("$T<$T> result = entityManager.createQuery(query).setMaxResults(size + 1).getResultList()", List.class, e)
+                .beginControlFlow("if (result.size() <= size)")
+                .addStatement("return new $T<>(result, null)", cursorPage)
+                .endControlFlow()
+                .addStatement("$T<$T> content = new $T<>(result.subList(0, size))", List.class, e, ArrayList.class)
+                .addStatement("return new $T<>(content, encode(content.get(size - 1), orders))", cursorPage)
+                .build();
+
+        MethodSpec pathMethod = MethodSpec.methodBuilder("path")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(pathOfObject)
+                .addParameter(ParameterizedTypeName.get(root, WildcardTypeName.subtypeOf(Object.class)), "root")
+                .addParameter(String.class, "property")
+                .addStatement("$T path = root", ParameterizedTypeName.get(path, WildcardTypeName.subtypeOf(Object.class)))
+                .beginControlFlow("for (String name : property.split($S))", "\\.")
+                .addStatement("path = path.get(name)")
+                .endControlFlow()
+                .addStatement("return ($T) path", pathOfObject)
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                .build();
+
+        MethodSpec after = MethodSpec.methodBuilder("after")
+                .addJavadoc("(k1 > v1) or (k1 = v1 and k2 > v2) or ..., com {@code <} nas chaves decrescentes.\n")
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "{$S, $S}", "unchecked", "rawtypes").build())
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(predicate)
+                .addParameter(criteriaBuilder, "builder")
+                .addParameter(orders, "orders")
+                .addParameter(paths, "paths")
+                .addParameter(values, "values")
+                .addStatement("$T alternatives = new $T[orders.size()]", ArrayTypeName.of(predicate), predicate)
+                .beginControlFlow("for (int i = 0; i < orders.size(); i++)")
+                .addStatement("$T conditions = new $T[i + 1]", ArrayTypeName.of(predicate), predicate)
+                .beginControlFlow("for (int j = 0; j < i; j++)")
+                .addStatement("conditions[j] = builder.equal(paths.get(j), values.get(j))")
+                .endControlFlow()
+                .addStatement("$T<$T> key = ($T) paths.get(i)", expression, Comparable.class, expression)
+                .addStatement("$T value = ($T) values.get(i)", Comparable.class, Comparable.class)
+                .addStatement("conditions[i] = orders.get(i).isAscending() ? builder.greaterThan(key, value) : builder.lessThan(key, value)")
+                .addStatement("alternatives[i] = builder.and(conditions)")
+                .endControlFlow()
+                .addStatement("return builder.or(alternatives)")
+                .build();
+
+        MethodSpec encode = MethodSpec.methodBuilder("encode")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(Object.class, "entity")
+                .addParameter(orders, "orders")
+                .addStatement("$T accessor = $T.forBeanPropertyAccess(entity)", beanWrapper, propertyAccessorFactory)
+                .addStatement("$T token = new $T(SEPARATOR)", StringJoiner.class, StringJoiner.class)
+                .addStatement("token.add(segment(signature(orders)))")
+                .beginControlFlow("for ($T order : orders)", sortOrder)
+                .addStatement("Object value = accessor.getPropertyValue(order.getProperty())")
+                .beginControlFlow("if (value == null)")
+                .addStatement("throw new $T($S + order.getProperty())", IllegalStateException.class, "Campo de ordenação nulo não pode ser usado na paginação por cursor: ")
+                .endControlFlow()
+                .addStatement("token.add(segment(format(value)))")
+                .endControlFlow()
+                .addStatement("return token.toString()")
+                .build();
+
+        ClassName timestamp = ClassName.get("java.sql", "Timestamp");
+        MethodSpec format = MethodSpec.methodBuilder("format")
+                .addJavadoc("Texto de um valor de chave no cursor. {@code Date} e {@code Calendar} são gravados em milissegundos\n"
+                        + "desde a época e {@code Timestamp} em ISO-8601 com os nanossegundos: {@code toString} perderia a precisão\n"
+                        + "e dependeria do fuso horário.\n")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(Object.class, "value")
+                .beginControlFlow("if (value instanceof $T<?> constant)", Enum.class)
+                .addStatement("return constant.name()")
+                .nextControlFlow("else if (value instanceof $T timestamp)", timestamp)
+                .addStatement("return timestamp.toInstant().toString()")
+                .nextControlFlow("else if (value instanceof $T date)", Date.class)
+                .addStatement("return Long.toString(date.getTime())")
+                .nextControlFlow("else if (value instanceof $T calendar)", Calendar.class)
+                .addStatement("return Long.toString(calendar.getTimeInMillis())")
+                .endControlFlow()
+                .addStatement("return value.toString()")
+                .build();
+
+        MethodSpec decode = MethodSpec.methodBuilder("decode")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(values)
+                .addParameter(String.class, "cursor")
+                .addParameter(orders, "orders")
+                .addParameter(paths, "paths")
+                .addStatement("String[] segments = cursor.split($T.quote(SEPARATOR), -1)", java.util.regex.Pattern.class)
+                .beginControlFlow("if (segments.length != paths.size() + 1 || !signature(orders).equals(text(segments[0])))")
+                .addStatement("throw new $T($S)", IllegalArgumentException.class, "Cursor inválido para a ordenação informada")
+                .endControlFlow()
+                .addStatement("$T values = new $T<>(paths.size())", values, ArrayList.class)
+                .beginControlFlow("for (int i = 0; i < paths.size(); i++)")
+                .addStatement("values.add(convert(text(segments[i + 1]), paths.get(i).getJavaType()))")
+                .endControlFlow()
+                .addStatement("return values")
+                .build();
+
+        MethodSpec convert = MethodSpec.methodBuilder("convert")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(Object.class)
+                .addParameter(String.class, "text")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)), "type")
+                .addStatement("Object temporal = parseTemporal(text, type)")
+                .addStatement("return temporal != null ? temporal : $T.getSharedInstance().convert(text, type)", conversionService)
+                .build();
+
+        MethodSpec parseTemporal = MethodSpec.methodBuilder("parseTemporal")
+                .addJavadoc("Lê os valores gravados por {@link #format} para os tipos de data; {@code null} para os demais tipos.\n")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(Object.class)
+                .addParameter(String.class, "text")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)), "type")
+                .beginControlFlow("try")
+                .beginControlFlow("if (type.getName().startsWith($S))", "java.time.")
+                .addStatement("return type.getMethod($S, $T.class).invoke(null, text)", "parse", CharSequence.class)
+                .nextControlFlow("else if ($T.class.isAssignableFrom(type))", timestamp)
+                .addStatement("return $T.from($T.parse(text))", timestamp, java.time.Instant.class)
+                .nextControlFlow("else if ($T.class.isAssignableFrom(type))", Date.class)
+                .addStatement("return type.getConstructor(long.class).newInstance(Long.parseLong(text))")
+                .nextControlFlow("else if ($T.class.isAssignableFrom(type))", Calendar.class)
+                .addStatement("$T calendar = $T.getInstance()", Calendar.class, Calendar.class)
+                .addStatement("calendar.setTimeInMillis(Long.parseLong(text))")
+                .addStatement("return calendar")
+                .endControlFlow()
+                .nextControlFlow("catch ($T | $T e)", ReflectiveOperationException.class, RuntimeException.class)
+                .addStatement("throw new $T($S + text, e)", IllegalArgumentException.class, "Valor inválido no cursor: ")
+                .endControlFlow()
                 .addStatement("return null")
+                .build();
+
+        MethodSpec signature = MethodSpec.methodBuilder("signature")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(orders, "orders")
+                .addStatement("$T signature = new $T($S)", StringJoiner.class, StringJoiner.class, ",")
+                .beginControlFlow("for ($T order : orders)", sortOrder)
+                .addStatement("signature.add(order.getProperty() + ':' + order.getDirection())")
                 .endControlFlow()
-                .addCode("return $T.builder()",ClassName.get("", dtoClassName));
+                .addStatement("return signature.toString()")
+                .build();
 
-        for (Field field : getAllFields(domainClass)) {
-            String fieldName = field.getName();
-            Class<?> fieldType = field.getType();
+        MethodSpec segment = MethodSpec.methodBuilder("segment")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(String.class, "text")
+                .addStatement("return $T.getUrlEncoder().withoutPadding().encodeToString(text.getBytes($T.UTF_8))",
+                        Base64.class, java.nio.charset.StandardCharsets.class)
+                .build();
 
-            if (fieldType.isArray() && fieldType.getComponentType().equals(byte.class)) {
-                methodBuilder.addCode("\n\t.$L(domain.get$L())", fieldName, capitalize(fieldName));
-            } else if (isComplexType(fieldType) && !fieldType.isEnum() && !field.getType().getSimpleName().equalsIgnoreCase("ArchbaseIdentifier")) {
-                if (Collection.class.isAssignableFrom(fieldType)) {
-                    // Para coleções de tipos complexos
-                    Class<?> genericType = getGenericType(field);
-                    methodBuilder.addCode("\n\t.$L(domain.get$L() != null ? domain.get$L().stream().map($T::fromDomain).collect(toSet()) : null)",
-                            fieldName, capitalize(fieldName), capitalize(fieldName), ClassName.get(StringUtils.replace(genericType.getPackageName(),entityPackageBase,dtoOutputPackageBase),genericType.getSimpleName()+"Dto"));
-                } else {
-                    // Para tipos complexos únicos
-                    methodBuilder.addCode("\n\t.$L(domain.get$L() != null ? $T.fromDomain(domain.get$L()) : null)",
-                            fieldName, capitalize(fieldName), ClassName.get(StringUtils.replace(fieldType.getPackageName(),entityPackageBase,dtoOutputPackageBase),fieldType.getSimpleName()+"Dto"), capitalize(fieldName));
-                }
-            } else if (field.getType().getSimpleName().equalsIgnoreCase("ArchbaseIdentifier")) {
-                methodBuilder.addCode("\n\t.$L(domain.get$L().toString())", fieldName, capitalize(fieldName));
-            } else {
-                // Tratamento para tipos não complexos
-                methodBuilder.addCode("\n\t.$L(domain.get$L())", fieldName, capitalize(fieldName));
-            }
+        MethodSpec text = MethodSpec.methodBuilder("text")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(String.class, "segment")
+                .addStatement("return new String($T.getUrlDecoder().decode(segment), $T.UTF_8)",
+                        Base64.class, java.nio.charset.StandardCharsets.class)
+                .build();
+
+        TypeSpec keysetClass = TypeSpec.classBuilder("KeysetPagination")
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("Paginação por cursor (keyset) sobre entidades JPA.\n\n"
+                        + "Cada página é localizada comparando as chaves de ordenação com os valores do último registro da página\n"
+                        + "anterior, carregados no cursor, em vez de descartar linhas com OFFSET. O custo por página não cresce\n"
+                        + "com a posição e nenhuma consulta de contagem é executada. As chaves de ordenação não podem ser nulas.\n")
+                .addField(FieldSpec.builder(String.class, "ID", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$S", "id")
+                        .build())
+                .addField(FieldSpec.builder(String.class, "SEPARATOR", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$S", ".")
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                .addMethod(find)
+                .addMethod(pathMethod)
+                .addMethod(after)
+                .addMethod(encode)
+                .addMethod(format)
+                .addMethod(decode)
+                .addMethod(convert)
+                .addMethod(parseTemporal)
+                .addMethod(signature)
+                .addMethod(segment)
+                .addMethod(text)
+                .build();
+
+        return JavaFile.builder(adapterOutputPackageBase, keysetClass)
+                .build();
+    }
+
+    /**
+     * Implementação concreta usada para instanciar uma coleção do tipo declarado. Com {@code sizeExpression}
+     * a coleção já é criada com a capacidade necessária, quando a implementação permite.
+     */
+    private CodeBlock newCollection(TypeMetadata collectionType, String sizeExpression) {
+        ClassName implementation;
+        if (collectionType.is(Set.class) || collectionType.is(HashSet.class)) {
+            implementation = ClassName.get(HashSet.class);
+        } else if (collectionType.is(LinkedHashSet.class)) {
+            implementation = ClassName.get(LinkedHashSet.class);
+        } else if (isSortedCollection(collectionType)) {
+            return CodeBlock.of("new $T<>()", TreeSet.class);
+        } else if (collectionType.is(LinkedList.class)) {
+            return CodeBlock.of("new $T<>()", LinkedList.class);
+        } else if (collectionType.is(List.class) || collectionType.is(Collection.class) || collectionType.is(ArrayList.class)) {
+            return sizeExpression == null ? CodeBlock.of("new $T<>()", ArrayList.class)
+                    : CodeBlock.of("new $T<>($L)", ArrayList.class, sizeExpression);
+        } else {
+            // Outros tipos de coleção declarados na entidade são instanciados diretamente
+            return CodeBlock.of("new $T<>()", collectionType.getClassName());
+        }
+        return sizeExpression == null ? CodeBlock.of("new $T<>()", implementation)
+                : CodeBlock.of("new $T<>((int) ($L / 0.75f) + 1)", implementation, sizeExpression);
+    }
+
+    private CodeBlock emptyCollection(TypeMetadata collectionType) {
+        if (collectionType.is(Set.class)) {
+            return CodeBlock.of("$T.emptySet()", Collections.class);
+        } else if (collectionType.is(List.class) || collectionType.is(Collection.class)) {
+            return CodeBlock.of("$T.emptyList()", Collections.class);
+        } else if (collectionType.is(SortedSet.class)) {
+            return CodeBlock.of("$T.emptySortedSet()", Collections.class);
+        } else if (collectionType.is(NavigableSet.class)) {
+            return CodeBlock.of("$T.emptyNavigableSet()", Collections.class);
         }
+        return newCollection(collectionType, null);
+    }
 
-        methodBuilder.addCode("\n.build();\n");
-        return methodBuilder.build();
+    /**
+     * Tipo declarado no DTO para uma coleção de entidades. Os DTOs não são {@code Comparable}, então coleções
+     * ordenadas da entidade viram {@code Set} no DTO e mantêm a ordem da origem.
+     */
+    private ClassName dtoCollectionClass(TypeMetadata collectionType) {
+        return isSortedCollection(collectionType) ? ClassName.get(Set.class) : collectionType.getClassName();
     }
 
-    private MethodSpec createToDomainMethod(Class<?> domainClass, String dtoClassName) {
-        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("toDomain")
-                .addModifiers(Modifier.PUBLIC)
-                .returns(domainClass)
-                .addCode("return $T.builder()",domainClass);
+    /**
+     * Implementação de uma coleção de DTOs: como {@link #newCollection}, exceto pelas coleções ordenadas, criadas
+     * como {@code LinkedHashSet}.
+     */
+    private CodeBlock newDtoCollection(TypeMetadata collectionType, String sizeExpression) {
+        if (!isSortedCollection(collectionType)) {
+            return newCollection(collectionType, sizeExpression);
+        }
+        return sizeExpression == null ? CodeBlock.of("new $T<>()", LinkedHashSet.class)
+                : CodeBlock.of("new $T<>((int) ($L / 0.75f) + 1)", LinkedHashSet.class, sizeExpression);
+    }
 
-        for (Field field : getAllFields(domainClass)) {
-            String fieldName = field.getName();
-            Class<?> fieldType = field.getType();
+    private CodeBlock emptyDtoCollection(TypeMetadata collectionType) {
+        return isSortedCollection(collectionType) ? CodeBlock.of("$T.emptySet()", Collections.class) : emptyCollection(collectionType);
+    }
 
+    private boolean isSortedCollection(TypeMetadata collectionType) {
+        return collectionType.is(SortedSet.class) || collectionType.is(NavigableSet.class) || collectionType.is(TreeSet.class);
+    }
 
-            if (fieldType.isArray() && fieldType.getComponentType().equals(byte.class)) {
-                methodBuilder.addCode("\n\t.$L(this.$L)", fieldName, fieldName);
-            } else if (isComplexType(fieldType) && !fieldType.isEnum() && !field.getType().getSimpleName().equalsIgnoreCase("ArchbaseIdentifier"))  {
-                if (Collection.class.isAssignableFrom(fieldType)) {
-                    // Para coleções de tipos complexos
-                    Class<?> genericType = getGenericType(field);
-                    methodBuilder.addCode("\n\t.$L(this.$L != null ? this.$L.stream().map($L::toDomain).collect(toSet()) : new $T<>())",
-                            fieldName, fieldName, fieldName, ClassName.get(StringUtils.replace(genericType.getPackageName(),entityPackageBase,dtoOutputPackageBase),genericType.getSimpleName()+"Dto"), ClassName.get(HashSet.class));
-                } else {
-                    // Para tipos complexos únicos
-                    methodBuilder.addCode("\n\t.$L(this.$L != null ? this.$L.toDomain() : null)",
-                            fieldName, fieldName, fieldName);
-                }
+    /**
+     * Nomes das variáveis locais de um método gerado. Os nomes dos campos da entidade ficam reservados, de modo que
+     * nenhuma variável tenha o nome de um campo; {@code names.get(field)} devolve o nome do próprio campo.
+     */
+    private NameAllocator localNames(EntityModel model) {
+        NameAllocator names = new NameAllocator();
+        for (EntityFieldModel field : model.getFields()) {
+            names.newName(field.getName(), field);
+        }
+        return names;
+    }
+
+    /**
+     * Modelo da entidade, construído uma única vez por execução e compartilhado por todos os geradores.
+     */
+    EntityModel entityModel(EntityMetadata metadata) {
+        return entityModels.computeIfAbsent(metadata.getType().getQualifiedName(), name -> buildEntityModel(metadata));
+    }
+
+    private EntityModel buildEntityModel(EntityMetadata metadata) {
+        List<EntityFieldModel> fields = new ArrayList<>();
+        for (FieldMetadata field : getAllFields(metadata)) {
+            TypeMetadata fieldType = field.getType();
+            EntityFieldModel.Kind kind;
+            TypeMetadata elementType = null;
+            if (fieldType.isArray() && fieldType.getComponentType().is(byte.class)) {
+                kind = EntityFieldModel.Kind.BINARY;
+            } else if (fieldType.getSimpleName().equalsIgnoreCase("ArchbaseIdentifier")) {
+                kind = EntityFieldModel.Kind.IDENTIFIER;
+            } else if (fieldType.isCollection()) {
+                // Somente coleções de entidades são mapeadas elemento a elemento; coleções de valores são copiadas
+                TypeMetadata genericType = getGenericType(field);
+                boolean entityCollection = genericType != TypeMetadata.OBJECT && !genericType.isEnum() && isComplexType(genericType);
+                kind = entityCollection ? EntityFieldModel.Kind.COLLECTION : EntityFieldModel.Kind.VALUE;
+                elementType = entityCollection ? genericType : null;
+            } else if (isComplexType(fieldType) && !fieldType.isEnum()) {
+                kind = EntityFieldModel.Kind.ASSOCIATION;
+                elementType = fieldType;
             } else {
-                // Tratamento para tipos não complexos
-                methodBuilder.addCode("\n\t.$L(this.$L)", fieldName, fieldName);
+                kind = EntityFieldModel.Kind.VALUE;
             }
+            ClassName associationDto = elementType == null ? null
+                    : ClassName.get(StringUtils.replace(elementType.getPackageName(), entityPackageBase, dtoOutputPackageBase), elementType.getSimpleName() + "Dto");
+            fields.add(new EntityFieldModel(field.getName(), fieldType, getFieldType(field), kind, elementType, associationDto));
         }
-
-        methodBuilder.addCode("\n.build();\n");
-        return methodBuilder.build();
+        return new EntityModel(metadata, fields);
     }
 
     private String capitalize(String name) {
@@ -971,67 +4304,64 @@ public class ArchbaseGeneratorCodeMojo
         return name.substring(0, 1).toLowerCase() + name.substring(1);
     }
 
-    private TypeName getFieldType(Field field) {
+    private TypeName getFieldType(FieldMetadata field) {
         if (field.getType().getSimpleName().equalsIgnoreCase("ArchbaseIdentifier")){
             return TypeName.get(String.class);
         }
-        Class<?> type = field.getType();
+        TypeMetadata type = field.getType();
 
         // Verifica se é um tipo primitivo e retorna o tipo correspondente
         if (type.isPrimitive()) {
-            return TypeName.get(type);
+            return type.toTypeName();
         }
 
         // Lógica para Enums
         if (type.isEnum()) {
-            return ClassName.get(type);
+            return type.getClassName();
         }
 
         // Lógica para Arrays
         if (type.isArray()) {
-            Class<?> componentType = type.getComponentType();
+            TypeMetadata componentType = type.getComponentType();
             if (componentType.isPrimitive()) {
                 // Tratamento especial para arrays de tipos primitivos
-                return ArrayTypeName.of(TypeName.get(componentType));
+                return ArrayTypeName.of(componentType.toTypeName());
             } else {
                 TypeName componentTypeName = null;
                 if (componentType.getPackageName().contains(entityPackageBase)){
                     componentTypeName = ClassName.get(StringUtils.replace(componentType.getPackageName(),entityPackageBase,dtoOutputPackageBase), componentType.getSimpleName() + "Dto");
                 }
                 // Tratamento para arrays de tipos não primitivos (incluindo complexos e enums)
-                componentTypeName = componentType.isEnum() ? ClassName.get(componentType)
+                componentTypeName = componentType.isEnum() ? componentType.getClassName()
                         : ClassName.get("", componentType.getSimpleName() + "Dto");
                 return ArrayTypeName.of(componentTypeName);
             }
         }
 
         // Lógica para Coleções
-        if (Collection.class.isAssignableFrom(type)) {
-            Type genericType = field.getGenericType();
-            if (genericType instanceof ParameterizedType) {
-                ParameterizedType parameterizedType = (ParameterizedType) genericType;
-                Type[] typeArguments = parameterizedType.getActualTypeArguments();
-                if (typeArguments.length > 0) {
-                    Class<?> genericClass = (Class<?>) typeArguments[0];
-                    TypeName genericTypeName;
-
-                    if (genericClass.isEnum()) {
-                        // Se o tipo genérico é um enum, mantém o tipo original
-                        genericTypeName = ClassName.get(genericClass);
-                    } else if (isComplexType(genericClass)) {
-                        // Para tipos complexos, acrescenta 'Dto'
-                        genericTypeName = ClassName.get(StringUtils.replace(genericClass.getPackageName(),entityPackageBase,dtoOutputPackageBase), genericClass.getSimpleName() + "Dto");
-                    } else {
-                        // Para outros tipos, como primitivos, wrappers e String
-                        genericTypeName = ClassName.get(genericClass);
-                    }
+        if (type.isCollection()) {
+            List<TypeMetadata> typeArguments = type.getTypeArguments();
+            if (!typeArguments.isEmpty() && typeArguments.get(0) != null) {
+                TypeMetadata genericClass = typeArguments.get(0);
+                TypeName genericTypeName;
 
-                    // Retorna um ParameterizedTypeName para a coleção com o tipo genérico modificado
-                    return ParameterizedTypeName.get(ClassName.get(type), genericTypeName);
+                if (genericClass.isEnum()) {
+                    // Se o tipo genérico é um enum, mantém o tipo original
+                    genericTypeName = genericClass.getClassName();
+                } else if (isComplexType(genericClass)) {
+                    // Para tipos complexos, acrescenta 'Dto'
+                    genericTypeName = ClassName.get(StringUtils.replace(genericClass.getPackageName(),entityPackageBase,dtoOutputPackageBase), genericClass.getSimpleName() + "Dto");
+                } else {
+                    // Para outros tipos, como primitivos, wrappers e String
+                    genericTypeName = genericClass.toTypeName();
                 }
+
+                // Retorna um ParameterizedTypeName para a coleção com o tipo genérico modificado
+                return ParameterizedTypeName.get(isComplexType(genericClass) && !genericClass.isEnum()
+                        ? dtoCollectionClass(type) : type.getClassName(), genericTypeName);
             }
             // Se a coleção não tiver um tipo genérico ou se não for possível determiná-lo
-            return ClassName.get(type);
+            return type.getClassName();
         }
 
         // Lógica para Tipos Complexos
@@ -1043,49 +4373,41 @@ public class ArchbaseGeneratorCodeMojo
         }
 
         // Para tipos não primitivos, wrappers e String
-        return ClassName.get(type);
+        return type.getClassName();
     }
 
 
-    private boolean isComplexType(Class<?> type) {
+    private boolean isComplexType(TypeMetadata type) {
         // Reutiliza a lógica de isComplexType para o tipo de componente de array
         // ou para tipos genéricos em coleções
         return !type.isPrimitive() && !isPrimitiveWrapperOrString(type) && !isKnownNonComplexType(type);
     }
 
-    private Class<?> getGenericType(Field field) {
-        Type genericType = field.getGenericType();
-
-        if (genericType instanceof ParameterizedType) {
-            ParameterizedType parameterizedType = (ParameterizedType) genericType;
-            Type[] typeArguments = parameterizedType.getActualTypeArguments();
-            if (typeArguments.length > 0) {
-                Type typeArg = typeArguments[0];
+    private TypeMetadata getGenericType(FieldMetadata field) {
+        List<TypeMetadata> typeArguments = field.getType().getTypeArguments();
 
-                // Se o tipo genérico é uma classe, retorna seu nome simples
-                if (typeArg instanceof Class) {
-                    return ((Class<?>) typeArg);
-                }
-            }
+        // Se o tipo genérico é uma classe, retorna seu tipo
+        if (!typeArguments.isEmpty() && typeArguments.get(0) != null) {
+            return typeArguments.get(0);
         }
         // Retorna um valor padrão ou lança uma exceção se o tipo genérico não for encontrado
         // Pode ser necessário ajustar esta parte dependendo das suas necessidades específicas
-        return Object.class;
+        return TypeMetadata.OBJECT;
     }
 
-    private boolean isPrimitiveWrapperOrString(Class<?> type) {
-        return type.equals(Boolean.class) || type.equals(Byte.class) ||
-                type.equals(Character.class) || type.equals(Double.class) ||
-                type.equals(Float.class) || type.equals(Integer.class) ||
-                type.equals(Long.class) || type.equals(Short.class) ||
-                type.equals(String.class);
+    private boolean isPrimitiveWrapperOrString(TypeMetadata type) {
+        return type.is(Boolean.class) || type.is(Byte.class) ||
+                type.is(Character.class) || type.is(Double.class) ||
+                type.is(Float.class) || type.is(Integer.class) ||
+                type.is(Long.class) || type.is(Short.class) ||
+                type.is(String.class);
     }
 
-    private boolean isKnownNonComplexType(Class<?> type) {
-        return type.equals(LocalDate.class) || type.equals(LocalDateTime.class) ||
-                type.equals(Date.class) || type.equals(BigInteger.class) ||
-                type.equals(BigDecimal.class) || type.equals(java.sql.Timestamp.class) ||
-                type.equals(java.sql.Date.class) || type.equals(java.sql.Time.class);
+    private boolean isKnownNonComplexType(TypeMetadata type) {
+        return type.is(LocalDate.class) || type.is(LocalDateTime.class) ||
+                type.is(Date.class) || type.is(BigInteger.class) ||
+                type.is(BigDecimal.class) || type.is(java.sql.Timestamp.class) ||
+                type.is(java.sql.Date.class) || type.is(java.sql.Time.class);
     }
 
 
@@ -0,0 +1,214 @@
+package br.com.archbase.generator.code;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lê os metadados diretamente dos arquivos .class com ASM, sem carregar as entidades.
+ *
+ * Os arquivos são obtidos como recursos do classloader do projeto, o que não define classes nem
+ * executa inicializadores estáticos. Superclasses e tipos referenciados (para saber se são enums
+ * ou coleções) são lidos da mesma forma e mantidos em cache durante a execução.
+ */
+class BytecodeEntityMetadataReader implements EntityMetadataReader {
+
+    private static final String COLLECTION = "java/util/Collection";
+
+    private final ClassLoader resourceLoader;
+    private final Map<String, ClassFile> classFiles = new ConcurrentHashMap<>();
+
+    BytecodeEntityMetadataReader(ClassLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    @Override
+    public EntityMetadata read(String className) throws ClassNotFoundException, IOException {
+        ClassFile classFile = classFile(className.replace('.', '/'));
+        if (classFile == null) {
+            throw new ClassNotFoundException(className);
+        }
+        return read(classFile);
+    }
+
+    @Override
+    public List<byte[]> readInputs(String className) throws IOException {
+        return FingerprintIndex.classFileHierarchy(resourceLoader, className);
+    }
+
+    boolean exists(String internalName) throws IOException {
+        return classFile(internalName) != null;
+    }
+
+    private EntityMetadata read(ClassFile classFile) throws IOException {
+        List<FieldMetadata> fields = new ArrayList<>();
+        for (String[] field : classFile.fields) {
+            fields.add(new FieldMetadata(field[0], typeOf(field[1], field[2])));
+        }
+        EntityMetadata superclass = null;
+        if (classFile.superName != null) {
+            ClassFile superClassFile = classFile(classFile.superName);
+            if (superClassFile != null) {
+                superclass = read(superClassFile);
+            }
+        }
+        return new EntityMetadata(classType(classFile.name, List.of()), fields, superclass);
+    }
+
+    private TypeMetadata typeOf(String descriptor, String signature) throws IOException {
+        switch (descriptor.charAt(0)) {
+            case 'Z': return TypeMetadata.primitive("boolean");
+            case 'B': return TypeMetadata.primitive("byte");
+            case 'S': return TypeMetadata.primitive("short");
+            case 'I': return TypeMetadata.primitive("int");
+            case 'J': return TypeMetadata.primitive("long");
+            case 'C': return TypeMetadata.primitive("char");
+            case 'F': return TypeMetadata.primitive("float");
+            case 'D': return TypeMetadata.primitive("double");
+            case '[': return TypeMetadata.array(typeOf(descriptor.substring(1), null));
+            default:
+                String internalName = descriptor.substring(1, descriptor.length() - 1);
+                return classType(internalName, signature != null ? typeArguments(signature) : List.of());
+        }
+    }
+
+    TypeMetadata classType(String internalName, List<TypeMetadata> typeArguments) throws IOException {
+        ClassFile classFile = classFile(internalName);
+        boolean enumType = classFile != null
+                && (classFile.access & Opcodes.ACC_ENUM) != 0 && "java/lang/Enum".equals(classFile.superName);
+        return TypeMetadata.ofBinaryName(internalName.replace('/', '.'), enumType, isAssignableTo(internalName, COLLECTION),
+                typeArguments);
+    }
+
+    /**
+     * Extrai os argumentos genéricos do primeiro nível de uma assinatura de campo, por exemplo
+     * {@code Ljava/util/Set<Lcom/acme/Item;>;}. Apenas argumentos que são classes simples ou arrays
+     * delas são resolvidos, os demais ficam {@code null}, como no modelo obtido por reflection.
+     */
+    private List<TypeMetadata> typeArguments(String signature) throws IOException {
+        int start = signature.indexOf('<');
+        if (signature.charAt(0) != 'L' || start < 0) {
+            return List.of();
+        }
+        List<TypeMetadata> arguments = new ArrayList<>();
+        int index = start + 1;
+        while (signature.charAt(index) != '>') {
+            int end = skipTypeArgument(signature, index);
+            String argument = signature.substring(index, end);
+            char elementType = argument.replace("[", "").charAt(0);
+            boolean concreteClass = elementType == 'L' ? !argument.contains("<") : argument.startsWith("[") && elementType != 'T';
+            arguments.add(concreteClass ? typeOf(argument, null) : null);
+            index = end;
+        }
+        return arguments;
+    }
+
+    private int skipTypeArgument(String signature, int index) {
+        char c = signature.charAt(index);
+        if (c == '*') {
+            return index + 1;
+        }
+        return skipTypeSignature(signature, c == '+' || c == '-' ? index + 1 : index);
+    }
+
+    private int skipTypeSignature(String signature, int index) {
+        char c = signature.charAt(index);
+        if (c == '[') {
+            return skipTypeSignature(signature, index + 1);
+        }
+        if (c == 'T') {
+            return signature.indexOf(';', index) + 1;
+        }
+        if (c != 'L') {
+            return index + 1;
+        }
+        int depth = 0;
+        for (int i = index + 1; ; i++) {
+            char current = signature.charAt(i);
+            if (current == '<') {
+                depth++;
+            } else if (current == '>') {
+                depth--;
+            } else if (current == ';' && depth == 0) {
+                return i + 1;
+            }
+        }
+    }
+
+    private boolean isAssignableTo(String internalName, String target) throws IOException {
+        if (internalName.equals(target)) {
+            return true;
+        }
+        ClassFile classFile = classFile(internalName);
+        if (classFile == null) {
+            return false;
+        }
+        for (String interfaceName : classFile.interfaces) {
+            if (isAssignableTo(interfaceName, target)) {
+                return true;
+            }
+        }
+        return classFile.superName != null && isAssignableTo(classFile.superName, target);
+    }
+
+    private ClassFile classFile(String internalName) throws IOException {
+        try {
+            return classFiles.computeIfAbsent(internalName, name -> {
+                try (InputStream in = resourceLoader.getResourceAsStream(name + ".class")) {
+                    return in != null ? ClassFile.parse(in.readAllBytes()) : ClassFile.MISSING;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).orNull();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Informações de um arquivo .class necessárias aos geradores.
+     */
+    private static final class ClassFile {
+
+        static final ClassFile MISSING = new ClassFile();
+
+        int access;
+        String name;
+        String superName;
+        String[] interfaces = new String[0];
+        final List<String[]> fields = new ArrayList<>();
+
+        static ClassFile parse(byte[] bytes) {
+            ClassFile classFile = new ClassFile();
+            new ClassReader(bytes).accept(new ClassVisitor(Opcodes.ASM9) {
+                @Override
+                public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+                    classFile.access = access;
+                    classFile.name = name;
+                    classFile.superName = superName;
+                    classFile.interfaces = interfaces != null ? interfaces : new String[0];
+                }
+
+                @Override
+                public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+                    classFile.fields.add(new String[]{name, descriptor, signature});
+                    return null;
+                }
+            }, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return classFile;
+        }
+
+        ClassFile orNull() {
+            return this == MISSING ? null : this;
+        }
+    }
+}
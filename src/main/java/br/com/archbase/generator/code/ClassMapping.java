@@ -1,5 +1,8 @@
 package br.com.archbase.generator.code;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class ClassMapping {
     public String baseClass;
     public String targetPackageSuffix = "";
@@ -9,4 +12,9 @@ public class ClassMapping {
     public boolean generateAdapter = true;
     public boolean generateService = true;
     public boolean generateController = true;
+    public boolean generateBenchmark = false;
+    public List<ProjectionMapping> projections = new ArrayList<>();
+    public boolean cache = false;
+    public int cacheMaxSize = 1000;
+    public long cacheTtlSeconds = 300;
 }
@@ -0,0 +1,86 @@
+package br.com.archbase.generator.code;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+
+/**
+ * Campo de uma entidade já classificado e com os tipos resolvidos, compartilhado por todos os geradores.
+ */
+final class EntityFieldModel {
+
+    /**
+     * Como o campo é copiado entre a entidade de domínio e o DTO.
+     */
+    enum Kind {
+        /** Valor copiado sem conversão (primitivos, wrappers, datas, enums, coleções de valores). */
+        VALUE,
+        /** Array de bytes, copiado por referência. */
+        BINARY,
+        /** ArchbaseIdentifier, representado como String no DTO. */
+        IDENTIFIER,
+        /** Associação com outra entidade, mapeada pelo DTO correspondente. */
+        ASSOCIATION,
+        /** Coleção de entidades, mapeada elemento a elemento pelo DTO correspondente. */
+        COLLECTION
+    }
+
+    private final String name;
+    private final String accessorSuffix;
+    private final TypeMetadata type;
+    private final TypeName dtoType;
+    private final Kind kind;
+    private final TypeMetadata elementType;
+    private final ClassName associationDto;
+
+    EntityFieldModel(String name, TypeMetadata type, TypeName dtoType, Kind kind, TypeMetadata elementType, ClassName associationDto) {
+        this.name = name;
+        this.accessorSuffix = name.substring(0, 1).toUpperCase() + name.substring(1);
+        this.type = type;
+        this.dtoType = dtoType;
+        this.kind = kind;
+        this.elementType = elementType;
+        this.associationDto = associationDto;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Sufixo do getter gerado pelo Lombok ({@code getNome} → {@code Nome}).
+     */
+    String getAccessorSuffix() {
+        return accessorSuffix;
+    }
+
+    TypeMetadata getType() {
+        return type;
+    }
+
+    TypeName getDtoType() {
+        return dtoType;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    boolean isAssociation() {
+        return kind == Kind.ASSOCIATION || kind == Kind.COLLECTION;
+    }
+
+    /**
+     * Tipo da entidade associada: o próprio tipo do campo para {@link Kind#ASSOCIATION} e o
+     * argumento genérico para {@link Kind#COLLECTION}; {@code null} nos demais casos.
+     */
+    TypeMetadata getElementType() {
+        return elementType;
+    }
+
+    /**
+     * DTO da entidade associada, para {@link Kind#ASSOCIATION} e {@link Kind#COLLECTION}.
+     */
+    ClassName getAssociationDto() {
+        return associationDto;
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.archbase.generator.code;
+
+import com.squareup.javapoet.ClassName;
+
+import java.util.List;
+
+/**
+ * Metadados de uma entidade de domínio: o tipo, os campos declarados e a superclasse.
+ */
+final class EntityMetadata {
+
+    private final TypeMetadata type;
+    private final List<FieldMetadata> declaredFields;
+    private final EntityMetadata superclass;
+
+    EntityMetadata(TypeMetadata type, List<FieldMetadata> declaredFields, EntityMetadata superclass) {
+        this.type = type;
+        this.declaredFields = List.copyOf(declaredFields);
+        this.superclass = superclass;
+    }
+
+    TypeMetadata getType() {
+        return type;
+    }
+
+    String getSimpleName() {
+        return type.getSimpleName();
+    }
+
+    String getPackageName() {
+        return type.getPackageName();
+    }
+
+    ClassName getClassName() {
+        return type.getClassName();
+    }
+
+    List<FieldMetadata> getDeclaredFields() {
+        return declaredFields;
+    }
+
+    EntityMetadata getSuperclass() {
+        return superclass;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.archbase.generator.code;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Fonte dos metadados das entidades consumidos pelos geradores.
+ */
+interface EntityMetadataReader {
+
+    EntityMetadata read(String className) throws ClassNotFoundException, IOException;
+
+    /**
+     * Conteúdo dos arquivos que definem a entidade e suas superclasses, usado pelo índice incremental.
+     * Retorna uma lista vazia quando a entidade não é encontrada.
+     */
+    List<byte[]> readInputs(String className) throws IOException;
+
+    /**
+     * Conteúdo dos arquivos que definem um tipo declarado em um campo, pelo nome binário, inclusive quando ele
+     * não é uma entidade.
+     */
+    default List<byte[]> readReferencedInputs(String binaryName) throws IOException {
+        return readInputs(binaryName);
+    }
+}
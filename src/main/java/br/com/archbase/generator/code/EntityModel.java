@@ -0,0 +1,41 @@
+package br.com.archbase.generator.code;
+
+import com.squareup.javapoet.ClassName;
+
+import java.util.List;
+
+/**
+ * Modelo imutável de uma entidade, construído uma única vez por execução a partir dos metadados e
+ * consumido por todos os geradores: todos os campos (inclusive os herdados), ordenados por nome e
+ * já classificados.
+ */
+final class EntityModel {
+
+    private final EntityMetadata metadata;
+    private final List<EntityFieldModel> fields;
+
+    EntityModel(EntityMetadata metadata, List<EntityFieldModel> fields) {
+        this.metadata = metadata;
+        this.fields = List.copyOf(fields);
+    }
+
+    EntityMetadata getMetadata() {
+        return metadata;
+    }
+
+    String getSimpleName() {
+        return metadata.getSimpleName();
+    }
+
+    String getPackageName() {
+        return metadata.getPackageName();
+    }
+
+    ClassName getClassName() {
+        return metadata.getClassName();
+    }
+
+    List<EntityFieldModel> getFields() {
+        return fields;
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.archbase.generator.code;
+
+/**
+ * Campo declarado em uma entidade.
+ */
+final class FieldMetadata {
+
+    private final String name;
+    private final TypeMetadata type;
+
+    FieldMetadata(String name, TypeMetadata type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    TypeMetadata getType() {
+        return type;
+    }
+}
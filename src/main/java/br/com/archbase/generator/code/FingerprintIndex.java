@@ -0,0 +1,118 @@
+package br.com.archbase.generator.code;
+
+import org.objectweb.asm.ClassReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice persistente com o fingerprint das entradas usadas para gerar cada entidade.
+ *
+ * O fingerprint combina os arquivos que definem a entidade e suas superclasses (arquivos .class
+ * lidos como recurso, ou os fontes quando os metadados vêm do código fonte) com as configurações
+ * de geração. Projeções com associações e benchmarks também leem as entidades associadas, cujos
+ * arquivos entram no fingerprint dessas entidades. Quando nada mudou desde a última execução a
+ * entidade pode ser ignorada por completo.
+ */
+class FingerprintIndex {
+
+    static final String INDEX_FILE_NAME = "fingerprints.properties";
+
+    private final File indexFile;
+    private final Properties previous = new Properties();
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+
+    private FingerprintIndex(File indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    static FingerprintIndex load(File directory) throws IOException {
+        FingerprintIndex index = new FingerprintIndex(new File(directory, INDEX_FILE_NAME));
+        if (index.indexFile.isFile()) {
+            try (Reader reader = Files.newBufferedReader(index.indexFile.toPath(), StandardCharsets.UTF_8)) {
+                index.previous.load(reader);
+            }
+        }
+        return index;
+    }
+
+    boolean isUpToDate(String className, String fingerprint) {
+        return fingerprint != null && fingerprint.equals(previous.getProperty(className));
+    }
+
+    void update(String className, String fingerprint) {
+        if (fingerprint != null) {
+            current.put(className, fingerprint);
+        }
+    }
+
+    /**
+     * Grava somente as entidades processadas com sucesso nesta execução; entradas de
+     * entidades removidas da configuração ou que falharam são descartadas.
+     */
+    void save() throws IOException {
+        Files.createDirectories(indexFile.getParentFile().toPath());
+        try (Writer writer = Files.newBufferedWriter(indexFile.toPath(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : new TreeMap<>(current).entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Calcula o fingerprint da entidade a partir dos arquivos que a definem ou retorna {@code null}
+     * quando eles não são encontrados.
+     */
+    static String fingerprint(List<byte[]> inputs, String settings) {
+        if (inputs.isEmpty()) {
+            return null;
+        }
+        MessageDigest digest = newDigest();
+        digest.update(settings.getBytes(StandardCharsets.UTF_8));
+        for (byte[] input : inputs) {
+            digest.update(input);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Bytes do arquivo .class da classe e de suas superclasses fora do JDK, lidos como recurso, sem carregar as classes.
+     */
+    static List<byte[]> classFileHierarchy(ClassLoader classLoader, String className) throws IOException {
+        List<byte[]> classFiles = new ArrayList<>();
+        String internalName = className.replace('.', '/');
+        while (internalName != null && !internalName.startsWith("java/")) {
+            try (InputStream in = classLoader.getResourceAsStream(internalName + ".class")) {
+                if (in == null) {
+                    break;
+                }
+                byte[] classFile = in.readAllBytes();
+                classFiles.add(classFile);
+                internalName = new ClassReader(classFile).getSuperName();
+            }
+        }
+        return classFiles;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.archbase.generator.code;
+
+import com.squareup.javapoet.JavaFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Grava os arquivos gerados somente quando necessário.
+ *
+ * O arquivo é renderizado em memória e comparado com o que está em disco. Arquivos idênticos não
+ * são tocados, o que preserva a data de modificação e evita recompilações incrementais. Arquivos
+ * existentes com conteúdo diferente (normalmente alterados à mão) só são substituídos quando
+ * {@code overwrite} está ativo. A escrita é feita em um arquivo temporário no mesmo diretório,
+ * movido atomicamente para o destino.
+ */
+class GeneratedFileWriter {
+
+    enum Outcome {
+        WRITTEN, UNCHANGED, SKIPPED
+    }
+
+    private final File outputDirectory;
+    private final boolean overwrite;
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    GeneratedFileWriter(File outputDirectory, boolean overwrite) {
+        this.outputDirectory = outputDirectory;
+        this.overwrite = overwrite;
+    }
+
+    Outcome write(JavaFile javaFile) throws IOException {
+        return write(javaFile, render(javaFile));
+    }
+
+    byte[] render(JavaFile javaFile) {
+        return javaFile.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Grava o conteúdo já renderizado por {@link #render(JavaFile)}.
+     */
+    Outcome write(JavaFile javaFile, byte[] content) throws IOException {
+        Path target = targetOf(javaFile);
+        if (Files.exists(target)) {
+            if (Files.size(target) == content.length && Arrays.equals(Files.readAllBytes(target), content)) {
+                unchanged.incrementAndGet();
+                return Outcome.UNCHANGED;
+            }
+            if (!overwrite) {
+                skipped.incrementAndGet();
+                return Outcome.SKIPPED;
+            }
+        }
+
+        Files.createDirectories(target.getParent());
+        Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, content);
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        written.incrementAndGet();
+        return Outcome.WRITTEN;
+    }
+
+    Path targetOf(JavaFile javaFile) {
+        Path directory = outputDirectory.toPath();
+        if (!javaFile.packageName.isEmpty()) {
+            for (String component : javaFile.packageName.split("\\.")) {
+                directory = directory.resolve(component);
+            }
+        }
+        return directory.resolve(javaFile.typeSpec.name + ".java");
+    }
+
+    int getWritten() {
+        return written.get();
+    }
+
+    int getUnchanged() {
+        return unchanged.get();
+    }
+
+    int getSkipped() {
+        return skipped.get();
+    }
+}
@@ -0,0 +1,280 @@
+package br.com.archbase.generator.code;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Telemetria da geração: tempos e contagens por entidade e por artefato.
+ *
+ * Cada entidade é preenchida pela thread que a gera. Ao final da execução o relatório é gravado em JSON e CSV,
+ * com as classes de suporte compartilhadas seguidas das entidades na ordem de declaração, e um resumo por tipo de artefato é exibido no log, para localizar as
+ * entidades e as fases (leitura de metadados, construção, renderização ou gravação) que dominam o tempo.
+ */
+class GenerationReport {
+
+    static final String JSON_FILE_NAME = "generation-report.json";
+    static final String CSV_FILE_NAME = "generation-report.csv";
+
+    private static final int SLOWEST_ENTITIES = 5;
+
+    /**
+     * Nome da entrada que reúne as classes de suporte gravadas uma única vez por execução, fora de qualquer entidade.
+     */
+    static final String SHARED = "(compartilhados)";
+
+    enum Status {
+        GENERATED, UP_TO_DATE, FAILED
+    }
+
+    private final Map<ClassMapping, EntityReport> entities = new ConcurrentHashMap<>();
+
+    private final EntityReport shared = new EntityReport(SHARED);
+
+    EntityReport entity(ClassMapping classMapping) {
+        return entities.computeIfAbsent(classMapping, key -> new EntityReport(key.baseClass));
+    }
+
+    /**
+     * Entrada das classes de suporte compartilhadas; preenchida pela thread da execução antes das entidades.
+     */
+    EntityReport shared() {
+        return shared;
+    }
+
+    /**
+     * Grava o relatório em JSON e CSV no diretório informado.
+     */
+    void write(File directory, List<ClassMapping> classMappings, long totalNanos) throws IOException {
+        Files.createDirectories(directory.toPath());
+        List<EntityReport> reports = ordered(classMappings);
+        try (Writer writer = Files.newBufferedWriter(new File(directory, JSON_FILE_NAME).toPath(), StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"totalMicros\": " + micros(totalNanos) + ",\n  \"entities\": [");
+            for (int i = 0; i < reports.size(); i++) {
+                writer.write(i == 0 ? "\n" : ",\n");
+                reports.get(i).writeJson(writer);
+            }
+            writer.write("\n  ]\n}\n");
+        }
+        try (Writer writer = Files.newBufferedWriter(new File(directory, CSV_FILE_NAME).toPath(), StandardCharsets.UTF_8)) {
+            writer.write("entity,status,fields,fingerprintMicros,loadMicros,artifact,type,buildMicros,renderMicros,writeMicros,bytes,outcome\n");
+            for (EntityReport report : reports) {
+                report.writeCsv(writer);
+            }
+        }
+    }
+
+    /**
+     * Resumo por tipo de artefato e as entidades mais lentas, para exibição no log.
+     */
+    List<String> summary(List<ClassMapping> classMappings) {
+        List<EntityReport> reports = ordered(classMappings);
+        List<String> lines = new ArrayList<>();
+
+        long loadNanos = 0;
+        int loaded = 0;
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        for (EntityReport report : reports) {
+            if (report.fieldCount >= 0) {
+                loadNanos += report.loadNanos;
+                loaded++;
+            }
+            for (ArtifactReport artifact : report.artifacts) {
+                long[] total = totals.computeIfAbsent(artifact.artifact, key -> new long[5]);
+                total[0]++;
+                total[1] += artifact.buildNanos;
+                total[2] += artifact.renderNanos;
+                total[3] += artifact.writeNanos;
+                total[4] += artifact.bytes;
+            }
+        }
+        if (loaded > 0) {
+            lines.add(String.format("Leitura de metadados: %d entidades em %.1f ms", loaded, millis(loadNanos)));
+        }
+        for (Map.Entry<String, long[]> entry : totals.entrySet()) {
+            long[] total = entry.getValue();
+            lines.add(String.format("%s: %d arquivos, construção %.1f ms, renderização %.1f ms, gravação %.1f ms, %d KB",
+                    entry.getKey(), total[0], millis(total[1]), millis(total[2]), millis(total[3]), total[4] / 1024));
+        }
+
+        List<EntityReport> slowest = new ArrayList<>(reports);
+        slowest.removeIf(report -> report == shared || report.totalNanos() == 0);
+        slowest.sort(Comparator.comparingLong(EntityReport::totalNanos).reversed());
+        if (!slowest.isEmpty()) {
+            StringBuilder line = new StringBuilder("Entidades mais lentas:");
+            for (EntityReport report : slowest.subList(0, Math.min(SLOWEST_ENTITIES, slowest.size()))) {
+                line.append(String.format(" %s (%.1f ms)", report.className, millis(report.totalNanos())));
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    private List<EntityReport> ordered(List<ClassMapping> classMappings) {
+        List<EntityReport> reports = new ArrayList<>();
+        if (!shared.artifacts.isEmpty()) {
+            reports.add(shared);
+        }
+        for (ClassMapping classMapping : classMappings) {
+            EntityReport report = entities.get(classMapping);
+            if (report != null) {
+                reports.add(report);
+            }
+        }
+        return reports;
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String json(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder escaped = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"': escaped.append("\\\""); break;
+                case '\\': escaped.append("\\\\"); break;
+                case '\n': escaped.append("\\n"); break;
+                case '\r': escaped.append("\\r"); break;
+                case '\t': escaped.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+            }
+        }
+        return escaped.append('"').toString();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    /**
+     * Medições de uma entidade; preenchidas somente pela thread que gera a entidade.
+     */
+    static final class EntityReport {
+
+        private final String className;
+        private Status status = Status.GENERATED;
+        private long fingerprintNanos;
+        private long loadNanos;
+        private int fieldCount = -1;
+        private String error;
+        private final List<ArtifactReport> artifacts = new ArrayList<>();
+
+        private EntityReport(String className) {
+            this.className = className;
+        }
+
+        void fingerprinted(long nanos) {
+            fingerprintNanos = nanos;
+        }
+
+        void upToDate() {
+            status = Status.UP_TO_DATE;
+        }
+
+        void loaded(long nanos, int fields) {
+            loadNanos = nanos;
+            fieldCount = fields;
+        }
+
+        void artifact(String artifact, String typeName, long buildNanos, long renderNanos, long writeNanos, int bytes,
+                      GeneratedFileWriter.Outcome outcome) {
+            artifacts.add(new ArtifactReport(artifact, typeName, buildNanos, renderNanos, writeNanos, bytes, outcome));
+        }
+
+        void failed(Throwable cause) {
+            status = Status.FAILED;
+            error = String.valueOf(cause);
+        }
+
+        long totalNanos() {
+            long total = fingerprintNanos + loadNanos;
+            for (ArtifactReport artifact : artifacts) {
+                total += artifact.buildNanos + artifact.renderNanos + artifact.writeNanos;
+            }
+            return total;
+        }
+
+        private void writeJson(Writer writer) throws IOException {
+            writer.write("    {\"className\": " + json(className)
+                    + ", \"status\": " + json(status.name())
+                    + ", \"fields\": " + fieldCount
+                    + ", \"fingerprintMicros\": " + micros(fingerprintNanos)
+                    + ", \"loadMicros\": " + micros(loadNanos)
+                    + ", \"error\": " + json(error)
+                    + ", \"artifacts\": [");
+            for (int i = 0; i < artifacts.size(); i++) {
+                ArtifactReport artifact = artifacts.get(i);
+                writer.write((i == 0 ? "\n" : ",\n") + "      {\"artifact\": " + json(artifact.artifact)
+                        + ", \"type\": " + json(artifact.typeName)
+                        + ", \"buildMicros\": " + micros(artifact.buildNanos)
+                        + ", \"renderMicros\": " + micros(artifact.renderNanos)
+                        + ", \"writeMicros\": " + micros(artifact.writeNanos)
+                        + ", \"bytes\": " + artifact.bytes
+                        + ", \"outcome\": " + json(artifact.outcome.name()) + "}");
+            }
+            writer.write(artifacts.isEmpty() ? "]}" : "\n    ]}");
+        }
+
+        private void writeCsv(Writer writer) throws IOException {
+            String prefix = csv(className) + "," + status + "," + fieldCount + "," + micros(fingerprintNanos) + "," + micros(loadNanos) + ",";
+            if (artifacts.isEmpty()) {
+                writer.write(prefix + ",,,,,,\n");
+            }
+            for (ArtifactReport artifact : artifacts) {
+                writer.write(prefix + csv(artifact.artifact) + "," + csv(artifact.typeName) + ","
+                        + micros(artifact.buildNanos) + "," + micros(artifact.renderNanos) + "," + micros(artifact.writeNanos) + ","
+                        + artifact.bytes + "," + artifact.outcome + "\n");
+            }
+        }
+    }
+
+    private static final class ArtifactReport {
+
+        private final String artifact;
+        private final String typeName;
+        private final long buildNanos;
+        private final long renderNanos;
+        private final long writeNanos;
+        private final int bytes;
+        private final GeneratedFileWriter.Outcome outcome;
+
+        private ArtifactReport(String artifact, String typeName, long buildNanos, long renderNanos, long writeNanos, int bytes,
+                               GeneratedFileWriter.Outcome outcome) {
+            this.artifact = artifact;
+            this.typeName = typeName;
+            this.buildNanos = buildNanos;
+            this.renderNanos = renderNanos;
+            this.writeNanos = writeNanos;
+            this.bytes = bytes;
+            this.outcome = outcome;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.archbase.generator.code;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projeção nomeada de uma entidade: um DTO enxuto, com apenas os campos selecionados, usado nas consultas de listagem.
+ *
+ * {@code fields} lista os campos incluídos; caminhos com ponto selecionam campos de associações ({@code cliente.nome}).
+ * Uma lista vazia (na projeção ou em uma associação) inclui todos os campos. {@code maxDepth} limita a profundidade
+ * das associações: com o valor padrão, zero, apenas os campos da própria entidade são incluídos.
+ *
+ * Com {@code query} o repositório recebe uma consulta JPQL que seleciona os campos diretamente no DTO, sem carregar
+ * as entidades no contexto de persistência. Disponível apenas para projeções sem associações nem coleções.
+ */
+public class ProjectionMapping {
+    public String name;
+    public List<String> fields = new ArrayList<>();
+    public int maxDepth = 0;
+    public boolean query = false;
+
+    @Override
+    public String toString() {
+        return name + fields + maxDepth + (query ? "query" : "");
+    }
+}
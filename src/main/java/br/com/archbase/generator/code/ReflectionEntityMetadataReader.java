@@ -0,0 +1,60 @@
+package br.com.archbase.generator.code;
+
+import com.squareup.javapoet.ClassName;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lê os metadados carregando as entidades pelo classloader do projeto.
+ */
+class ReflectionEntityMetadataReader implements EntityMetadataReader {
+
+    private final ClassLoader classLoader;
+
+    ReflectionEntityMetadataReader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public EntityMetadata read(String className) throws ClassNotFoundException {
+        return read(classLoader.loadClass(className));
+    }
+
+    @Override
+    public List<byte[]> readInputs(String className) throws IOException {
+        return FingerprintIndex.classFileHierarchy(classLoader, className);
+    }
+
+    private EntityMetadata read(Class<?> type) {
+        List<FieldMetadata> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            fields.add(new FieldMetadata(field.getName(), typeOf(field.getType(), field.getGenericType())));
+        }
+        EntityMetadata superclass = type.getSuperclass() != null ? read(type.getSuperclass()) : null;
+        return new EntityMetadata(typeOf(type, type), fields, superclass);
+    }
+
+    private TypeMetadata typeOf(Class<?> type, Type genericType) {
+        if (type.isPrimitive()) {
+            return TypeMetadata.primitive(type.getName());
+        }
+        if (type.isArray()) {
+            return TypeMetadata.array(typeOf(type.getComponentType(), type.getComponentType()));
+        }
+        List<TypeMetadata> typeArguments = new ArrayList<>();
+        if (genericType instanceof ParameterizedType) {
+            for (Type typeArgument : ((ParameterizedType) genericType).getActualTypeArguments()) {
+                typeArguments.add(typeArgument instanceof Class ? typeOf((Class<?>) typeArgument, typeArgument) : null);
+            }
+        }
+        ClassName className = ClassName.get(type);
+        return TypeMetadata.ofClass(className.packageName(), className.simpleNames(), type.isEnum(),
+                Collection.class.isAssignableFrom(type), typeArguments);
+    }
+}
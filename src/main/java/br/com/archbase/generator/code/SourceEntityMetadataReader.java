@@ -0,0 +1,411 @@
+package br.com.archbase.generator.code;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.EnumDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.RecordDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.ast.type.TypeParameter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Lê os metadados a partir do código fonte das entidades com o JavaParser, permitindo gerar os
+ * artefatos antes da compilação (por exemplo na fase {@code generate-sources}).
+ *
+ * Os fontes do pacote base das entidades são analisados em paralelo na criação do leitor; demais
+ * fontes (superclasses ou tipos referenciados fora desse pacote) são analisados sob demanda. Os
+ * resultados ficam em cache durante a execução. Tipos que não existem nos fontes, como classes de
+ * bibliotecas, são resolvidos pelos arquivos .class do classpath.
+ */
+class SourceEntityMetadataReader implements EntityMetadataReader {
+
+    private static final ParserConfiguration PARSER_CONFIGURATION = new ParserConfiguration()
+            .setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17);
+
+    private final List<Path> sourceRoots;
+    private final BytecodeEntityMetadataReader classpathReader;
+    private final Map<Path, Optional<CompilationUnit>> compilationUnits = new ConcurrentHashMap<>();
+    private final Map<String, Optional<SourceType>> sourceTypes = new ConcurrentHashMap<>();
+    private final Map<String, EntityMetadata> entities = new ConcurrentHashMap<>();
+
+    SourceEntityMetadataReader(List<Path> sourceRoots, String entityPackageBase, BytecodeEntityMetadataReader classpathReader) throws IOException {
+        this.sourceRoots = sourceRoots;
+        this.classpathReader = classpathReader;
+        List<Path> sources = new ArrayList<>();
+        for (Path sourceRoot : sourceRoots) {
+            Path packageDirectory = sourceRoot.resolve(entityPackageBase.replace('.', '/'));
+            if (Files.isDirectory(packageDirectory)) {
+                try (Stream<Path> files = Files.walk(packageDirectory)) {
+                    sources.addAll(files.filter(file -> file.toString().endsWith(".java")).collect(Collectors.toList()));
+                }
+            }
+        }
+        try {
+            sources.parallelStream().forEach(this::compilationUnit);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public EntityMetadata read(String className) throws ClassNotFoundException, IOException {
+        SourceType sourceType = findSourceType(className);
+        if (sourceType == null) {
+            throw new ClassNotFoundException(className + " não encontrada nos diretórios de fontes " + sourceRoots);
+        }
+        try {
+            return read(sourceType);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public List<byte[]> readInputs(String className) throws IOException {
+        List<byte[]> inputs = new ArrayList<>();
+        SourceType sourceType = findSourceType(className);
+        while (sourceType != null) {
+            inputs.add(Files.readAllBytes(sourceType.file));
+            Optional<String> superclass = superclassName(sourceType);
+            if (superclass.isEmpty()) {
+                break;
+            }
+            sourceType = findSourceType(superclass.get());
+            if (sourceType == null) {
+                inputs.addAll(classpathReader.readInputs(binaryName(superclass.get())));
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Os tipos que não estão nos fontes, como enums e classes de bibliotecas, vêm do classpath.
+     */
+    @Override
+    public List<byte[]> readReferencedInputs(String binaryName) throws IOException {
+        String qualifiedName = binaryName.replace('$', '.');
+        return findSourceType(qualifiedName) != null ? readInputs(qualifiedName) : classpathReader.readInputs(binaryName);
+    }
+
+    private EntityMetadata read(SourceType sourceType) {
+        EntityMetadata cached = entities.get(sourceType.qualifiedName);
+        if (cached != null) {
+            return cached;
+        }
+        List<FieldMetadata> fields = new ArrayList<>();
+        for (FieldDeclaration field : sourceType.declaration.getFields()) {
+            for (VariableDeclarator variable : field.getVariables()) {
+                fields.add(new FieldMetadata(variable.getNameAsString(), typeOf(variable.getType(), sourceType)));
+            }
+        }
+        if (sourceType.declaration instanceof RecordDeclaration) {
+            for (Parameter parameter : ((RecordDeclaration) sourceType.declaration).getParameters()) {
+                fields.add(new FieldMetadata(parameter.getNameAsString(), typeOf(parameter.getType(), sourceType)));
+            }
+        }
+
+        EntityMetadata superclass = null;
+        Optional<String> superclassName = superclassName(sourceType);
+        if (superclassName.isPresent()) {
+            SourceType superSourceType = findSourceType(superclassName.get());
+            superclass = superSourceType != null ? read(superSourceType) : readFromClasspath(superclassName.get());
+        }
+        EntityMetadata entity = new EntityMetadata(classType(sourceType.qualifiedName, List.of()), fields, superclass);
+        entities.put(sourceType.qualifiedName, entity);
+        return entity;
+    }
+
+    private EntityMetadata readFromClasspath(String qualifiedName) {
+        try {
+            return classpathReader.read(binaryName(qualifiedName));
+        } catch (ClassNotFoundException e) {
+            // Superclasse fora dos fontes e do classpath: seus campos não podem ser conhecidos
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<String> superclassName(SourceType sourceType) {
+        if (sourceType.declaration instanceof ClassOrInterfaceDeclaration) {
+            ClassOrInterfaceDeclaration declaration = (ClassOrInterfaceDeclaration) sourceType.declaration;
+            if (!declaration.isInterface() && declaration.getExtendedTypes().isNonEmpty()) {
+                return Optional.of(resolve(declaration.getExtendedTypes().get(0).getNameWithScope(), sourceType));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private TypeMetadata typeOf(Type type, SourceType context) {
+        if (type.isPrimitiveType()) {
+            return TypeMetadata.primitive(type.asPrimitiveType().asString());
+        }
+        if (type.isArrayType()) {
+            return TypeMetadata.array(typeOf(type.asArrayType().getComponentType(), context));
+        }
+        if (!type.isClassOrInterfaceType()) {
+            return TypeMetadata.OBJECT;
+        }
+        ClassOrInterfaceType classType = type.asClassOrInterfaceType();
+        Optional<TypeParameter> typeParameter = typeParameter(classType.getNameWithScope(), context);
+        if (typeParameter.isPresent()) {
+            // Type variable: como em reflection, usa o primeiro limite ou Object
+            return typeParameter.get().getTypeBound().isNonEmpty()
+                    ? typeOf(typeParameter.get().getTypeBound().get(0), context) : TypeMetadata.OBJECT;
+        }
+        List<TypeMetadata> typeArguments = new ArrayList<>();
+        classType.getTypeArguments().ifPresent(arguments -> {
+            for (Type argument : arguments) {
+                typeArguments.add(isConcreteClass(argument, context) ? typeOf(argument, context) : null);
+            }
+        });
+        return classType(resolve(classType.getNameWithScope(), context), typeArguments);
+    }
+
+    /**
+     * Equivalente a um argumento genérico que reflection representa como {@link Class}: uma classe sem
+     * argumentos próprios, ou array dela, que não seja wildcard nem type variable.
+     */
+    private boolean isConcreteClass(Type argument, SourceType context) {
+        Type elementType = argument.getElementType();
+        if (elementType.isPrimitiveType()) {
+            return argument.isArrayType();
+        }
+        return elementType.isClassOrInterfaceType()
+                && elementType.asClassOrInterfaceType().getTypeArguments().isEmpty()
+                && typeParameter(elementType.asClassOrInterfaceType().getNameWithScope(), context).isEmpty();
+    }
+
+    private Optional<TypeParameter> typeParameter(String name, SourceType context) {
+        for (Node node = context.declaration; node != null; node = node.getParentNode().orElse(null)) {
+            if (node instanceof ClassOrInterfaceDeclaration) {
+                for (TypeParameter typeParameter : ((ClassOrInterfaceDeclaration) node).getTypeParameters()) {
+                    if (typeParameter.getNameAsString().equals(name)) {
+                        return Optional.of(typeParameter);
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private TypeMetadata classType(String qualifiedName, List<TypeMetadata> typeArguments) {
+        SourceType sourceType = findSourceType(qualifiedName);
+        if (sourceType == null) {
+            try {
+                return classpathReader.classType(binaryName(qualifiedName).replace('.', '/'), typeArguments);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return TypeMetadata.ofClass(sourceType.packageName, sourceType.simpleNames,
+                sourceType.declaration instanceof EnumDeclaration, isCollection(sourceType), typeArguments);
+    }
+
+    private boolean isCollection(SourceType sourceType) {
+        List<ClassOrInterfaceType> superTypes = new ArrayList<>();
+        if (sourceType.declaration instanceof ClassOrInterfaceDeclaration) {
+            superTypes.addAll(((ClassOrInterfaceDeclaration) sourceType.declaration).getExtendedTypes());
+            superTypes.addAll(((ClassOrInterfaceDeclaration) sourceType.declaration).getImplementedTypes());
+        }
+        for (ClassOrInterfaceType superType : superTypes) {
+            String name = resolve(superType.getNameWithScope(), sourceType);
+            SourceType superSourceType = findSourceType(name);
+            boolean collection = superSourceType != null
+                    ? isCollection(superSourceType)
+                    : classType(name, List.of()).isCollection();
+            if (collection) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolve um nome de tipo como o compilador faria: tipos aninhados, imports simples, mesmo pacote,
+     * imports com asterisco e {@code java.lang}. Nomes não resolvidos são considerados do mesmo pacote.
+     */
+    private String resolve(String name, SourceType context) {
+        String first = name.contains(".") ? name.substring(0, name.indexOf('.')) : name;
+        String rest = name.substring(first.length());
+
+        for (SourceType type = context; type != null; type = type.enclosing) {
+            if (type.qualifiedName.endsWith("." + first) || type.qualifiedName.equals(first)) {
+                return type.qualifiedName + rest;
+            }
+            String nested = type.qualifiedName + "." + first;
+            if (findSourceType(nested) != null) {
+                return nested + rest;
+            }
+        }
+        for (ImportDeclaration importDeclaration : context.compilationUnit.getImports()) {
+            if (!importDeclaration.isStatic() && !importDeclaration.isAsterisk()
+                    && importDeclaration.getNameAsString().endsWith("." + first)) {
+                return importDeclaration.getNameAsString() + rest;
+            }
+        }
+        if (name.contains(".") && Character.isLowerCase(first.charAt(0))) {
+            return name;
+        }
+        String samePackage = qualify(context.packageName, first);
+        if (exists(samePackage)) {
+            return samePackage + rest;
+        }
+        for (ImportDeclaration importDeclaration : context.compilationUnit.getImports()) {
+            if (!importDeclaration.isStatic() && importDeclaration.isAsterisk()) {
+                String candidate = importDeclaration.getNameAsString() + "." + first;
+                if (exists(candidate)) {
+                    return candidate + rest;
+                }
+            }
+        }
+        if (exists("java.lang." + first)) {
+            return "java.lang." + first + rest;
+        }
+        return samePackage + rest;
+    }
+
+    private boolean exists(String qualifiedName) {
+        if (findSourceType(qualifiedName) != null) {
+            return true;
+        }
+        try {
+            return classpathReader.exists(binaryName(qualifiedName).replace('.', '/'));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String qualify(String packageName, String name) {
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    /**
+     * Converte um nome qualificado em nome binário, assumindo que pacotes começam com letra minúscula
+     * e tipos com maiúscula ({@code pacote.Externa.Interna} vira {@code pacote.Externa$Interna}).
+     */
+    private String binaryName(String qualifiedName) {
+        String[] parts = qualifiedName.split("\\.");
+        StringBuilder binaryName = new StringBuilder();
+        boolean inType = false;
+        for (String part : parts) {
+            if (binaryName.length() > 0) {
+                binaryName.append(inType ? '$' : '.');
+            }
+            binaryName.append(part);
+            inType = inType || Character.isUpperCase(part.charAt(0));
+        }
+        return binaryName.toString();
+    }
+
+    /**
+     * Localiza um tipo declarado nos fontes, analisando o arquivo correspondente sob demanda.
+     */
+    private SourceType findSourceType(String qualifiedName) {
+        return sourceTypes.computeIfAbsent(qualifiedName, name -> Optional.ofNullable(locateSourceType(name))).orElse(null);
+    }
+
+    private SourceType locateSourceType(String qualifiedName) {
+        String[] parts = qualifiedName.split("\\.");
+        for (int i = parts.length; i > 0; i--) {
+            String topLevel = String.join("/", List.of(parts).subList(0, i)) + ".java";
+            for (Path sourceRoot : sourceRoots) {
+                Path file = sourceRoot.resolve(topLevel);
+                if (Files.isRegularFile(file)) {
+                    Optional<CompilationUnit> compilationUnit = compilationUnit(file);
+                    if (compilationUnit.isPresent()) {
+                        return findSourceType(file, compilationUnit.get(), parts, i);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private SourceType findSourceType(Path file, CompilationUnit compilationUnit, String[] parts, int topLevelIndex) {
+        String packageName = compilationUnit.getPackageDeclaration().map(declaration -> declaration.getNameAsString()).orElse("");
+        List<TypeDeclaration<?>> candidates = new ArrayList<>(compilationUnit.getTypes());
+        SourceType current = null;
+        List<String> simpleNames = new ArrayList<>();
+        for (int i = topLevelIndex - 1; i < parts.length; i++) {
+            String simpleName = parts[i];
+            TypeDeclaration<?> match = candidates.stream()
+                    .filter(candidate -> candidate.getNameAsString().equals(simpleName))
+                    .findFirst().orElse(null);
+            if (match == null) {
+                return null;
+            }
+            simpleNames.add(simpleName);
+            current = new SourceType(file, compilationUnit, match, packageName, simpleNames, current);
+            candidates = new ArrayList<>();
+            for (BodyDeclaration<?> member : match.getMembers()) {
+                if (member instanceof TypeDeclaration) {
+                    candidates.add((TypeDeclaration<?>) member);
+                }
+            }
+        }
+        return current;
+    }
+
+    private Optional<CompilationUnit> compilationUnit(Path file) {
+        return compilationUnits.computeIfAbsent(file.toAbsolutePath().normalize(), path -> {
+            try {
+                ParseResult<CompilationUnit> result = new JavaParser(PARSER_CONFIGURATION).parse(path);
+                if (!result.isSuccessful()) {
+                    throw new IOException("Erro ao analisar " + path + ": " + result.getProblems());
+                }
+                return result.getResult();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Tipo declarado em um arquivo fonte.
+     */
+    private static final class SourceType {
+
+        final Path file;
+        final CompilationUnit compilationUnit;
+        final TypeDeclaration<?> declaration;
+        final String packageName;
+        final List<String> simpleNames;
+        final String qualifiedName;
+        final SourceType enclosing;
+
+        SourceType(Path file, CompilationUnit compilationUnit, TypeDeclaration<?> declaration, String packageName,
+                   List<String> simpleNames, SourceType enclosing) {
+            this.file = file;
+            this.compilationUnit = compilationUnit;
+            this.declaration = declaration;
+            this.packageName = packageName;
+            this.simpleNames = List.copyOf(simpleNames);
+            String name = String.join(".", simpleNames);
+            this.qualifiedName = packageName.isEmpty() ? name : packageName + "." + name;
+            this.enclosing = enclosing;
+        }
+    }
+}
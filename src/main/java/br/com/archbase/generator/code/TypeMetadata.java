@@ -0,0 +1,154 @@
+package br.com.archbase.generator.code;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uso de um tipo em um campo de entidade: o tipo bruto, a classificação necessária aos geradores
+ * e os argumentos genéricos do primeiro nível. Um argumento que não é uma classe concreta
+ * (wildcard, type variable ou tipo parametrizado) é representado por {@code null}.
+ */
+final class TypeMetadata {
+
+    static final TypeMetadata OBJECT = ofClass("java.lang", List.of("Object"), false, false, List.of());
+
+    private static final Map<String, TypeName> PRIMITIVES = Map.of(
+            "boolean", TypeName.BOOLEAN, "byte", TypeName.BYTE, "short", TypeName.SHORT,
+            "int", TypeName.INT, "long", TypeName.LONG, "char", TypeName.CHAR,
+            "float", TypeName.FLOAT, "double", TypeName.DOUBLE);
+
+    private final String packageName;
+    private final List<String> simpleNames;
+    private final boolean primitive;
+    private final boolean enumType;
+    private final boolean collection;
+    private final TypeMetadata componentType;
+    private final List<TypeMetadata> typeArguments;
+
+    private TypeMetadata(String packageName, List<String> simpleNames, boolean primitive, boolean enumType,
+                         boolean collection, TypeMetadata componentType, List<TypeMetadata> typeArguments) {
+        this.packageName = packageName;
+        this.simpleNames = simpleNames;
+        this.primitive = primitive;
+        this.enumType = enumType;
+        this.collection = collection;
+        this.componentType = componentType;
+        this.typeArguments = typeArguments;
+    }
+
+    static TypeMetadata primitive(String name) {
+        if (!PRIMITIVES.containsKey(name)) {
+            throw new IllegalArgumentException("Tipo primitivo desconhecido: " + name);
+        }
+        return new TypeMetadata("", List.of(name), true, false, false, null, List.of());
+    }
+
+    static TypeMetadata array(TypeMetadata componentType) {
+        return new TypeMetadata(componentType.packageName, componentType.simpleNames, false, false, false, componentType, List.of());
+    }
+
+    static TypeMetadata ofClass(String packageName, List<String> simpleNames, boolean enumType, boolean collection,
+                                List<TypeMetadata> typeArguments) {
+        return new TypeMetadata(packageName, List.copyOf(simpleNames), false, enumType, collection, null,
+                Collections.unmodifiableList(typeArguments));
+    }
+
+    /**
+     * Converte um nome binário ({@code pacote.Externa$Interna}) em pacote e nomes simples.
+     */
+    static TypeMetadata ofBinaryName(String binaryName, boolean enumType, boolean collection, List<TypeMetadata> typeArguments) {
+        int lastDot = binaryName.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : binaryName.substring(0, lastDot);
+        List<String> simpleNames = List.of(binaryName.substring(lastDot + 1).split("\\$"));
+        return ofClass(packageName, simpleNames, enumType, collection, typeArguments);
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getSimpleName() {
+        return isArray() ? componentType.getSimpleName() + "[]" : simpleNames.get(simpleNames.size() - 1);
+    }
+
+    /**
+     * Nome qualificado com pontos, inclusive para classes aninhadas.
+     */
+    String getQualifiedName() {
+        if (isArray()) {
+            return componentType.getQualifiedName() + "[]";
+        }
+        String name = String.join(".", simpleNames);
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    /**
+     * Nome binário, com {@code $} separando as classes aninhadas, como nos arquivos .class.
+     */
+    String getBinaryName() {
+        if (isArray()) {
+            return componentType.getBinaryName() + "[]";
+        }
+        String name = String.join("$", simpleNames);
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+
+    boolean isPrimitive() {
+        return primitive;
+    }
+
+    boolean isEnum() {
+        return enumType;
+    }
+
+    boolean isArray() {
+        return componentType != null;
+    }
+
+    boolean isCollection() {
+        return collection;
+    }
+
+    TypeMetadata getComponentType() {
+        return componentType;
+    }
+
+    List<TypeMetadata> getTypeArguments() {
+        return typeArguments;
+    }
+
+    boolean is(Class<?> type) {
+        return getQualifiedName().equals(type.getCanonicalName());
+    }
+
+    ClassName getClassName() {
+        if (primitive || isArray()) {
+            throw new IllegalStateException(getQualifiedName() + " não é uma classe");
+        }
+        return ClassName.get(packageName, simpleNames.get(0),
+                simpleNames.subList(1, simpleNames.size()).toArray(new String[0]));
+    }
+
+    /**
+     * Tipo bruto (sem argumentos genéricos) para uso no JavaPoet.
+     */
+    TypeName toTypeName() {
+        if (primitive) {
+            return PRIMITIVES.get(simpleNames.get(0));
+        }
+        if (isArray()) {
+            return ArrayTypeName.of(componentType.toTypeName());
+        }
+        return getClassName();
+    }
+
+    @Override
+    public String toString() {
+        return getQualifiedName();
+    }
+}
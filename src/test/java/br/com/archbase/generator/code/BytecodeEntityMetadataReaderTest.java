@@ -0,0 +1,168 @@
+package br.com.archbase.generator.code;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Leitura dos metadados a partir dos arquivos .class, em especial os argumentos genéricos extraídos das
+ * assinaturas dos campos.
+ */
+public class BytecodeEntityMetadataReaderTest {
+
+    private static final String ITEM = "Lcom/acme/Item;";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ClassFiles classFiles;
+    private TrackingClassLoader classLoader;
+    private BytecodeEntityMetadataReader reader;
+
+    @Before
+    public void createReader() throws Exception {
+        classFiles = new ClassFiles(folder.getRoot().toPath());
+        classFiles.type("com/acme/Item", "java/lang/Object").write();
+        classLoader = new TrackingClassLoader(new URL[]{folder.getRoot().toURI().toURL()}, getClass().getClassLoader());
+        reader = new BytecodeEntityMetadataReader(classLoader);
+    }
+
+    @Test
+    public void classTypeArgument() throws Exception {
+        TypeMetadata type = fieldType("Ljava/util/Set;", "Ljava/util/Set<" + ITEM + ">;");
+        assertTrue(type.isCollection());
+        assertEquals(expected("com.acme.Item"), names(type.getTypeArguments()));
+    }
+
+    @Test
+    public void parameterizedArgumentsAreSkippedWithTheirNestedArguments() throws Exception {
+        assertEquals(expected("java.lang.String", null),
+                names(fieldType("Ljava/util/Map;", "Ljava/util/Map<Ljava/lang/String;Ljava/util/List<" + ITEM + ">;>;").getTypeArguments()));
+        assertEquals(expected(null, "com.acme.Item"), names(fieldType("Ljava/util/Map;",
+                "Ljava/util/Map<Ljava/util/List<Ljava/util/Map<Ljava/lang/String;" + ITEM + ">;>;" + ITEM + ">;").getTypeArguments()));
+    }
+
+    @Test
+    public void wildcardsAndTypeVariablesAreNotResolved() throws Exception {
+        assertEquals(expected(null, null), names(fieldType("Ljava/util/Map;", "Ljava/util/Map<*+" + ITEM + ">;").getTypeArguments()));
+        assertEquals(expected(null, "com.acme.Item"), names(fieldType("Ljava/util/Map;", "Ljava/util/Map<-" + ITEM + ITEM + ">;").getTypeArguments()));
+        assertEquals(expected(null, "com.acme.Item"), names(fieldType("Ljava/util/Map;", "Ljava/util/Map<TK;" + ITEM + ">;").getTypeArguments()));
+    }
+
+    @Test
+    public void arrayArguments() throws Exception {
+        List<TypeMetadata> arguments = fieldType("Ljava/util/Map;", "Ljava/util/Map<[" + ITEM + "[I>;").getTypeArguments();
+        assertTrue(arguments.get(0).isArray());
+        assertEquals("com.acme.Item[]", arguments.get(0).getQualifiedName());
+        assertTrue(arguments.get(1).getComponentType().isPrimitive());
+        assertEquals("int[]", arguments.get(1).getQualifiedName());
+
+        assertEquals(expected(null, "com.acme.Item"), names(fieldType("Ljava/util/Map;", "Ljava/util/Map<[TK;" + ITEM + ">;").getTypeArguments()));
+        assertEquals(expected(null, "com.acme.Item"),
+                names(fieldType("Ljava/util/Map;", "Ljava/util/Map<[Ljava/util/List<Ljava/lang/String;>;" + ITEM + ">;").getTypeArguments()));
+    }
+
+    @Test
+    public void innerClassOfParameterizedType() throws Exception {
+        assertEquals(expected(null, "com.acme.Item"), names(fieldType("Ljava/util/Map;",
+                "Ljava/util/Map<Lcom/acme/Outer<Ljava/lang/String;>.Inner;" + ITEM + ">;").getTypeArguments()));
+    }
+
+    @Test
+    public void typeVariableFieldHasNoArguments() throws Exception {
+        TypeMetadata type = fieldType("Ljava/lang/Object;", "TT;");
+        assertEquals("java.lang.Object", type.getQualifiedName());
+        assertTrue(type.getTypeArguments().isEmpty());
+    }
+
+    @Test
+    public void nestedEnumAndCollectionSubclass() throws Exception {
+        classFiles.enumType("com/acme/Pedido$Situacao", "ABERTO", "FECHADO");
+        classFiles.type("com/acme/Itens", "java/util/ArrayList").write();
+        classFiles.type("com/acme/Pedido", "java/lang/Object")
+                .field("situacao", "Lcom/acme/Pedido$Situacao;")
+                .field("itens", "Lcom/acme/Itens;")
+                .field("quantidade", "I")
+                .write();
+
+        List<FieldMetadata> fields = reader.read("com.acme.Pedido").getDeclaredFields();
+        TypeMetadata situacao = fields.get(0).getType();
+        assertTrue(situacao.isEnum());
+        assertEquals("com.acme", situacao.getPackageName());
+        assertEquals("Situacao", situacao.getSimpleName());
+        assertEquals("com.acme.Pedido.Situacao", situacao.getQualifiedName());
+        assertTrue(fields.get(1).getType().isCollection());
+        assertTrue(fields.get(2).getType().isPrimitive());
+        assertEquals("int", fields.get(2).getType().getQualifiedName());
+    }
+
+    @Test
+    public void superclassesAreReadWithoutLoadingClasses() throws Exception {
+        classFiles.type("com/acme/base/EntidadeBase", "java/lang/Object").field("id", "Ljava/lang/String;").write();
+        classFiles.type("com/acme/Pedido", "com/acme/base/EntidadeBase").field("numero", "Ljava/lang/String;").write();
+
+        EntityMetadata entity = reader.read("com.acme.Pedido");
+        assertEquals("numero", entity.getDeclaredFields().get(0).getName());
+        EntityMetadata superclass = entity.getSuperclass();
+        assertNotNull(superclass);
+        assertEquals("com.acme.base.EntidadeBase", superclass.getType().getQualifiedName());
+        assertEquals("id", superclass.getDeclaredFields().get(0).getName());
+        assertEquals("java.lang.Object", superclass.getSuperclass().getType().getQualifiedName());
+        assertFalse(classLoader.isLoaded("com.acme.Pedido"));
+        assertFalse(classLoader.isLoaded("com.acme.base.EntidadeBase"));
+        assertEquals(2, reader.readInputs("com.acme.Pedido").size());
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void missingClass() throws Exception {
+        reader.read("com.acme.Inexistente");
+    }
+
+    private TypeMetadata fieldType(String descriptor, String signature) throws Exception {
+        classFiles.type("com/acme/Campo", "java/lang/Object").field("valor", descriptor, signature).write();
+        // Um leitor novo por campo, pois os arquivos lidos ficam em cache
+        BytecodeEntityMetadataReader fieldReader = new BytecodeEntityMetadataReader(classLoader);
+        return fieldReader.read("com.acme.Campo").getDeclaredFields().get(0).getType();
+    }
+
+    /**
+     * Nomes esperados, em que {@code null} representa um argumento não resolvido.
+     */
+    private static List<String> expected(String... names) {
+        return Arrays.asList(names);
+    }
+
+    private static List<String> names(List<TypeMetadata> types) {
+        List<String> list = new ArrayList<>();
+        for (TypeMetadata type : types) {
+            list.add(type != null ? type.getQualifiedName() : null);
+        }
+        return list;
+    }
+
+    /**
+     * Permite verificar que as classes lidas não foram carregadas.
+     */
+    private static final class TrackingClassLoader extends URLClassLoader {
+
+        TrackingClassLoader(URL[] urls, ClassLoader parent) {
+            super(urls, parent);
+        }
+
+        boolean isLoaded(String className) {
+            return findLoadedClass(className) != null;
+        }
+    }
+}
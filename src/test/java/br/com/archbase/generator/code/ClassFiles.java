@@ -0,0 +1,74 @@
+package br.com.archbase.generator.code;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Grava arquivos .class mínimos para os testes dos leitores de metadados, sem compilar fontes.
+ */
+final class ClassFiles {
+
+    private final Path directory;
+
+    ClassFiles(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Inicia uma classe com o nome interno ({@code com/acme/Pedido}) e a superclasse informados.
+     */
+    Builder type(String internalName, String superName) {
+        return new Builder(internalName, superName);
+    }
+
+    final class Builder {
+
+        private final String internalName;
+        private final ClassWriter writer = new ClassWriter(0);
+
+        private Builder(String internalName, String superName) {
+            this.internalName = internalName;
+            writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, superName, null);
+        }
+
+        Builder field(String name, String descriptor) {
+            return field(name, descriptor, null);
+        }
+
+        /**
+         * Campo com a assinatura genérica informada, como {@code Ljava/util/Set<Lcom/acme/Item;>;}.
+         */
+        Builder field(String name, String descriptor, String signature) {
+            writer.visitField(Opcodes.ACC_PRIVATE, name, descriptor, signature, null).visitEnd();
+            return this;
+        }
+
+        void write() throws IOException {
+            writer.visitEnd();
+            Path target = directory.resolve(internalName + ".class");
+            Files.createDirectories(target.getParent());
+            Files.write(target, writer.toByteArray());
+        }
+    }
+
+    /**
+     * Enum com as constantes informadas.
+     */
+    void enumType(String internalName, String... constants) throws IOException {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_ENUM, internalName,
+                "Ljava/lang/Enum<L" + internalName + ";>;", "java/lang/Enum", null);
+        for (String constant : constants) {
+            writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL | Opcodes.ACC_ENUM, constant,
+                    "L" + internalName + ";", null, null).visitEnd();
+        }
+        writer.visitEnd();
+        Path target = directory.resolve(internalName + ".class");
+        Files.createDirectories(target.getParent());
+        Files.write(target, writer.toByteArray());
+    }
+}
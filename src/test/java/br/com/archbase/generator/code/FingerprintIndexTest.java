@@ -0,0 +1,105 @@
+package br.com.archbase.generator.code;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Persistência do índice incremental e cálculo dos fingerprints.
+ */
+public class FingerprintIndexTest {
+
+    private static final List<byte[]> INPUTS = List.of(bytes("Pedido"), bytes("EntidadeBase"));
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void fingerprintDependsOnInputsAndSettings() {
+        String fingerprint = FingerprintIndex.fingerprint(INPUTS, "builder");
+        assertEquals(fingerprint, FingerprintIndex.fingerprint(List.of(bytes("Pedido"), bytes("EntidadeBase")), "builder"));
+        assertFalse(fingerprint.equals(FingerprintIndex.fingerprint(INPUTS, "direct")));
+        assertFalse(fingerprint.equals(FingerprintIndex.fingerprint(List.of(bytes("Pedido"), bytes("EntidadeBase2")), "builder")));
+        assertFalse(fingerprint.equals(FingerprintIndex.fingerprint(List.of(bytes("Pedido")), "builder")));
+    }
+
+    @Test
+    public void noFingerprintWithoutInputs() {
+        assertNull(FingerprintIndex.fingerprint(List.of(), "builder"));
+    }
+
+    @Test
+    public void missingIndexHasNothingUpToDate() throws Exception {
+        FingerprintIndex index = FingerprintIndex.load(new File(folder.getRoot(), "inexistente"));
+        assertFalse(index.isUpToDate("com.acme.Pedido", "abc"));
+        assertFalse(index.isUpToDate("com.acme.Pedido", null));
+    }
+
+    @Test
+    public void savedFingerprintsAreUpToDateInTheNextRun() throws Exception {
+        File directory = new File(folder.getRoot(), "archbase-generator");
+        FingerprintIndex first = FingerprintIndex.load(directory);
+        first.update("com.acme.Pedido", "abc");
+        first.update("com.acme.Cliente", null);
+        first.save();
+
+        FingerprintIndex second = FingerprintIndex.load(directory);
+        assertTrue(second.isUpToDate("com.acme.Pedido", "abc"));
+        assertFalse(second.isUpToDate("com.acme.Pedido", "def"));
+        assertFalse(second.isUpToDate("com.acme.Cliente", null));
+    }
+
+    @Test
+    public void entitiesNotProcessedAreDropped() throws Exception {
+        File directory = folder.getRoot();
+        FingerprintIndex first = FingerprintIndex.load(directory);
+        first.update("com.acme.Pedido", "abc");
+        first.update("com.acme.Cliente", "def");
+        first.save();
+
+        FingerprintIndex second = FingerprintIndex.load(directory);
+        second.update("com.acme.Pedido", "abc");
+        second.save();
+
+        FingerprintIndex third = FingerprintIndex.load(directory);
+        assertTrue(third.isUpToDate("com.acme.Pedido", "abc"));
+        assertFalse(third.isUpToDate("com.acme.Cliente", "def"));
+        assertEquals("com.acme.Pedido=abc\n",
+                Files.readString(new File(directory, FingerprintIndex.INDEX_FILE_NAME).toPath(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void classFileHierarchyStopsAtTheJdk() throws Exception {
+        Path classes = folder.newFolder("classes").toPath();
+        ClassFiles classFiles = new ClassFiles(classes);
+        classFiles.type("com/acme/base/EntidadeBase", "java/util/ArrayList").write();
+        classFiles.type("com/acme/Pedido", "com/acme/base/EntidadeBase").write();
+        classFiles.type("com/acme/Orfao", "com/acme/Inexistente").write();
+
+        ClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+        List<byte[]> hierarchy = FingerprintIndex.classFileHierarchy(classLoader, "com.acme.Pedido");
+        assertEquals(2, hierarchy.size());
+        assertArrayEquals(Files.readAllBytes(classes.resolve("com/acme/Pedido.class")), hierarchy.get(0));
+        assertArrayEquals(Files.readAllBytes(classes.resolve("com/acme/base/EntidadeBase.class")), hierarchy.get(1));
+        assertEquals(1, FingerprintIndex.classFileHierarchy(classLoader, "com.acme.Orfao").size());
+        assertTrue(FingerprintIndex.classFileHierarchy(classLoader, "com.acme.Inexistente").isEmpty());
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.archbase.generator.code;
+
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.TypeSpec;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Gravação dos arquivos gerados: somente quando o conteúdo muda e sem substituir alterações manuais
+ * quando {@code overwrite} está desativado.
+ */
+public class GeneratedFileWriterTest {
+
+    private static final FileTime PAST = FileTime.fromMillis(1_000_000_000_000L);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void targetFollowsThePackage() {
+        GeneratedFileWriter writer = new GeneratedFileWriter(folder.getRoot(), false);
+        assertEquals(folder.getRoot().toPath().resolve("com/acme/dto/PedidoDto.java"), writer.targetOf(javaFile("com.acme.dto", "numero")));
+        assertEquals(folder.getRoot().toPath().resolve("PedidoDto.java"), writer.targetOf(javaFile("", "numero")));
+    }
+
+    @Test
+    public void newFileIsWritten() throws Exception {
+        GeneratedFileWriter writer = new GeneratedFileWriter(folder.getRoot(), false);
+        JavaFile javaFile = javaFile("com.acme.dto", "numero");
+
+        assertEquals(GeneratedFileWriter.Outcome.WRITTEN, writer.write(javaFile));
+        assertArrayEquals(writer.render(javaFile), Files.readAllBytes(writer.targetOf(javaFile)));
+        assertEquals(1, writer.getWritten());
+        assertEquals(List.of("PedidoDto.java"), fileNames(writer.targetOf(javaFile).getParent()));
+    }
+
+    @Test
+    public void identicalFileIsNotTouched() throws Exception {
+        JavaFile javaFile = javaFile("com.acme.dto", "numero");
+        Path target = write(javaFile);
+        Files.setLastModifiedTime(target, PAST);
+
+        GeneratedFileWriter writer = new GeneratedFileWriter(folder.getRoot(), true);
+        assertEquals(GeneratedFileWriter.Outcome.UNCHANGED, writer.write(javaFile));
+        assertEquals(PAST, Files.getLastModifiedTime(target));
+        assertEquals(1, writer.getUnchanged());
+        assertEquals(0, writer.getWritten());
+    }
+
+    @Test
+    public void changedFileIsPreservedWithoutOverwrite() throws Exception {
+        Path target = write(javaFile("com.acme.dto", "numero"));
+        Files.writeString(target, "// alterado à mão", StandardCharsets.UTF_8);
+
+        GeneratedFileWriter writer = new GeneratedFileWriter(folder.getRoot(), false);
+        assertEquals(GeneratedFileWriter.Outcome.SKIPPED, writer.write(javaFile("com.acme.dto", "numero")));
+        assertEquals("// alterado à mão", Files.readString(target, StandardCharsets.UTF_8));
+        assertEquals(1, writer.getSkipped());
+    }
+
+    @Test
+    public void changedFileIsReplacedWithOverwrite() throws Exception {
+        Path target = write(javaFile("com.acme.dto", "numero"));
+        JavaFile changed = javaFile("com.acme.dto", "codigo");
+
+        GeneratedFileWriter writer = new GeneratedFileWriter(folder.getRoot(), true);
+        assertEquals(GeneratedFileWriter.Outcome.WRITTEN, writer.write(changed));
+        assertArrayEquals(writer.render(changed), Files.readAllBytes(target));
+        assertEquals(List.of("PedidoDto.java"), fileNames(target.getParent()));
+    }
+
+    private Path write(JavaFile javaFile) throws Exception {
+        GeneratedFileWriter writer = new GeneratedFileWriter(folder.getRoot(), false);
+        writer.write(javaFile);
+        return writer.targetOf(javaFile);
+    }
+
+    private static JavaFile javaFile(String packageName, String field) {
+        TypeSpec type = TypeSpec.classBuilder("PedidoDto").addField(FieldSpec.builder(String.class, field).build()).build();
+        return JavaFile.builder(packageName, type).build();
+    }
+
+    /**
+     * Arquivos do diretório, para verificar que nenhum temporário ficou para trás.
+     */
+    private static List<String> fileNames(Path directory) throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
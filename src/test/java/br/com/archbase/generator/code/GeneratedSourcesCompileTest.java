@@ -0,0 +1,89 @@
+package br.com.archbase.generator.code;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compila os fontes gerados para o projeto de exemplo com as opções combinadas, junto das entidades JPA
+ * escritas à mão, como aconteceria no projeto de destino.
+ *
+ * Os benchmarks de mapeamento ({@code generateBenchmark}) ficam de fora, pois dependem do JMH.
+ */
+public class GeneratedSourcesCompileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SampleProject project;
+
+    @Before
+    public void createProject() throws Exception {
+        project = SampleProject.create(folder.getRoot().toPath());
+    }
+
+    @Test
+    public void defaultOptions() throws Exception {
+        assertCompiles(project.mojo());
+    }
+
+    @Test
+    public void directMapping() throws Exception {
+        ArchbaseGeneratorCodeMojo mojo = project.mojo();
+        Mojos.set(mojo, "dtoMappingStyle", "direct");
+        assertCompiles(mojo);
+    }
+
+    @Test
+    public void combinedOptions() throws Exception {
+        assertCompiles(withAllOptions(project.mojo()));
+    }
+
+    @Test
+    public void combinedOptionsWithDirectMapping() throws Exception {
+        ArchbaseGeneratorCodeMojo mojo = withAllOptions(project.mojo());
+        Mojos.set(mojo, "dtoMappingStyle", "direct");
+        assertCompiles(mojo);
+    }
+
+    private ArchbaseGeneratorCodeMojo withAllOptions(ArchbaseGeneratorCodeMojo mojo) throws ReflectiveOperationException {
+        for (String option : List.of("dtoMappingContext", "keysetPagination", "sliceQueries", "streamingExport",
+                "batchOperations", "conditionalRequests", "asyncEndpoints", "entityGraphs", "instrumentation")) {
+            Mojos.set(mojo, option, true);
+        }
+        List<ClassMapping> classMappings = new ArrayList<>();
+        for (String entity : SampleProject.ENTITIES) {
+            ClassMapping classMapping = new ClassMapping();
+            classMapping.baseClass = entity;
+            classMapping.targetPackageSuffix = ".pedido";
+            classMapping.cache = true;
+            classMappings.add(classMapping);
+        }
+        ProjectionMapping resumo = new ProjectionMapping();
+        resumo.name = "resumo";
+        resumo.fields = new ArrayList<>(List.of("numero", "status", "cliente.nome", "itens"));
+        resumo.maxDepth = 1;
+        ProjectionMapping basico = new ProjectionMapping();
+        basico.name = "basico";
+        basico.query = true;
+        classMappings.get(0).projections = new ArrayList<>(List.of(resumo, basico));
+        Mojos.set(mojo, "entityClasses", classMappings);
+        return mojo;
+    }
+
+    private void assertCompiles(ArchbaseGeneratorCodeMojo mojo) throws Exception {
+        SampleProject.execute(mojo);
+        List<Path> sources = new ArrayList<>(SampleProject.sources(project.outputDirectory()));
+        sources.addAll(SampleProject.sources(SampleProject.sampleDirectory("persistence")));
+        String errors = SampleProject.compile(sources, folder.newFolder("generated-classes").toPath(),
+                List.of(project.classesDirectory()));
+        assertTrue(errors, errors.isEmpty());
+    }
+}
@@ -0,0 +1,147 @@
+package br.com.archbase.generator.code;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compara os fontes gerados para o projeto de exemplo com os arquivos de referência em
+ * {@code src/test/resources/golden}.
+ *
+ * Quando uma alteração no gerador muda a saída de propósito, as referências são regravadas com
+ * {@code mvn test -Dtest=GeneratedSourcesGoldenTest -Darchbase.updateGolden=true}, e a diferença é revisada
+ * junto com a alteração.
+ */
+public class GeneratedSourcesGoldenTest {
+
+    private static final String GOLDEN_DIRECTORY = "golden";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SampleProject project;
+
+    @Before
+    public void createProject() throws Exception {
+        project = SampleProject.create(folder.getRoot().toPath());
+    }
+
+    @Test
+    public void builderMapping() throws Exception {
+        SampleProject.execute(project.mojo());
+        assertMatchesGolden("builder");
+    }
+
+    @Test
+    public void directMapping() throws Exception {
+        ArchbaseGeneratorCodeMojo mojo = project.mojo();
+        Mojos.set(mojo, "dtoMappingStyle", "direct");
+        List<ClassMapping> classMappings = new ArrayList<>();
+        for (String entity : SampleProject.ENTITIES) {
+            ClassMapping classMapping = new ClassMapping();
+            classMapping.baseClass = entity;
+            classMapping.targetPackageSuffix = ".pedido";
+            classMapping.generateRepository = false;
+            classMapping.generateMapper = false;
+            classMapping.generateAdapter = false;
+            classMapping.generateService = false;
+            classMapping.generateController = false;
+            classMappings.add(classMapping);
+        }
+        Mojos.set(mojo, "entityClasses", classMappings);
+        SampleProject.execute(mojo);
+        assertMatchesGolden("direct");
+    }
+
+    @Test
+    public void directMappingWithContext() throws Exception {
+        ArchbaseGeneratorCodeMojo mojo = project.mojo();
+        Mojos.set(mojo, "dtoMappingStyle", "direct");
+        Mojos.set(mojo, "dtoMappingContext", true);
+        List<ClassMapping> classMappings = new ArrayList<>();
+        for (String entity : SampleProject.ENTITIES) {
+            ClassMapping classMapping = new ClassMapping();
+            classMapping.baseClass = entity;
+            classMapping.targetPackageSuffix = ".pedido";
+            classMapping.generateRepository = false;
+            classMapping.generateMapper = false;
+            classMapping.generateAdapter = false;
+            classMapping.generateService = false;
+            classMapping.generateController = false;
+            classMappings.add(classMapping);
+        }
+        Mojos.set(mojo, "entityClasses", classMappings);
+        SampleProject.execute(mojo);
+        assertMatchesGolden("direct-context");
+    }
+
+    @Test
+    public void bytecodeBackendMatchesReflection() throws Exception {
+        ArchbaseGeneratorCodeMojo mojo = project.mojo();
+        Mojos.set(mojo, "metadataBackend", "bytecode");
+        SampleProject.execute(mojo);
+        assertMatchesGolden("builder");
+    }
+
+    @Test
+    public void sourceBackendMatchesReflection() throws Exception {
+        ArchbaseGeneratorCodeMojo mojo = project.mojo();
+        Mojos.set(mojo, "metadataBackend", "source");
+        SampleProject.execute(mojo);
+        assertMatchesGolden("builder");
+    }
+
+    private void assertMatchesGolden(String name) throws IOException, URISyntaxException {
+        Path generated = project.outputDirectory();
+        if (Boolean.getBoolean("archbase.updateGolden")) {
+            updateGolden(generated, Paths.get("src/test/resources", GOLDEN_DIRECTORY, name));
+            return;
+        }
+        Path golden = Paths.get(getClass().getResource("/" + GOLDEN_DIRECTORY + "/" + name).toURI());
+        List<String> files = relativeFiles(golden);
+        assertEquals("arquivos gerados", files, relativeFiles(generated));
+        for (String file : files) {
+            assertEquals(file, Files.readString(golden.resolve(file), StandardCharsets.UTF_8),
+                    Files.readString(generated.resolve(file), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static List<String> relativeFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .map(file -> directory.relativize(file).toString().replace('\\', '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static void updateGolden(Path generated, Path golden) throws IOException {
+        if (Files.exists(golden)) {
+            try (Stream<Path> paths = Files.walk(golden)) {
+                for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(path);
+                }
+            }
+        }
+        for (String file : relativeFiles(generated)) {
+            Path target = golden.resolve(file);
+            Files.createDirectories(target.getParent());
+            Files.copy(generated.resolve(file), target);
+        }
+    }
+}
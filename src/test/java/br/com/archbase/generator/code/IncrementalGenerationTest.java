@@ -0,0 +1,81 @@
+package br.com.archbase.generator.code;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Geração incremental do projeto de exemplo, conferida pelo status de cada entidade no relatório de geração.
+ */
+public class IncrementalGenerationTest {
+
+    private static final String PEDIDO = "com.acme.domain.pedido.Pedido";
+    private static final String ITEM_PEDIDO = "com.acme.domain.pedido.ItemPedido";
+    private static final String CLIENTE = "com.acme.domain.pedido.Cliente";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SampleProject project;
+
+    @Before
+    public void createProject() throws Exception {
+        project = SampleProject.create(folder.getRoot().toPath());
+    }
+
+    @Test
+    public void unchangedEntitiesAreSkipped() throws Exception {
+        assertEquals(Map.of(PEDIDO, "GENERATED", ITEM_PEDIDO, "GENERATED", CLIENTE, "GENERATED"), generate());
+        assertEquals(Map.of(PEDIDO, "UP_TO_DATE", ITEM_PEDIDO, "UP_TO_DATE", CLIENTE, "UP_TO_DATE"), generate());
+    }
+
+    @Test
+    public void changedFieldTypeRegeneratesTheEntity() throws Exception {
+        generate();
+        Path source = folder.getRoot().toPath().resolve("StatusPedido.java");
+        Files.writeString(source, String.join("\n",
+                "package com.acme.domain.pedido;",
+                "public class StatusPedido {",
+                "    private String codigo;",
+                "}"), StandardCharsets.UTF_8);
+        String errors = SampleProject.compile(List.of(source), project.classesDirectory(), List.of(project.classesDirectory()));
+        assertTrue(errors, errors.isEmpty());
+
+        assertEquals(Map.of(PEDIDO, "GENERATED", ITEM_PEDIDO, "UP_TO_DATE", CLIENTE, "UP_TO_DATE"), generate());
+        String pedidoDto = Files.readString(project.outputDirectory().resolve("com/acme/dto/pedido/PedidoDto.java"),
+                StandardCharsets.UTF_8);
+        assertTrue(pedidoDto.contains("StatusPedidoDto status"));
+    }
+
+    /**
+     * Gera com {@code incremental} e {@code overwrite} e retorna o status de cada entidade no relatório.
+     */
+    private Map<String, String> generate() throws Exception {
+        ArchbaseGeneratorCodeMojo mojo = project.mojo();
+        Mojos.set(mojo, "incremental", true);
+        Mojos.set(mojo, "overwrite", true);
+        Mojos.set(mojo, "report", true);
+        SampleProject.execute(mojo);
+        Path csv = folder.getRoot().toPath().resolve("target/archbase-generator").resolve(GenerationReport.CSV_FILE_NAME);
+        Map<String, String> statuses = new TreeMap<>();
+        List<String> lines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            if (!columns[0].equals(GenerationReport.SHARED)) {
+                statuses.put(columns[0], columns[1]);
+            }
+        }
+        return statuses;
+    }
+}
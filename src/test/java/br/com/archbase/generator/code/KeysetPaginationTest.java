@@ -0,0 +1,134 @@
+package br.com.archbase.generator.code;
+
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.lang.model.element.Modifier;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Ida e volta dos valores de chave gravados no cursor pelo {@code KeysetPagination} gerado.
+ *
+ * Os métodos {@code format} e {@code parseTemporal} gerados são compilados isoladamente, pois o restante da
+ * classe depende do JPA e do Spring Data.
+ */
+public class KeysetPaginationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Method format;
+    private Method parseTemporal;
+
+    @Before
+    public void compileValueMethods() throws Exception {
+        ArchbaseGeneratorCodeMojo mojo = new ArchbaseGeneratorCodeMojo();
+        Mojos.set(mojo, "adapterOutputPackageBase", "com.acme.adapter");
+        Mojos.set(mojo, "dtoOutputPackageBase", "com.acme.dto");
+        TypeSpec keyset = mojo.generateKeysetPagination().typeSpec;
+
+        TypeSpec.Builder values = TypeSpec.classBuilder("KeysetValues").addModifiers(Modifier.PUBLIC);
+        for (MethodSpec method : keyset.methodSpecs) {
+            if (method.name.equals("format") || method.name.equals("parseTemporal")) {
+                values.addMethod(method);
+            }
+        }
+        File sources = folder.newFolder("src");
+        File classes = folder.newFolder("classes");
+        JavaFile.builder("com.acme.adapter", values.build()).build().writeTo(sources);
+        int status = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-encoding", "UTF-8", "-d", classes.getPath(),
+                new File(sources, "com/acme/adapter/KeysetValues.java").getPath());
+        assertEquals("compilação de KeysetValues", 0, status);
+
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader());
+        Class<?> type = loader.loadClass("com.acme.adapter.KeysetValues");
+        format = type.getDeclaredMethod("format", Object.class);
+        format.setAccessible(true);
+        parseTemporal = type.getDeclaredMethod("parseTemporal", String.class, Class.class);
+        parseTemporal.setAccessible(true);
+    }
+
+    @Test
+    public void dateKeepsMillisecondsAndIgnoresTimeZone() throws Exception {
+        Date date = new Date(1700000000123L);
+        TimeZone original = TimeZone.getDefault();
+        String text;
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+            text = format(date);
+        } finally {
+            TimeZone.setDefault(original);
+        }
+        assertEquals("1700000000123", text);
+        assertEquals(date, roundTrip(date, Date.class));
+    }
+
+    @Test
+    public void sqlDateRoundTrip() throws Exception {
+        java.sql.Date date = new java.sql.Date(1700000000123L);
+        assertEquals(date, roundTrip(date, java.sql.Date.class));
+    }
+
+    @Test
+    public void timestampKeepsNanoseconds() throws Exception {
+        Timestamp timestamp = new Timestamp(1700000000123L);
+        timestamp.setNanos(123456789);
+        assertEquals(timestamp, roundTrip(timestamp, Timestamp.class));
+    }
+
+    @Test
+    public void calendarRoundTrip() throws Exception {
+        Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("Asia/Tokyo"));
+        calendar.setTimeInMillis(1700000000123L);
+        Calendar decoded = (Calendar) roundTrip(calendar, Calendar.class);
+        assertEquals(calendar.getTimeInMillis(), decoded.getTimeInMillis());
+    }
+
+    @Test
+    public void javaTimeRoundTrip() throws Exception {
+        LocalDateTime localDateTime = LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123456789);
+        assertEquals(localDateTime, roundTrip(localDateTime, LocalDateTime.class));
+        assertEquals(LocalDate.of(2024, 2, 29), roundTrip(LocalDate.of(2024, 2, 29), LocalDate.class));
+        Instant instant = Instant.ofEpochSecond(1700000000L, 123456789);
+        assertEquals(instant, roundTrip(instant, Instant.class));
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(localDateTime, ZoneOffset.ofHours(-3));
+        assertEquals(offsetDateTime, roundTrip(offsetDateTime, OffsetDateTime.class));
+    }
+
+    @Test
+    public void otherTypesAreLeftToTheConversionService() throws Exception {
+        assertEquals("BLOCKED", format(Thread.State.BLOCKED));
+        assertEquals("42", format(42L));
+        assertNull(parseTemporal.invoke(null, "42", Long.class));
+    }
+
+    private String format(Object value) throws Exception {
+        return (String) format.invoke(null, value);
+    }
+
+    private Object roundTrip(Object value, Class<?> type) throws Exception {
+        return parseTemporal.invoke(null, format(value), type);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.archbase.generator.code;
+
+import java.lang.reflect.Field;
+
+/**
+ * Acesso aos parâmetros do mojo nos testes, que o Maven preenche diretamente nos campos.
+ */
+final class Mojos {
+
+    private Mojos() {
+    }
+
+    static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
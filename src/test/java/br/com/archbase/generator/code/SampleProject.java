@@ -0,0 +1,181 @@
+package br.com.archbase.generator.code;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Projeto de exemplo usado pelos testes de geração, a partir dos fontes de {@code src/test/resources/sample}.
+ *
+ * {@code domain} tem as entidades {@code Pedido}, {@code ItemPedido} e {@code Cliente}, com associações,
+ * coleções e ciclos ({@code Pedido.itens}/{@code ItemPedido.pedido} e {@code Pedido.cliente}/{@code Cliente.ultimoPedido}).
+ * {@code framework} tem versões mínimas das classes referenciadas pelo código gerado que não estão no classpath
+ * de testes, como as do Archbase e do Jackson, e {@code persistence} as entidades JPA que no projeto real são
+ * escritas à mão. Spring, JPA e Lombok vêm das dependências de teste.
+ */
+final class SampleProject {
+
+    static final String ENTITY_PACKAGE_BASE = "com.acme.domain";
+    static final List<String> ENTITIES = List.of("com.acme.domain.pedido.Pedido", "com.acme.domain.pedido.ItemPedido",
+            "com.acme.domain.pedido.Cliente");
+
+    private final Path baseDirectory;
+    private final Path classesDirectory;
+
+    private SampleProject(Path baseDirectory) {
+        this.baseDirectory = baseDirectory;
+        this.classesDirectory = baseDirectory.resolve("target/classes");
+    }
+
+    /**
+     * Compila o domínio e as classes de framework em {@code baseDirectory/target/classes}.
+     */
+    static SampleProject create(Path baseDirectory) throws IOException {
+        SampleProject project = new SampleProject(baseDirectory);
+        List<Path> sources = new ArrayList<>(sources(sampleDirectory("framework")));
+        sources.addAll(sources(sampleDirectory("domain")));
+        String errors = compile(sources, project.classesDirectory, List.of());
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("Falha ao compilar o projeto de exemplo:\n" + errors);
+        }
+        return project;
+    }
+
+    static Path sampleDirectory(String name) {
+        try {
+            return Paths.get(SampleProject.class.getResource("/sample/" + name).toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Cria o mojo configurado como no pom de um projeto, com um {@code classMapping} por entidade do exemplo.
+     */
+    ArchbaseGeneratorCodeMojo mojo() throws ReflectiveOperationException {
+        ArchbaseGeneratorCodeMojo mojo = new ArchbaseGeneratorCodeMojo();
+        Mojos.set(mojo, "entityPackageBase", ENTITY_PACKAGE_BASE);
+        Mojos.set(mojo, "dtoOutputPackageBase", "com.acme.dto");
+        Mojos.set(mojo, "adapterOutputPackageBase", "com.acme.adapter");
+        Mojos.set(mojo, "repositoryOutputPackageBase", "com.acme.repository");
+        Mojos.set(mojo, "persistenceOutputPackageBase", "com.acme.persistence");
+        Mojos.set(mojo, "mapperOutputPackageBase", "com.acme.mapper");
+        Mojos.set(mojo, "serviceOutputPackageBase", "com.acme.service");
+        Mojos.set(mojo, "controllerOutputPackageBase", "com.acme.controller");
+        Mojos.set(mojo, "securityAdapterClassName", "com.acme.security.SecurityAdapter");
+        List<ClassMapping> classMappings = new ArrayList<>();
+        for (String entity : ENTITIES) {
+            ClassMapping classMapping = new ClassMapping();
+            classMapping.baseClass = entity;
+            classMapping.targetPackageSuffix = ".pedido";
+            classMappings.add(classMapping);
+        }
+        Mojos.set(mojo, "entityClasses", classMappings);
+        Mojos.set(mojo, "classpathElements", List.of(classesDirectory.toString()));
+        Mojos.set(mojo, "metadataBackend", "reflection");
+        Mojos.set(mojo, "dtoMappingStyle", "builder");
+        Mojos.set(mojo, "incremental", false);
+        Mojos.set(mojo, "workDirectory", baseDirectory.resolve("target/archbase-generator").toFile());
+        Mojos.set(mojo, "streamFetchSize", 500);
+        Mojos.set(mojo, "batchSize", 50);
+        Mojos.set(mojo, "asyncPoolSize", 10);
+        Mojos.set(mojo, "asyncQueueCapacity", 1000);
+        Mojos.set(mojo, "batchFetchSize", 50);
+        MavenProject project = new MavenProject();
+        project.setFile(baseDirectory.resolve("pom.xml").toFile());
+        project.addCompileSourceRoot(sampleDirectory("domain").toString());
+        Mojos.set(mojo, "project", project);
+        mojo.setLog(new QuietLog());
+        return mojo;
+    }
+
+    /**
+     * Executa o mojo restaurando o classloader de contexto, que {@code execute()} substitui.
+     */
+    static void execute(ArchbaseGeneratorCodeMojo mojo) throws Exception {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            mojo.execute();
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    Path outputDirectory() {
+        return baseDirectory.resolve("src/main/java");
+    }
+
+    Path classesDirectory() {
+        return classesDirectory;
+    }
+
+    static List<Path> sources(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.toString().endsWith(".java")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Compila os fontes com o classpath dos testes (e o Lombok como processador de anotações) mais
+     * {@code classpath}, retornando os erros encontrados ou uma string vazia.
+     */
+    static String compile(List<Path> sources, Path outputDirectory, List<Path> classpath) throws IOException {
+        Files.createDirectories(outputDirectory);
+        String testClasspath = System.getProperty("java.class.path");
+        List<String> classpathEntries = new ArrayList<>();
+        for (Path entry : classpath) {
+            classpathEntries.add(entry.toString());
+        }
+        classpathEntries.add(testClasspath);
+        List<String> options = List.of("-encoding", "UTF-8", "-nowarn",
+                "-d", outputDirectory.toString(),
+                "-classpath", String.join(File.pathSeparator, classpathEntries),
+                "-processorpath", testClasspath);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(sources);
+            compiler.getTask(null, fileManager, diagnostics, options, null, units).call();
+        }
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(Object::toString)
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Descarta as mensagens informativas do mojo; avisos e erros continuam na saída dos testes.
+     */
+    static final class QuietLog extends SystemStreamLog {
+
+        @Override
+        public boolean isInfoEnabled() {
+            return false;
+        }
+
+        @Override
+        public void info(CharSequence content) {
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.archbase.generator.code;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Resolução dos nomes de tipos nos fontes das entidades e sua conversão em nomes binários para os tipos
+ * que só existem no classpath.
+ */
+public class SourceEntityMetadataReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path sources;
+    private SourceEntityMetadataReader reader;
+    private Map<String, TypeMetadata> pedido;
+
+    @Before
+    public void readPedido() throws Exception {
+        sources = folder.newFolder("src").toPath();
+        Path classes = folder.newFolder("classes").toPath();
+        ClassFiles classFiles = new ClassFiles(classes);
+        classFiles.type("com/acme/base/Base", "java/lang/Object").write();
+        classFiles.type("com/acme/base/Base$Nivel", "java/lang/Object").field("criadoEm", "Ljava/time/LocalDateTime;").write();
+
+        source("com/acme/domain/Pedido.java",
+                "package com.acme.domain;",
+                "",
+                "import com.acme.base.Base;",
+                "import com.acme.curinga.*;",
+                "import com.acme.outro.Endereco;",
+                "import java.util.*;",
+                "",
+                "public class Pedido extends Base.Nivel {",
+                "    private Endereco endereco;",
+                "    private Cliente cliente;",
+                "    private Vendedor vendedor;",
+                "    private Set<Item> itens;",
+                "    private Itens colecao;",
+                "    private Map.Entry<String, Integer> entrada;",
+                "    private String numero;",
+                "    private java.math.BigDecimal total;",
+                "    private Situacao situacao;",
+                "    private Situacao[] historico;",
+                "    private Map<String, List<Item>> agrupados;",
+                "    private Set<? extends Item> derivados;",
+                "    private Desconhecido desconhecido;",
+                "",
+                "    public enum Situacao { ABERTO, FECHADO }",
+                "}");
+        source("com/acme/domain/Cliente.java",
+                "package com.acme.domain;",
+                "",
+                "public class Cliente {",
+                "    private Pedido.Situacao situacao;",
+                "}");
+        source("com/acme/domain/Item.java", "package com.acme.domain;", "", "public class Item {", "}");
+        source("com/acme/domain/Itens.java", "package com.acme.domain;", "", "public class Itens extends java.util.ArrayList<Item> {", "}");
+        source("com/acme/domain/Registro.java",
+                "package com.acme.domain;",
+                "",
+                "import java.util.List;",
+                "",
+                "public class Registro<T extends Item> {",
+                "    private T valor;",
+                "    private List<T> valores;",
+                "}");
+        source("com/acme/outro/Endereco.java", "package com.acme.outro;", "", "public class Endereco {", "}");
+        source("com/acme/curinga/Vendedor.java", "package com.acme.curinga;", "", "public class Vendedor {", "}");
+
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+        reader = new SourceEntityMetadataReader(List.of(sources), "com.acme.domain",
+                new BytecodeEntityMetadataReader(classLoader));
+        pedido = fields(reader.read("com.acme.domain.Pedido"));
+    }
+
+    @Test
+    public void importsSamePackageAndWildcards() {
+        assertEquals("com.acme.outro.Endereco", pedido.get("endereco").getQualifiedName());
+        assertEquals("com.acme.domain.Cliente", pedido.get("cliente").getQualifiedName());
+        assertEquals("com.acme.curinga.Vendedor", pedido.get("vendedor").getQualifiedName());
+        assertEquals("java.util.Set", pedido.get("itens").getQualifiedName());
+        assertTrue(pedido.get("itens").isCollection());
+        assertEquals("com.acme.domain.Item", pedido.get("itens").getTypeArguments().get(0).getQualifiedName());
+        assertTrue(pedido.get("colecao").isCollection());
+    }
+
+    @Test
+    public void javaLangAndQualifiedNames() {
+        assertEquals("java.lang.String", pedido.get("numero").getQualifiedName());
+        assertEquals("java.math.BigDecimal", pedido.get("total").getQualifiedName());
+    }
+
+    @Test
+    public void unresolvedNamesBelongToTheSamePackage() {
+        assertEquals("com.acme.domain.Desconhecido", pedido.get("desconhecido").getQualifiedName());
+    }
+
+    @Test
+    public void nestedSourceTypes() throws Exception {
+        TypeMetadata situacao = pedido.get("situacao");
+        assertTrue(situacao.isEnum());
+        assertEquals("com.acme.domain", situacao.getPackageName());
+        assertEquals("com.acme.domain.Pedido.Situacao", situacao.getQualifiedName());
+        assertEquals("com.acme.domain.Pedido.Situacao[]", pedido.get("historico").getQualifiedName());
+
+        TypeMetadata qualified = fields(reader.read("com.acme.domain.Cliente")).get("situacao");
+        assertTrue(qualified.isEnum());
+        assertEquals("com.acme.domain.Pedido.Situacao", qualified.getQualifiedName());
+    }
+
+    @Test
+    public void nestedClasspathTypesUseBinaryNames() throws Exception {
+        TypeMetadata entrada = pedido.get("entrada");
+        assertEquals("java.util", entrada.getPackageName());
+        assertEquals("Entry", entrada.getSimpleName());
+        assertEquals("java.util.Map.Entry", entrada.getQualifiedName());
+        assertEquals(Arrays.asList("java.lang.String", "java.lang.Integer"), names(entrada.getTypeArguments()));
+
+        EntityMetadata superclass = reader.read("com.acme.domain.Pedido").getSuperclass();
+        assertEquals("com.acme.base", superclass.getPackageName());
+        assertEquals("com.acme.base.Base.Nivel", superclass.getType().getQualifiedName());
+        assertEquals("criadoEm", superclass.getDeclaredFields().get(0).getName());
+        assertEquals(2, reader.readInputs("com.acme.domain.Pedido").size());
+    }
+
+    @Test
+    public void typeArgumentsMatchTheBytecodeBackend() {
+        assertEquals(Arrays.asList("java.lang.String", null), names(pedido.get("agrupados").getTypeArguments()));
+        assertEquals(Arrays.asList((String) null), names(pedido.get("derivados").getTypeArguments()));
+    }
+
+    @Test
+    public void typeVariablesUseTheirBound() throws Exception {
+        Map<String, TypeMetadata> registro = fields(reader.read("com.acme.domain.Registro"));
+        assertEquals("com.acme.domain.Item", registro.get("valor").getQualifiedName());
+        assertNull(registro.get("valores").getTypeArguments().get(0));
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void missingSource() throws Exception {
+        reader.read("com.acme.domain.Inexistente");
+    }
+
+    private void source(String path, String... lines) throws IOException {
+        Path file = sources.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, TypeMetadata> fields(EntityMetadata entity) {
+        Map<String, TypeMetadata> fields = new LinkedHashMap<>();
+        for (FieldMetadata field : entity.getDeclaredFields()) {
+            fields.put(field.getName(), field.getType());
+        }
+        return fields;
+    }
+
+    private static List<String> names(List<TypeMetadata> types) {
+        String[] names = new String[types.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = types.get(i) != null ? types.get(i).getQualifiedName() : null;
+        }
+        return Arrays.asList(names);
+    }
+}
@@ -0,0 +1,155 @@
+package com.acme.adapter.pedido;
+
+import br.com.archbase.ddd.domain.contracts.EntityPersistenceMapper;
+import br.com.archbase.ddd.domain.contracts.EntityPersistencePort;
+import br.com.archbase.ddd.domain.contracts.FindDataWithFilterQuery;
+import br.com.archbase.query.rsql.jpa.SortUtils;
+import com.acme.domain.pedido.Cliente;
+import com.acme.dto.pedido.ClienteDto;
+import com.acme.persistence.pedido.ClienteEntity;
+import com.acme.repository.pedido.ClienteJpaRepository;
+import java.lang.Override;
+import java.lang.String;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional(
+    readOnly = true
+)
+public class ClientePersistenceAdapter implements EntityPersistencePort<Cliente, Cliente>, FindDataWithFilterQuery<String, ClienteDto> {
+  @Autowired
+  private ClienteJpaRepository repository;
+
+  @Autowired
+  private EntityPersistenceMapper<Cliente, ClienteEntity> mapper;
+
+  @Override
+  @Transactional
+  public Cliente saveEntity(Cliente entity) {
+    ClienteEntity persistenceEntity = mapper.toEntity(entity);
+    ClienteEntity savedEntity = repository.save(persistenceEntity);
+    return mapper.toDomain(savedEntity);
+  }
+
+  @Override
+  @Transactional
+  public Cliente removeEntity(Cliente entity) {
+    repository.deleteById(entity.getId().toString());
+    return entity;
+  }
+
+  @Override
+  public Optional<Cliente> getEntityById(String id) {
+    Optional<ClienteEntity> entityOptional = repository.findById(id);
+    return entityOptional.map(mapper::toDomain);
+  }
+
+  @Override
+  public Optional<Cliente> getEntityByName(String name) {
+    return null;
+  }
+
+  @Override
+  public boolean existsEntityByName(String name) {
+    return false;
+  }
+
+  public boolean existsEntityById(String id) {
+    return repository.existsById(id);
+  }
+
+  /**
+   * Altera a entidade com uma única leitura: a busca pelo id deixa a entidade gerenciada e o merge feito
+   * pelo save a reaproveita, sem outro select. Uma versão desatualizada falha pelo controle otimista.
+   */
+  @Transactional
+  public Optional<Cliente> updateEntity(Cliente entity) {
+    if (repository.findById(entity.getId().toString()).isEmpty()) {
+      return Optional.empty();
+    }
+    ClienteEntity savedEntity = repository.save(mapper.toEntity(entity));
+    return Optional.of(mapper.toDomain(savedEntity));
+  }
+
+  /**
+   * Remove a entidade com uma única leitura, retornando o estado removido.
+   */
+  @Transactional
+  public Optional<Cliente> removeEntityById(String id) {
+    Optional<ClienteEntity> entityOptional = repository.findById(id);
+    Optional<Cliente> removedEntity = entityOptional.map(mapper::toDomain);
+    entityOptional.ifPresent(repository::delete);
+    return removedEntity;
+  }
+
+  @Override
+  public ClienteDto findById(String id) {
+    Optional<ClienteEntity> byId = repository.findById(id);
+    return byId.map(ClienteEntity::toDto).orElse(null);
+  }
+
+  @Override
+  public Page<ClienteDto> findAll(int page, int size) {
+    Pageable pageable = PageRequest.of(page, size);
+    Page<ClienteEntity> result = repository.findAll(pageable);
+    List<ClienteDto> list = result.stream().map(ClienteEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  @Override
+  public Page<ClienteDto> findAll(int page, int size, String[] sort) {
+    Pageable pageable = PageRequest.of(page, size, Sort.by(SortUtils.convertSortToJpa(sort)));
+    Page<ClienteEntity> result = repository.findAll(pageable);
+    List<ClienteDto> list = result.stream().map(ClienteEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  @Override
+  public List<ClienteDto> findAll(List<String> ids) {
+    List<ClienteEntity> result = repository.findAllById(ids);
+    return result.stream().map(ClienteEntity::toDto).toList();
+  }
+
+  @Override
+  public Page<ClienteDto> findWithFilter(String filter, int page, int size) {
+    Pageable pageable = PageRequest.of(page, size);
+    Page<ClienteEntity> result = repository.findAll(filter, pageable);
+    List<ClienteDto> list = result.stream().map(ClienteEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  @Override
+  public Page<ClienteDto> findWithFilter(String filter, int page, int size, String[] sort) {
+    Pageable pageable = PageRequest.of(page, size, Sort.by(SortUtils.convertSortToJpa(sort)));
+    Page<ClienteEntity> result = repository.findAll(filter, pageable);
+    List<ClienteDto> list = result.stream().map(ClienteEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  public static class PageEntity extends PageImpl<ClienteDto> {
+    PageEntity(List<ClienteDto> content) {
+      super(content);
+    }
+
+    PageEntity(List<ClienteDto> content, Pageable pageable, long total) {
+      super(content, pageable, total);
+    }
+  }
+
+  public static class ListEntity extends ArrayList<ClienteDto> {
+    ListEntity(Collection<? extends ClienteDto> c) {
+      super(c);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.acme.adapter.pedido;
+
+import br.com.archbase.ddd.domain.contracts.EntityPersistenceMapper;
+import br.com.archbase.ddd.domain.contracts.EntityPersistencePort;
+import br.com.archbase.ddd.domain.contracts.FindDataWithFilterQuery;
+import br.com.archbase.query.rsql.jpa.SortUtils;
+import com.acme.domain.pedido.ItemPedido;
+import com.acme.dto.pedido.ItemPedidoDto;
+import com.acme.persistence.pedido.ItemPedidoEntity;
+import com.acme.repository.pedido.ItemPedidoJpaRepository;
+import java.lang.Override;
+import java.lang.String;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional(
+    readOnly = true
+)
+public class ItemPedidoPersistenceAdapter implements EntityPersistencePort<ItemPedido, ItemPedido>, FindDataWithFilterQuery<String, ItemPedidoDto> {
+  @Autowired
+  private ItemPedidoJpaRepository repository;
+
+  @Autowired
+  private EntityPersistenceMapper<ItemPedido, ItemPedidoEntity> mapper;
+
+  @Override
+  @Transactional
+  public ItemPedido saveEntity(ItemPedido entity) {
+    ItemPedidoEntity persistenceEntity = mapper.toEntity(entity);
+    ItemPedidoEntity savedEntity = repository.save(persistenceEntity);
+    return mapper.toDomain(savedEntity);
+  }
+
+  @Override
+  @Transactional
+  public ItemPedido removeEntity(ItemPedido entity) {
+    repository.deleteById(entity.getId().toString());
+    return entity;
+  }
+
+  @Override
+  public Optional<ItemPedido> getEntityById(String id) {
+    Optional<ItemPedidoEntity> entityOptional = repository.findById(id);
+    return entityOptional.map(mapper::toDomain);
+  }
+
+  @Override
+  public Optional<ItemPedido> getEntityByName(String name) {
+    return null;
+  }
+
+  @Override
+  public boolean existsEntityByName(String name) {
+    return false;
+  }
+
+  public boolean existsEntityById(String id) {
+    return repository.existsById(id);
+  }
+
+  /**
+   * Altera a entidade com uma única leitura: a busca pelo id deixa a entidade gerenciada e o merge feito
+   * pelo save a reaproveita, sem outro select. Uma versão desatualizada falha pelo controle otimista.
+   */
+  @Transactional
+  public Optional<ItemPedido> updateEntity(ItemPedido entity) {
+    if (repository.findById(entity.getId().toString()).isEmpty()) {
+      return Optional.empty();
+    }
+    ItemPedidoEntity savedEntity = repository.save(mapper.toEntity(entity));
+    return Optional.of(mapper.toDomain(savedEntity));
+  }
+
+  /**
+   * Remove a entidade com uma única leitura, retornando o estado removido.
+   */
+  @Transactional
+  public Optional<ItemPedido> removeEntityById(String id) {
+    Optional<ItemPedidoEntity> entityOptional = repository.findById(id);
+    Optional<ItemPedido> removedEntity = entityOptional.map(mapper::toDomain);
+    entityOptional.ifPresent(repository::delete);
+    return removedEntity;
+  }
+
+  @Override
+  public ItemPedidoDto findById(String id) {
+    Optional<ItemPedidoEntity> byId = repository.findById(id);
+    return byId.map(ItemPedidoEntity::toDto).orElse(null);
+  }
+
+  @Override
+  public Page<ItemPedidoDto> findAll(int page, int size) {
+    Pageable pageable = PageRequest.of(page, size);
+    Page<ItemPedidoEntity> result = repository.findAll(pageable);
+    List<ItemPedidoDto> list = result.stream().map(ItemPedidoEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  @Override
+  public Page<ItemPedidoDto> findAll(int page, int size, String[] sort) {
+    Pageable pageable = PageRequest.of(page, size, Sort.by(SortUtils.convertSortToJpa(sort)));
+    Page<ItemPedidoEntity> result = repository.findAll(pageable);
+    List<ItemPedidoDto> list = result.stream().map(ItemPedidoEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  @Override
+  public List<ItemPedidoDto> findAll(List<String> ids) {
+    List<ItemPedidoEntity> result = repository.findAllById(ids);
+    return result.stream().map(ItemPedidoEntity::toDto).toList();
+  }
+
+  @Override
+  public Page<ItemPedidoDto> findWithFilter(String filter, int page, int size) {
+    Pageable pageable = PageRequest.of(page, size);
+    Page<ItemPedidoEntity> result = repository.findAll(filter, pageable);
+    List<ItemPedidoDto> list = result.stream().map(ItemPedidoEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  @Override
+  public Page<ItemPedidoDto> findWithFilter(String filter, int page, int size, String[] sort) {
+    Pageable pageable = PageRequest.of(page, size, Sort.by(SortUtils.convertSortToJpa(sort)));
+    Page<ItemPedidoEntity> result = repository.findAll(filter, pageable);
+    List<ItemPedidoDto> list = result.stream().map(ItemPedidoEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  public static class PageEntity extends PageImpl<ItemPedidoDto> {
+    PageEntity(List<ItemPedidoDto> content) {
+      super(content);
+    }
+
+    PageEntity(List<ItemPedidoDto> content, Pageable pageable, long total) {
+      super(content, pageable, total);
+    }
+  }
+
+  public static class ListEntity extends ArrayList<ItemPedidoDto> {
+    ListEntity(Collection<? extends ItemPedidoDto> c) {
+      super(c);
+    }
+  }
+}
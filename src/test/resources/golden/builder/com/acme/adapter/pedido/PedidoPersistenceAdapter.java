@@ -0,0 +1,155 @@
+package com.acme.adapter.pedido;
+
+import br.com.archbase.ddd.domain.contracts.EntityPersistenceMapper;
+import br.com.archbase.ddd.domain.contracts.EntityPersistencePort;
+import br.com.archbase.ddd.domain.contracts.FindDataWithFilterQuery;
+import br.com.archbase.query.rsql.jpa.SortUtils;
+import com.acme.domain.pedido.Pedido;
+import com.acme.dto.pedido.PedidoDto;
+import com.acme.persistence.pedido.PedidoEntity;
+import com.acme.repository.pedido.PedidoJpaRepository;
+import java.lang.Override;
+import java.lang.String;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional(
+    readOnly = true
+)
+public class PedidoPersistenceAdapter implements EntityPersistencePort<Pedido, Pedido>, FindDataWithFilterQuery<String, PedidoDto> {
+  @Autowired
+  private PedidoJpaRepository repository;
+
+  @Autowired
+  private EntityPersistenceMapper<Pedido, PedidoEntity> mapper;
+
+  @Override
+  @Transactional
+  public Pedido saveEntity(Pedido entity) {
+    PedidoEntity persistenceEntity = mapper.toEntity(entity);
+    PedidoEntity savedEntity = repository.save(persistenceEntity);
+    return mapper.toDomain(savedEntity);
+  }
+
+  @Override
+  @Transactional
+  public Pedido removeEntity(Pedido entity) {
+    repository.deleteById(entity.getId().toString());
+    return entity;
+  }
+
+  @Override
+  public Optional<Pedido> getEntityById(String id) {
+    Optional<PedidoEntity> entityOptional = repository.findById(id);
+    return entityOptional.map(mapper::toDomain);
+  }
+
+  @Override
+  public Optional<Pedido> getEntityByName(String name) {
+    return null;
+  }
+
+  @Override
+  public boolean existsEntityByName(String name) {
+    return false;
+  }
+
+  public boolean existsEntityById(String id) {
+    return repository.existsById(id);
+  }
+
+  /**
+   * Altera a entidade com uma única leitura: a busca pelo id deixa a entidade gerenciada e o merge feito
+   * pelo save a reaproveita, sem outro select. Uma versão desatualizada falha pelo controle otimista.
+   */
+  @Transactional
+  public Optional<Pedido> updateEntity(Pedido entity) {
+    if (repository.findById(entity.getId().toString()).isEmpty()) {
+      return Optional.empty();
+    }
+    PedidoEntity savedEntity = repository.save(mapper.toEntity(entity));
+    return Optional.of(mapper.toDomain(savedEntity));
+  }
+
+  /**
+   * Remove a entidade com uma única leitura, retornando o estado removido.
+   */
+  @Transactional
+  public Optional<Pedido> removeEntityById(String id) {
+    Optional<PedidoEntity> entityOptional = repository.findById(id);
+    Optional<Pedido> removedEntity = entityOptional.map(mapper::toDomain);
+    entityOptional.ifPresent(repository::delete);
+    return removedEntity;
+  }
+
+  @Override
+  public PedidoDto findById(String id) {
+    Optional<PedidoEntity> byId = repository.findById(id);
+    return byId.map(PedidoEntity::toDto).orElse(null);
+  }
+
+  @Override
+  public Page<PedidoDto> findAll(int page, int size) {
+    Pageable pageable = PageRequest.of(page, size);
+    Page<PedidoEntity> result = repository.findAll(pageable);
+    List<PedidoDto> list = result.stream().map(PedidoEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  @Override
+  public Page<PedidoDto> findAll(int page, int size, String[] sort) {
+    Pageable pageable = PageRequest.of(page, size, Sort.by(SortUtils.convertSortToJpa(sort)));
+    Page<PedidoEntity> result = repository.findAll(pageable);
+    List<PedidoDto> list = result.stream().map(PedidoEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  @Override
+  public List<PedidoDto> findAll(List<String> ids) {
+    List<PedidoEntity> result = repository.findAllById(ids);
+    return result.stream().map(PedidoEntity::toDto).toList();
+  }
+
+  @Override
+  public Page<PedidoDto> findWithFilter(String filter, int page, int size) {
+    Pageable pageable = PageRequest.of(page, size);
+    Page<PedidoEntity> result = repository.findAll(filter, pageable);
+    List<PedidoDto> list = result.stream().map(PedidoEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  @Override
+  public Page<PedidoDto> findWithFilter(String filter, int page, int size, String[] sort) {
+    Pageable pageable = PageRequest.of(page, size, Sort.by(SortUtils.convertSortToJpa(sort)));
+    Page<PedidoEntity> result = repository.findAll(filter, pageable);
+    List<PedidoDto> list = result.stream().map(PedidoEntity::toDto).toList();
+    return new PageEntity(list, pageable, result.getTotalElements());
+  }
+
+  public static class PageEntity extends PageImpl<PedidoDto> {
+    PageEntity(List<PedidoDto> content) {
+      super(content);
+    }
+
+    PageEntity(List<PedidoDto> content, Pageable pageable, long total) {
+      super(content, pageable, total);
+    }
+  }
+
+  public static class ListEntity extends ArrayList<PedidoDto> {
+    ListEntity(Collection<? extends PedidoDto> c) {
+      super(c);
+    }
+  }
+}
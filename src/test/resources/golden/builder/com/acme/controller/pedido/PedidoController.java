@@ -0,0 +1,128 @@
+package com.acme.controller.pedido;
+
+import br.com.archbase.shared.kernel.utils.ArchbaseAssert;
+import br.com.archbase.validation.exception.ArchbaseValidationException;
+import com.acme.domain.pedido.Pedido;
+import com.acme.dto.pedido.PedidoDto;
+import com.acme.service.pedido.PedidoService;
+import java.lang.String;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/pedido")
+public class PedidoController {
+  @Autowired
+  private final PedidoService service;
+
+  @Autowired
+  PedidoController(PedidoService service) {
+    this.service = service;
+  }
+
+  @PostMapping
+  public ResponseEntity<PedidoDto> createEntity(@RequestBody PedidoDto entity) {
+    ArchbaseAssert.notNull(entity);
+    if (entity.getId() != null && service.existsEntityById(entity.getId())) {
+      throw new ArchbaseValidationException(String.format("Já existe uma Entidade com o id %s. Não será possível salvá-la.", entity.getId()));
+    }
+    Pedido createdEntity = service.createEntity(entity.toDomain());
+    return ResponseEntity.ok(PedidoDto.fromDomain(createdEntity));
+  }
+
+  @PutMapping("/{id}")
+  public ResponseEntity<PedidoDto> updateEntity(@PathVariable String id,
+      @RequestBody PedidoDto entity) {
+    ArchbaseAssert.notNull(id);
+    ArchbaseAssert.notNull(entity);
+    if (!id.equals(entity.getId())) {
+      throw new ArchbaseValidationException(String.format("Id informado %s não pode ser diferente do id da Entidade %s ", id, entity.getId()));
+    }
+    Pedido updatedEntity = service.updateEntity(entity.toDomain());
+    return ResponseEntity.ok(PedidoDto.fromDomain(updatedEntity));
+  }
+
+  @DeleteMapping("/{id}")
+  public ResponseEntity<PedidoDto> removeEntity(@PathVariable String id) {
+    Pedido removedEntity = service.removeEntity(id);
+    return ResponseEntity.ok(PedidoDto.fromDomain(removedEntity));
+  }
+
+  @GetMapping("/{id}")
+  public ResponseEntity<PedidoDto> getEntityById(@PathVariable String id) {
+    try {
+      Optional<Pedido> entityOptional = service.getEntityById(id);
+      return entityOptional.map(entity -> ResponseEntity.ok(PedidoDto.fromDomain(entity))).orElseGet(() -> ResponseEntity.notFound().build());
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @GetMapping(
+      value = "/findAll",
+      params = {"page", "size"}
+  )
+  @ResponseStatus(HttpStatus.OK)
+  @ResponseBody
+  public Page<PedidoDto> findAll(@RequestParam("page") int page, @RequestParam("size") int size) {
+    return service.findAll(page, size);
+  }
+
+  @GetMapping(
+      value = "/findAll",
+      params = {"page", "size", "sort"}
+  )
+  @ResponseStatus(HttpStatus.OK)
+  @ResponseBody
+  public Page<PedidoDto> findAll(@RequestParam("page") int page, @RequestParam("size") int size,
+      @RequestParam("sort") String[] sort) {
+    return service.findAll(page, size, sort);
+  }
+
+  @GetMapping(
+      value = "/findAll",
+      params = {"ids"}
+  )
+  @ResponseStatus(HttpStatus.OK)
+  @ResponseBody
+  public List<PedidoDto> findAll(@RequestParam(required = true) List<String> ids) {
+    return service.findAll(ids);
+  }
+
+  @GetMapping(
+      value = "/findWithFilter",
+      params = {"page", "size", "filter"}
+  )
+  @ResponseStatus(HttpStatus.OK)
+  @ResponseBody
+  public Page<PedidoDto> find(@RequestParam("filter") String filter, @RequestParam("page") int page,
+      @RequestParam("size") int size) {
+    return service.findWithFilter(filter, page, size);
+  }
+
+  @GetMapping(
+      value = "/findWithFilterAndSort",
+      params = {"page", "size", "filter", "sort"}
+  )
+  @ResponseStatus(HttpStatus.OK)
+  @ResponseBody
+  public Page<PedidoDto> find(@RequestParam("filter") String filter, @RequestParam("page") int page,
+      @RequestParam("size") int size, @RequestParam("sort") String[] sort) {
+    return service.findWithFilter(filter, page, size, sort);
+  }
+}
@@ -0,0 +1,65 @@
+package com.acme.dto.pedido;
+
+import static java.util.stream.Collectors.toSet;
+
+import com.acme.domain.pedido.Cliente;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.UUIDGenerator;
+import java.lang.Long;
+import java.lang.String;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonIdentityInfo(
+    generator = UUIDGenerator.class,
+    property = "@id"
+)
+public class ClienteDto {
+  private String alteradoPor;
+
+  private String criadoPor;
+
+  private LocalDateTime dataCriacao;
+
+  private String email;
+
+  private String id;
+
+  private String nome;
+
+  private PedidoDto ultimoPedido;
+
+  private Long version;
+
+  public static ClienteDto fromDomain(Cliente domain) {
+    if (domain == null) {
+      return null;
+    }
+    return ClienteDto.builder()
+    	.alteradoPor(domain.getAlteradoPor())
+    	.criadoPor(domain.getCriadoPor())
+    	.dataCriacao(domain.getDataCriacao())
+    	.email(domain.getEmail())
+    	.id(domain.getId().toString())
+    	.nome(domain.getNome())
+    	.ultimoPedido(domain.getUltimoPedido() != null ? PedidoDto.fromDomain(domain.getUltimoPedido()) : null)
+    	.version(domain.getVersion())
+    .build();
+  }
+
+  public Cliente toDomain() {
+    return Cliente.builder()
+    	.alteradoPor(this.alteradoPor)
+    	.criadoPor(this.criadoPor)
+    	.dataCriacao(this.dataCriacao)
+    	.email(this.email)
+    	.id(this.id)
+    	.nome(this.nome)
+    	.ultimoPedido(this.ultimoPedido != null ? this.ultimoPedido.toDomain() : null)
+    	.version(this.version)
+    .build();
+  }
+}
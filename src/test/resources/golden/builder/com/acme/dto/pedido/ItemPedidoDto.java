@@ -0,0 +1,71 @@
+package com.acme.dto.pedido;
+
+import static java.util.stream.Collectors.toSet;
+
+import com.acme.domain.pedido.ItemPedido;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.UUIDGenerator;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonIdentityInfo(
+    generator = UUIDGenerator.class,
+    property = "@id"
+)
+public class ItemPedidoDto {
+  private String alteradoPor;
+
+  private String criadoPor;
+
+  private LocalDateTime dataCriacao;
+
+  private String id;
+
+  private PedidoDto pedido;
+
+  private String produto;
+
+  private Integer quantidade;
+
+  private BigDecimal valor;
+
+  private Long version;
+
+  public static ItemPedidoDto fromDomain(ItemPedido domain) {
+    if (domain == null) {
+      return null;
+    }
+    return ItemPedidoDto.builder()
+    	.alteradoPor(domain.getAlteradoPor())
+    	.criadoPor(domain.getCriadoPor())
+    	.dataCriacao(domain.getDataCriacao())
+    	.id(domain.getId().toString())
+    	.pedido(domain.getPedido() != null ? PedidoDto.fromDomain(domain.getPedido()) : null)
+    	.produto(domain.getProduto())
+    	.quantidade(domain.getQuantidade())
+    	.valor(domain.getValor())
+    	.version(domain.getVersion())
+    .build();
+  }
+
+  public ItemPedido toDomain() {
+    return ItemPedido.builder()
+    	.alteradoPor(this.alteradoPor)
+    	.criadoPor(this.criadoPor)
+    	.dataCriacao(this.dataCriacao)
+    	.id(this.id)
+    	.pedido(this.pedido != null ? this.pedido.toDomain() : null)
+    	.produto(this.produto)
+    	.quantidade(this.quantidade)
+    	.valor(this.valor)
+    	.version(this.version)
+    .build();
+  }
+}
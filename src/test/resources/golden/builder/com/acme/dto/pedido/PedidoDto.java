@@ -0,0 +1,96 @@
+package com.acme.dto.pedido;
+
+import static java.util.stream.Collectors.toSet;
+
+import com.acme.domain.pedido.Pedido;
+import com.acme.domain.pedido.StatusPedido;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.UUIDGenerator;
+import java.lang.Boolean;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonIdentityInfo(
+    generator = UUIDGenerator.class,
+    property = "@id"
+)
+public class PedidoDto {
+  private String alteradoPor;
+
+  private byte[] anexo;
+
+  private ClienteDto cliente;
+
+  private String criadoPor;
+
+  private LocalDate data;
+
+  private LocalDateTime dataCriacao;
+
+  private String id;
+
+  private Set<ItemPedidoDto> itens;
+
+  private String numero;
+
+  private StatusPedido status;
+
+  private List<String> tags;
+
+  private BigDecimal total;
+
+  private Boolean urgente;
+
+  private Long version;
+
+  public static PedidoDto fromDomain(Pedido domain) {
+    if (domain == null) {
+      return null;
+    }
+    return PedidoDto.builder()
+    	.alteradoPor(domain.getAlteradoPor())
+    	.anexo(domain.getAnexo())
+    	.cliente(domain.getCliente() != null ? ClienteDto.fromDomain(domain.getCliente()) : null)
+    	.criadoPor(domain.getCriadoPor())
+    	.data(domain.getData())
+    	.dataCriacao(domain.getDataCriacao())
+    	.id(domain.getId().toString())
+    	.itens(domain.getItens() != null ? domain.getItens().stream().map(ItemPedidoDto::fromDomain).collect(toSet()) : null)
+    	.numero(domain.getNumero())
+    	.status(domain.getStatus())
+    	.tags(domain.getTags())
+    	.total(domain.getTotal())
+    	.urgente(domain.getUrgente())
+    	.version(domain.getVersion())
+    .build();
+  }
+
+  public Pedido toDomain() {
+    return Pedido.builder()
+    	.alteradoPor(this.alteradoPor)
+    	.anexo(this.anexo)
+    	.cliente(this.cliente != null ? this.cliente.toDomain() : null)
+    	.criadoPor(this.criadoPor)
+    	.data(this.data)
+    	.dataCriacao(this.dataCriacao)
+    	.id(this.id)
+    	.itens(this.itens != null ? this.itens.stream().map(ItemPedidoDto::toDomain).collect(toSet()) : new HashSet<>())
+    	.numero(this.numero)
+    	.status(this.status)
+    	.tags(this.tags)
+    	.total(this.total)
+    	.urgente(this.urgente)
+    	.version(this.version)
+    .build();
+  }
+}
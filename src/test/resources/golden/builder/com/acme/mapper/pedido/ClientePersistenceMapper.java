@@ -0,0 +1,20 @@
+package com.acme.mapper.pedido;
+
+import br.com.archbase.ddd.domain.contracts.EntityPersistenceMapper;
+import com.acme.domain.pedido.Cliente;
+import com.acme.persistence.pedido.ClienteEntity;
+import java.lang.Override;
+import org.springframework.stereotype.Component;
+
+@Component("clientePersistenceMapper")
+public class ClientePersistenceMapper implements EntityPersistenceMapper<Cliente, ClienteEntity> {
+  @Override
+  public ClienteEntity toEntity(Cliente entity) {
+    return ClienteEntity.fromDomain(entity);
+  }
+
+  @Override
+  public Cliente toDomain(ClienteEntity entity) {
+    return entity.toDomain();
+  }
+}
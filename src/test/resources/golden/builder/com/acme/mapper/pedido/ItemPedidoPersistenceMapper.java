@@ -0,0 +1,20 @@
+package com.acme.mapper.pedido;
+
+import br.com.archbase.ddd.domain.contracts.EntityPersistenceMapper;
+import com.acme.domain.pedido.ItemPedido;
+import com.acme.persistence.pedido.ItemPedidoEntity;
+import java.lang.Override;
+import org.springframework.stereotype.Component;
+
+@Component("itemPedidoPersistenceMapper")
+public class ItemPedidoPersistenceMapper implements EntityPersistenceMapper<ItemPedido, ItemPedidoEntity> {
+  @Override
+  public ItemPedidoEntity toEntity(ItemPedido entity) {
+    return ItemPedidoEntity.fromDomain(entity);
+  }
+
+  @Override
+  public ItemPedido toDomain(ItemPedidoEntity entity) {
+    return entity.toDomain();
+  }
+}
@@ -0,0 +1,20 @@
+package com.acme.mapper.pedido;
+
+import br.com.archbase.ddd.domain.contracts.EntityPersistenceMapper;
+import com.acme.domain.pedido.Pedido;
+import com.acme.persistence.pedido.PedidoEntity;
+import java.lang.Override;
+import org.springframework.stereotype.Component;
+
+@Component("pedidoPersistenceMapper")
+public class PedidoPersistenceMapper implements EntityPersistenceMapper<Pedido, PedidoEntity> {
+  @Override
+  public PedidoEntity toEntity(Pedido entity) {
+    return PedidoEntity.fromDomain(entity);
+  }
+
+  @Override
+  public Pedido toDomain(PedidoEntity entity) {
+    return entity.toDomain();
+  }
+}
@@ -0,0 +1,11 @@
+package com.acme.repository.pedido;
+
+import br.com.archbase.ddd.infraestructure.persistence.jpa.repository.ArchbaseCommonJpaRepository;
+import com.acme.persistence.pedido.PedidoEntity;
+import java.lang.Long;
+import java.lang.String;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PedidoJpaRepository extends ArchbaseCommonJpaRepository<PedidoEntity, String, Long> {
+}
@@ -0,0 +1,99 @@
+package com.acme.service.pedido;
+
+import br.com.archbase.ddd.domain.contracts.CreateOrUpdateOrRemoveEntityUseCase;
+import br.com.archbase.ddd.domain.contracts.FindDataWithFilterQuery;
+import br.com.archbase.validation.exception.ArchbaseValidationException;
+import br.com.archbase.validation.fluentvalidator.context.ArchbaseValidationResult;
+import com.acme.adapter.pedido.ItemPedidoPersistenceAdapter;
+import com.acme.domain.pedido.ItemPedido;
+import com.acme.dto.pedido.ItemPedidoDto;
+import java.lang.Override;
+import java.lang.String;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@Transactional(
+    readOnly = true
+)
+public class ItemPedidoService implements CreateOrUpdateOrRemoveEntityUseCase<ItemPedido, ItemPedido>, FindDataWithFilterQuery<String, ItemPedidoDto> {
+  private final ItemPedidoPersistenceAdapter persistenceAdapter;
+
+  private final com.acme.security.SecurityAdapter securityAdapter;
+
+  public ItemPedidoService(ItemPedidoPersistenceAdapter persistenceAdapter,
+      com.acme.security.SecurityAdapter securityAdapter) {
+    this.persistenceAdapter = persistenceAdapter;
+    this.securityAdapter = securityAdapter;
+  }
+
+  @Override
+  @Transactional
+  public ItemPedido createEntity(ItemPedido entity) {
+    ArchbaseValidationResult validationResult = entity.validar();
+    if (!validationResult.isValid()) {
+      throw new ArchbaseValidationException(validationResult.getErrors());
+    }
+    entity.criadoPor(securityAdapter.buscarUsuarioLogado());
+    return persistenceAdapter.saveEntity(entity);
+  }
+
+  @Override
+  @Transactional
+  public ItemPedido updateEntity(ItemPedido entity) {
+    ArchbaseValidationResult validationResult = entity.validar();
+    if (!validationResult.isValid()) {
+      throw new ArchbaseValidationException(validationResult.getErrors());
+    }
+    entity.alteradoPor(securityAdapter.buscarUsuarioLogado());
+    return persistenceAdapter.updateEntity(entity).orElseThrow(() -> new ArchbaseValidationException(String.format("Entidade %s não encontrado. Não será possível salvá-la.", entity.getId())));
+  }
+
+  @Override
+  public Optional<ItemPedido> getEntityById(String id) {
+    return persistenceAdapter.getEntityById(id);
+  }
+
+  @Override
+  public ItemPedidoDto findById(String id) {
+    return persistenceAdapter.findById(id);
+  }
+
+  @Override
+  public Page<ItemPedidoDto> findAll(int page, int size) {
+    return persistenceAdapter.findAll(page, size);
+  }
+
+  @Override
+  public Page<ItemPedidoDto> findAll(int page, int size, String[] sort) {
+    return persistenceAdapter.findAll(page, size, sort);
+  }
+
+  @Override
+  public List<ItemPedidoDto> findAll(List<String> ids) {
+    return persistenceAdapter.findAll(ids);
+  }
+
+  @Override
+  public Page<ItemPedidoDto> findWithFilter(String filter, int page, int size) {
+    return persistenceAdapter.findWithFilter(filter, page, size);
+  }
+
+  @Override
+  public Page<ItemPedidoDto> findWithFilter(String filter, int page, int size, String[] sort) {
+    return persistenceAdapter.findWithFilter(filter, page, size, sort);
+  }
+
+  @Override
+  @Transactional
+  public ItemPedido removeEntity(String id) {
+    return persistenceAdapter.removeEntityById(id).orElseThrow(() -> new ArchbaseValidationException(String.format("Entidade id %s não encontrada.", id)));
+  }
+
+  public boolean existsEntityById(String id) {
+    return persistenceAdapter.existsEntityById(id);
+  }
+}
@@ -0,0 +1,118 @@
+package com.acme.dto;
+
+import java.lang.Class;
+import java.lang.ClassValue;
+import java.lang.IllegalAccessException;
+import java.lang.IllegalStateException;
+import java.lang.NoSuchFieldException;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.SuppressWarnings;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Mapa de identidade usado durante o mapeamento entre entidades e DTOs.
+ *
+ * Uma instância pode ser reutilizada durante uma requisição: cada objeto é mapeado uma única vez
+ * e ciclos entre associações são interrompidos. Não é thread-safe.
+ */
+public final class DtoMappingContext {
+  private static final Object IN_PROGRESS = new Object();
+
+  private static final ClassValue<Map<String, Field>> FIELDS = new ClassValue<Map<String, Field>>() {
+    @Override
+    protected Map<String, Field> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private IdentityHashMap<Object, Object> dtos;
+
+  private IdentityHashMap<Object, Object> domains;
+
+  private IdentityHashMap<Object, List<Consumer<Object>>> pending;
+
+  @SuppressWarnings("unchecked")
+  public <T> T dtoOf(Object domain) {
+    return dtos == null ? null : (T) dtos.get(domain);
+  }
+
+  public void register(Object domain, Object dto) {
+    if (dtos == null) {
+      dtos = new IdentityHashMap<>();
+    }
+    dtos.put(domain, dto);
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T domainOf(Object dto) {
+    Object domain = domains == null ? null : domains.get(dto);
+    return domain == IN_PROGRESS ? null : (T) domain;
+  }
+
+  /**
+   * Marca o DTO como em mapeamento; retorna {@code false} se ele já estiver sendo mapeado (ciclo).
+   */
+  public boolean enter(Object dto) {
+    if (domains == null) {
+      domains = new IdentityHashMap<>();
+    }
+    return domains.putIfAbsent(dto, IN_PROGRESS) == null;
+  }
+
+  public boolean inProgress(Object dto) {
+    return domains != null && domains.get(dto) == IN_PROGRESS;
+  }
+
+  /**
+   * Executa {@code action} com a entidade do DTO em mapeamento assim que ela for registrada.
+   */
+  public void whenMapped(Object dto, Consumer<Object> action) {
+    if (pending == null) {
+      pending = new IdentityHashMap<>();
+    }
+    pending.computeIfAbsent(dto, key -> new ArrayList<>()).add(action);
+  }
+
+  public void registerDomain(Object dto, Object domain) {
+    domains.put(dto, domain);
+    List<Consumer<Object>> actions = pending == null ? null : pending.remove(dto);
+    if (actions != null) {
+      actions.forEach(action -> action.accept(domain));
+    }
+  }
+
+  /**
+   * Atribui uma referência de volta a uma entidade já construída pelo builder, que não expõe setters.
+   * O campo é localizado e liberado uma única vez por classe e nome.
+   */
+  public static void assign(Object target, String fieldName, Object value) {
+    Class<?> type = target.getClass();
+    Field field = FIELDS.get(type).computeIfAbsent(fieldName, name -> findField(type, name));
+    try {
+      field.set(target, value);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Field findField(Class<?> type, String fieldName) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      try {
+        Field field = current.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field;
+      } catch (NoSuchFieldException e) {
+        // Procura na superclasse
+      }
+    }
+    throw new IllegalStateException("Campo " + fieldName + " não encontrado em " + type.getName());
+  }
+}
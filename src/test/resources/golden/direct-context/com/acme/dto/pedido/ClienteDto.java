@@ -0,0 +1,90 @@
+package com.acme.dto.pedido;
+
+import com.acme.domain.pedido.Cliente;
+import com.acme.dto.DtoMappingContext;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.UUIDGenerator;
+import java.lang.Long;
+import java.lang.String;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIdentityInfo(
+    generator = UUIDGenerator.class,
+    property = "@id"
+)
+public class ClienteDto {
+  private String alteradoPor;
+
+  private String criadoPor;
+
+  private LocalDateTime dataCriacao;
+
+  private String email;
+
+  private String id;
+
+  private String nome;
+
+  private PedidoDto ultimoPedido;
+
+  private Long version;
+
+  public static ClienteDto fromDomain(Cliente domain) {
+    return fromDomain(domain, new DtoMappingContext());
+  }
+
+  public static ClienteDto fromDomain(Cliente domain, DtoMappingContext context) {
+    if (domain == null) {
+      return null;
+    }
+    ClienteDto existing = context.dtoOf(domain);
+    if (existing != null) {
+      return existing;
+    }
+    ClienteDto dto = new ClienteDto();
+    context.register(domain, dto);
+    dto.alteradoPor = domain.getAlteradoPor();
+    dto.criadoPor = domain.getCriadoPor();
+    dto.dataCriacao = domain.getDataCriacao();
+    dto.email = domain.getEmail();
+    dto.id = domain.getId().toString();
+    dto.nome = domain.getNome();
+    dto.ultimoPedido = PedidoDto.fromDomain(domain.getUltimoPedido(), context);
+    dto.version = domain.getVersion();
+    return dto;
+  }
+
+  public Cliente toDomain() {
+    return toDomain(new DtoMappingContext());
+  }
+
+  public Cliente toDomain(DtoMappingContext context) {
+    Cliente existing = context.domainOf(this);
+    if (existing != null || !context.enter(this)) {
+      return existing;
+    }
+    Cliente domain = Cliente.builder()
+    	.alteradoPor(this.alteradoPor)
+    	.criadoPor(this.criadoPor)
+    	.dataCriacao(this.dataCriacao)
+    	.email(this.email)
+    	.id(this.id)
+    	.nome(this.nome)
+    	.ultimoPedido(this.ultimoPedido != null ? this.ultimoPedido.toDomain(context) : null)
+    	.version(this.version)
+    .build();
+    if (this.ultimoPedido != null && context.inProgress(this.ultimoPedido)) {
+      context.whenMapped(this.ultimoPedido, value -> DtoMappingContext.assign(domain, "ultimoPedido", value));
+    }
+    context.registerDomain(this, domain);
+    return domain;
+  }
+}
@@ -0,0 +1,96 @@
+package com.acme.dto.pedido;
+
+import com.acme.domain.pedido.ItemPedido;
+import com.acme.dto.DtoMappingContext;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.UUIDGenerator;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIdentityInfo(
+    generator = UUIDGenerator.class,
+    property = "@id"
+)
+public class ItemPedidoDto {
+  private String alteradoPor;
+
+  private String criadoPor;
+
+  private LocalDateTime dataCriacao;
+
+  private String id;
+
+  private PedidoDto pedido;
+
+  private String produto;
+
+  private Integer quantidade;
+
+  private BigDecimal valor;
+
+  private Long version;
+
+  public static ItemPedidoDto fromDomain(ItemPedido domain) {
+    return fromDomain(domain, new DtoMappingContext());
+  }
+
+  public static ItemPedidoDto fromDomain(ItemPedido domain, DtoMappingContext context) {
+    if (domain == null) {
+      return null;
+    }
+    ItemPedidoDto existing = context.dtoOf(domain);
+    if (existing != null) {
+      return existing;
+    }
+    ItemPedidoDto dto = new ItemPedidoDto();
+    context.register(domain, dto);
+    dto.alteradoPor = domain.getAlteradoPor();
+    dto.criadoPor = domain.getCriadoPor();
+    dto.dataCriacao = domain.getDataCriacao();
+    dto.id = domain.getId().toString();
+    dto.pedido = PedidoDto.fromDomain(domain.getPedido(), context);
+    dto.produto = domain.getProduto();
+    dto.quantidade = domain.getQuantidade();
+    dto.valor = domain.getValor();
+    dto.version = domain.getVersion();
+    return dto;
+  }
+
+  public ItemPedido toDomain() {
+    return toDomain(new DtoMappingContext());
+  }
+
+  public ItemPedido toDomain(DtoMappingContext context) {
+    ItemPedido existing = context.domainOf(this);
+    if (existing != null || !context.enter(this)) {
+      return existing;
+    }
+    ItemPedido domain = ItemPedido.builder()
+    	.alteradoPor(this.alteradoPor)
+    	.criadoPor(this.criadoPor)
+    	.dataCriacao(this.dataCriacao)
+    	.id(this.id)
+    	.pedido(this.pedido != null ? this.pedido.toDomain(context) : null)
+    	.produto(this.produto)
+    	.quantidade(this.quantidade)
+    	.valor(this.valor)
+    	.version(this.version)
+    .build();
+    if (this.pedido != null && context.inProgress(this.pedido)) {
+      context.whenMapped(this.pedido, value -> DtoMappingContext.assign(domain, "pedido", value));
+    }
+    context.registerDomain(this, domain);
+    return domain;
+  }
+}
@@ -0,0 +1,146 @@
+package com.acme.dto.pedido;
+
+import com.acme.domain.pedido.ItemPedido;
+import com.acme.domain.pedido.Pedido;
+import com.acme.domain.pedido.StatusPedido;
+import com.acme.dto.DtoMappingContext;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.UUIDGenerator;
+import java.lang.Boolean;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIdentityInfo(
+    generator = UUIDGenerator.class,
+    property = "@id"
+)
+public class PedidoDto {
+  private String alteradoPor;
+
+  private byte[] anexo;
+
+  private ClienteDto cliente;
+
+  private String criadoPor;
+
+  private LocalDate data;
+
+  private LocalDateTime dataCriacao;
+
+  private String id;
+
+  private Set<ItemPedidoDto> itens;
+
+  private String numero;
+
+  private StatusPedido status;
+
+  private List<String> tags;
+
+  private BigDecimal total;
+
+  private Boolean urgente;
+
+  private Long version;
+
+  public static PedidoDto fromDomain(Pedido domain) {
+    return fromDomain(domain, new DtoMappingContext());
+  }
+
+  public static PedidoDto fromDomain(Pedido domain, DtoMappingContext context) {
+    if (domain == null) {
+      return null;
+    }
+    PedidoDto existing = context.dtoOf(domain);
+    if (existing != null) {
+      return existing;
+    }
+    PedidoDto dto = new PedidoDto();
+    context.register(domain, dto);
+    dto.alteradoPor = domain.getAlteradoPor();
+    dto.anexo = domain.getAnexo();
+    dto.cliente = ClienteDto.fromDomain(domain.getCliente(), context);
+    dto.criadoPor = domain.getCriadoPor();
+    dto.data = domain.getData();
+    dto.dataCriacao = domain.getDataCriacao();
+    dto.id = domain.getId().toString();
+    Set<ItemPedido> itensSource = domain.getItens();
+    if (itensSource != null && itensSource.isEmpty()) {
+      dto.itens = Collections.emptySet();
+    } else if (itensSource != null) {
+      Set<ItemPedidoDto> itensTarget = new HashSet<>((int) (itensSource.size() / 0.75f) + 1);
+      for (ItemPedido element : itensSource) {
+        itensTarget.add(ItemPedidoDto.fromDomain(element, context));
+      }
+      dto.itens = itensTarget;
+    }
+    dto.numero = domain.getNumero();
+    dto.status = domain.getStatus();
+    dto.tags = domain.getTags();
+    dto.total = domain.getTotal();
+    dto.urgente = domain.getUrgente();
+    dto.version = domain.getVersion();
+    return dto;
+  }
+
+  public Pedido toDomain() {
+    return toDomain(new DtoMappingContext());
+  }
+
+  public Pedido toDomain(DtoMappingContext context) {
+    Pedido existing = context.domainOf(this);
+    if (existing != null || !context.enter(this)) {
+      return existing;
+    }
+    Set<ItemPedido> itensTarget;
+    if (this.itens == null || this.itens.isEmpty()) {
+      itensTarget = new HashSet<>();
+    } else {
+      itensTarget = new HashSet<>((int) (this.itens.size() / 0.75f) + 1);
+      for (ItemPedidoDto element : this.itens) {
+        ItemPedido mapped = element.toDomain(context);
+        if (mapped != null) {
+          itensTarget.add(mapped);
+        } else {
+          context.whenMapped(element, value -> itensTarget.add((ItemPedido) value));
+        }
+      }
+    }
+    Pedido domain = Pedido.builder()
+    	.alteradoPor(this.alteradoPor)
+    	.anexo(this.anexo)
+    	.cliente(this.cliente != null ? this.cliente.toDomain(context) : null)
+    	.criadoPor(this.criadoPor)
+    	.data(this.data)
+    	.dataCriacao(this.dataCriacao)
+    	.id(this.id)
+    	.itens(itensTarget)
+    	.numero(this.numero)
+    	.status(this.status)
+    	.tags(this.tags)
+    	.total(this.total)
+    	.urgente(this.urgente)
+    	.version(this.version)
+    .build();
+    if (this.cliente != null && context.inProgress(this.cliente)) {
+      context.whenMapped(this.cliente, value -> DtoMappingContext.assign(domain, "cliente", value));
+    }
+    context.registerDomain(this, domain);
+    return domain;
+  }
+}
@@ -0,0 +1,67 @@
+package com.acme.dto.pedido;
+
+import com.acme.domain.pedido.Cliente;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.UUIDGenerator;
+import java.lang.Long;
+import java.lang.String;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIdentityInfo(
+    generator = UUIDGenerator.class,
+    property = "@id"
+)
+public class ClienteDto {
+  private String alteradoPor;
+
+  private String criadoPor;
+
+  private LocalDateTime dataCriacao;
+
+  private String email;
+
+  private String id;
+
+  private String nome;
+
+  private PedidoDto ultimoPedido;
+
+  private Long version;
+
+  public static ClienteDto fromDomain(Cliente domain) {
+    if (domain == null) {
+      return null;
+    }
+    ClienteDto dto = new ClienteDto();
+    dto.alteradoPor = domain.getAlteradoPor();
+    dto.criadoPor = domain.getCriadoPor();
+    dto.dataCriacao = domain.getDataCriacao();
+    dto.email = domain.getEmail();
+    dto.id = domain.getId().toString();
+    dto.nome = domain.getNome();
+    dto.ultimoPedido = PedidoDto.fromDomain(domain.getUltimoPedido());
+    dto.version = domain.getVersion();
+    return dto;
+  }
+
+  public Cliente toDomain() {
+    return Cliente.builder()
+    	.alteradoPor(this.alteradoPor)
+    	.criadoPor(this.criadoPor)
+    	.dataCriacao(this.dataCriacao)
+    	.email(this.email)
+    	.id(this.id)
+    	.nome(this.nome)
+    	.ultimoPedido(this.ultimoPedido != null ? this.ultimoPedido.toDomain() : null)
+    	.version(this.version)
+    .build();
+  }
+}
@@ -0,0 +1,73 @@
+package com.acme.dto.pedido;
+
+import com.acme.domain.pedido.ItemPedido;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.UUIDGenerator;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIdentityInfo(
+    generator = UUIDGenerator.class,
+    property = "@id"
+)
+public class ItemPedidoDto {
+  private String alteradoPor;
+
+  private String criadoPor;
+
+  private LocalDateTime dataCriacao;
+
+  private String id;
+
+  private PedidoDto pedido;
+
+  private String produto;
+
+  private Integer quantidade;
+
+  private BigDecimal valor;
+
+  private Long version;
+
+  public static ItemPedidoDto fromDomain(ItemPedido domain) {
+    if (domain == null) {
+      return null;
+    }
+    ItemPedidoDto dto = new ItemPedidoDto();
+    dto.alteradoPor = domain.getAlteradoPor();
+    dto.criadoPor = domain.getCriadoPor();
+    dto.dataCriacao = domain.getDataCriacao();
+    dto.id = domain.getId().toString();
+    dto.pedido = PedidoDto.fromDomain(domain.getPedido());
+    dto.produto = domain.getProduto();
+    dto.quantidade = domain.getQuantidade();
+    dto.valor = domain.getValor();
+    dto.version = domain.getVersion();
+    return dto;
+  }
+
+  public ItemPedido toDomain() {
+    return ItemPedido.builder()
+    	.alteradoPor(this.alteradoPor)
+    	.criadoPor(this.criadoPor)
+    	.dataCriacao(this.dataCriacao)
+    	.id(this.id)
+    	.pedido(this.pedido != null ? this.pedido.toDomain() : null)
+    	.produto(this.produto)
+    	.quantidade(this.quantidade)
+    	.valor(this.valor)
+    	.version(this.version)
+    .build();
+  }
+}
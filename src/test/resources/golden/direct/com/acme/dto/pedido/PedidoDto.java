@@ -0,0 +1,118 @@
+package com.acme.dto.pedido;
+
+import com.acme.domain.pedido.ItemPedido;
+import com.acme.domain.pedido.Pedido;
+import com.acme.domain.pedido.StatusPedido;
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators.UUIDGenerator;
+import java.lang.Boolean;
+import java.lang.Long;
+import java.lang.String;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIdentityInfo(
+    generator = UUIDGenerator.class,
+    property = "@id"
+)
+public class PedidoDto {
+  private String alteradoPor;
+
+  private byte[] anexo;
+
+  private ClienteDto cliente;
+
+  private String criadoPor;
+
+  private LocalDate data;
+
+  private LocalDateTime dataCriacao;
+
+  private String id;
+
+  private Set<ItemPedidoDto> itens;
+
+  private String numero;
+
+  private StatusPedido status;
+
+  private List<String> tags;
+
+  private BigDecimal total;
+
+  private Boolean urgente;
+
+  private Long version;
+
+  public static PedidoDto fromDomain(Pedido domain) {
+    if (domain == null) {
+      return null;
+    }
+    PedidoDto dto = new PedidoDto();
+    dto.alteradoPor = domain.getAlteradoPor();
+    dto.anexo = domain.getAnexo();
+    dto.cliente = ClienteDto.fromDomain(domain.getCliente());
+    dto.criadoPor = domain.getCriadoPor();
+    dto.data = domain.getData();
+    dto.dataCriacao = domain.getDataCriacao();
+    dto.id = domain.getId().toString();
+    Set<ItemPedido> itensSource = domain.getItens();
+    if (itensSource != null && itensSource.isEmpty()) {
+      dto.itens = Collections.emptySet();
+    } else if (itensSource != null) {
+      Set<ItemPedidoDto> itensTarget = new HashSet<>((int) (itensSource.size() / 0.75f) + 1);
+      for (ItemPedido element : itensSource) {
+        itensTarget.add(ItemPedidoDto.fromDomain(element));
+      }
+      dto.itens = itensTarget;
+    }
+    dto.numero = domain.getNumero();
+    dto.status = domain.getStatus();
+    dto.tags = domain.getTags();
+    dto.total = domain.getTotal();
+    dto.urgente = domain.getUrgente();
+    dto.version = domain.getVersion();
+    return dto;
+  }
+
+  public Pedido toDomain() {
+    Set<ItemPedido> itensTarget;
+    if (this.itens == null || this.itens.isEmpty()) {
+      itensTarget = new HashSet<>();
+    } else {
+      itensTarget = new HashSet<>((int) (this.itens.size() / 0.75f) + 1);
+      for (ItemPedidoDto element : this.itens) {
+        itensTarget.add(element.toDomain());
+      }
+    }
+    return Pedido.builder()
+    	.alteradoPor(this.alteradoPor)
+    	.anexo(this.anexo)
+    	.cliente(this.cliente != null ? this.cliente.toDomain() : null)
+    	.criadoPor(this.criadoPor)
+    	.data(this.data)
+    	.dataCriacao(this.dataCriacao)
+    	.id(this.id)
+    	.itens(itensTarget)
+    	.numero(this.numero)
+    	.status(this.status)
+    	.tags(this.tags)
+    	.total(this.total)
+    	.urgente(this.urgente)
+    	.version(this.version)
+    .build();
+  }
+}
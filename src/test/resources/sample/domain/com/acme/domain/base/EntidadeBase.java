@@ -0,0 +1,45 @@
+package com.acme.domain.base;
+
+import br.com.archbase.ddd.domain.types.ArchbaseIdentifier;
+import br.com.archbase.validation.fluentvalidator.context.ArchbaseValidationResult;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public abstract class EntidadeBase {
+
+    protected ArchbaseIdentifier id;
+    protected Long version;
+    protected LocalDateTime dataCriacao;
+    protected String criadoPor;
+    protected String alteradoPor;
+
+    public ArchbaseValidationResult validar() {
+        return new ArchbaseValidationResult();
+    }
+
+    public void criadoPor(String usuario) {
+        this.criadoPor = usuario;
+    }
+
+    public void alteradoPor(String usuario) {
+        this.alteradoPor = usuario;
+    }
+
+    public abstract static class EntidadeBaseBuilder<C extends EntidadeBase, B extends EntidadeBaseBuilder<C, B>> {
+
+        public B id(String id) {
+            return id(id != null ? new ArchbaseIdentifier(id) : null);
+        }
+
+        public B id(ArchbaseIdentifier id) {
+            this.id = id;
+            return self();
+        }
+    }
+}
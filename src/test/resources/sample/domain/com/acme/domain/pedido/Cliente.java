@@ -0,0 +1,16 @@
+package com.acme.domain.pedido;
+
+import com.acme.domain.base.EntidadeBase;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public class Cliente extends EntidadeBase {
+
+    private String nome;
+    private String email;
+    private Pedido ultimoPedido;
+}
@@ -0,0 +1,19 @@
+package com.acme.domain.pedido;
+
+import com.acme.domain.base.EntidadeBase;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public class ItemPedido extends EntidadeBase {
+
+    private String produto;
+    private Integer quantidade;
+    private BigDecimal valor;
+    private Pedido pedido;
+}
@@ -0,0 +1,27 @@
+package com.acme.domain.pedido;
+
+import com.acme.domain.base.EntidadeBase;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+public class Pedido extends EntidadeBase {
+
+    private String numero;
+    private LocalDate data;
+    private StatusPedido status;
+    private Cliente cliente;
+    private Set<ItemPedido> itens;
+    private List<String> tags;
+    private byte[] anexo;
+    private Boolean urgente;
+    private BigDecimal total;
+}
@@ -0,0 +1,5 @@
+package com.acme.domain.pedido;
+
+public enum StatusPedido {
+    ABERTO, FECHADO
+}
@@ -0,0 +1,14 @@
+package br.com.archbase.ddd.domain.contracts;
+
+import java.util.Optional;
+
+public interface CreateOrUpdateOrRemoveEntityUseCase<T, ID> {
+
+    T createEntity(T entity);
+
+    T updateEntity(T entity);
+
+    T removeEntity(String id);
+
+    Optional<T> getEntityById(String id);
+}
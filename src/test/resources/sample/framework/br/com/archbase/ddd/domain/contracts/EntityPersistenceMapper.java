@@ -0,0 +1,8 @@
+package br.com.archbase.ddd.domain.contracts;
+
+public interface EntityPersistenceMapper<D, E> {
+
+    E toEntity(D domain);
+
+    D toDomain(E entity);
+}
@@ -0,0 +1,16 @@
+package br.com.archbase.ddd.domain.contracts;
+
+import java.util.Optional;
+
+public interface EntityPersistencePort<T, ID> {
+
+    T saveEntity(T entity);
+
+    T removeEntity(T entity);
+
+    Optional<T> getEntityById(String id);
+
+    Optional<T> getEntityByName(String name);
+
+    boolean existsEntityByName(String name);
+}
@@ -0,0 +1,20 @@
+package br.com.archbase.ddd.domain.contracts;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+public interface FindDataWithFilterQuery<ID, T> {
+
+    T findById(ID id);
+
+    Page<T> findAll(int page, int size);
+
+    Page<T> findAll(int page, int size, String[] sort);
+
+    List<T> findAll(List<ID> ids);
+
+    Page<T> findWithFilter(String filter, int page, int size);
+
+    Page<T> findWithFilter(String filter, int page, int size, String[] sort);
+}
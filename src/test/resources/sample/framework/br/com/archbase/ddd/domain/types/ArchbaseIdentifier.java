@@ -0,0 +1,15 @@
+package br.com.archbase.ddd.domain.types;
+
+public class ArchbaseIdentifier {
+
+    private final String value;
+
+    public ArchbaseIdentifier(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.archbase.ddd.infraestructure.persistence.jpa.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArchbaseCommonJpaRepository<T, ID, N extends Number & Comparable<N>> extends JpaRepository<T, ID> {
+
+    Page<T> findAll(String filter, Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package br.com.archbase.query.rsql.jpa;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class SortUtils {
+
+    private SortUtils() {
+    }
+
+    public static List<Sort.Order> convertSortToJpa(String[] sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String property : sort) {
+            orders.add(Sort.Order.asc(property));
+        }
+        return orders;
+    }
+}
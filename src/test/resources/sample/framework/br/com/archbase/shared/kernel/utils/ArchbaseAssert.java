@@ -0,0 +1,13 @@
+package br.com.archbase.shared.kernel.utils;
+
+public final class ArchbaseAssert {
+
+    private ArchbaseAssert() {
+    }
+
+    public static void notNull(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.archbase.validation.exception;
+
+import java.util.List;
+
+public class ArchbaseValidationException extends RuntimeException {
+
+    public ArchbaseValidationException(String message) {
+        super(message);
+    }
+
+    public ArchbaseValidationException(List<String> errors) {
+        super(String.join(", ", errors));
+    }
+}
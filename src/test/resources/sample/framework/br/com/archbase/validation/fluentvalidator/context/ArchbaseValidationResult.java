@@ -0,0 +1,17 @@
+package br.com.archbase.validation.fluentvalidator.context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ArchbaseValidationResult {
+
+    private final List<String> errors = new ArrayList<>();
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
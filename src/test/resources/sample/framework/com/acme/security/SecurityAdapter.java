@@ -0,0 +1,6 @@
+package com.acme.security;
+
+public interface SecurityAdapter {
+
+    String buscarUsuarioLogado();
+}
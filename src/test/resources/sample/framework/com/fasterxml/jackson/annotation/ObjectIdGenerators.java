@@ -0,0 +1,7 @@
+package com.fasterxml.jackson.annotation;
+
+public class ObjectIdGenerators {
+
+    public static final class UUIDGenerator {
+    }
+}
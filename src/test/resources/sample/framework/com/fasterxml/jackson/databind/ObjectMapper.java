@@ -0,0 +1,8 @@
+package com.fasterxml.jackson.databind;
+
+public class ObjectMapper {
+
+    public ObjectWriter writerFor(Class<?> type) {
+        return new ObjectWriter();
+    }
+}
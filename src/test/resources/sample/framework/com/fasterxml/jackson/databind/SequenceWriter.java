@@ -0,0 +1,15 @@
+package com.fasterxml.jackson.databind;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public class SequenceWriter implements Closeable {
+
+    public SequenceWriter write(Object value) throws IOException {
+        return this;
+    }
+
+    @Override
+    public void close() throws IOException {
+    }
+}
@@ -0,0 +1,4 @@
+package org.springframework.security.core.context;
+
+public interface SecurityContext {
+}
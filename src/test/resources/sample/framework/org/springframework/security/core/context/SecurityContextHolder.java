@@ -0,0 +1,18 @@
+package org.springframework.security.core.context;
+
+public final class SecurityContextHolder {
+
+    private static final ThreadLocal<SecurityContext> CONTEXT = ThreadLocal.withInitial(() -> new SecurityContext() {
+    });
+
+    private SecurityContextHolder() {
+    }
+
+    public static SecurityContext getContext() {
+        return CONTEXT.get();
+    }
+
+    public static void setContext(SecurityContext context) {
+        CONTEXT.set(context);
+    }
+}
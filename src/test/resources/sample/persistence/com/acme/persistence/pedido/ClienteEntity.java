@@ -0,0 +1,43 @@
+package com.acme.persistence.pedido;
+
+import com.acme.domain.pedido.Cliente;
+import com.acme.dto.pedido.ClienteDto;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+public class ClienteEntity {
+
+    @Id
+    private String id;
+    @Version
+    private Long version;
+    private LocalDateTime dataCriacao;
+    private String criadoPor;
+    private String alteradoPor;
+    private String nome;
+    private String email;
+    @ManyToOne
+    private PedidoEntity ultimoPedido;
+
+    public static ClienteEntity fromDomain(Cliente domain) {
+        ClienteEntity entity = new ClienteEntity();
+        entity.id = domain.getId() != null ? domain.getId().toString() : null;
+        entity.nome = domain.getNome();
+        return entity;
+    }
+
+    public Cliente toDomain() {
+        return Cliente.builder().id(id).nome(nome).build();
+    }
+
+    public ClienteDto toDto() {
+        return ClienteDto.fromDomain(toDomain());
+    }
+}
@@ -0,0 +1,45 @@
+package com.acme.persistence.pedido;
+
+import com.acme.domain.pedido.ItemPedido;
+import com.acme.dto.pedido.ItemPedidoDto;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+public class ItemPedidoEntity {
+
+    @Id
+    private String id;
+    @Version
+    private Long version;
+    private LocalDateTime dataCriacao;
+    private String criadoPor;
+    private String alteradoPor;
+    private String produto;
+    private Integer quantidade;
+    private BigDecimal valor;
+    @ManyToOne
+    private PedidoEntity pedido;
+
+    public static ItemPedidoEntity fromDomain(ItemPedido domain) {
+        ItemPedidoEntity entity = new ItemPedidoEntity();
+        entity.id = domain.getId() != null ? domain.getId().toString() : null;
+        entity.produto = domain.getProduto();
+        return entity;
+    }
+
+    public ItemPedido toDomain() {
+        return ItemPedido.builder().id(id).produto(produto).build();
+    }
+
+    public ItemPedidoDto toDto() {
+        return ItemPedidoDto.fromDomain(toDomain());
+    }
+}
@@ -0,0 +1,54 @@
+package com.acme.persistence.pedido;
+
+import com.acme.domain.pedido.Pedido;
+import com.acme.domain.pedido.StatusPedido;
+import com.acme.dto.pedido.PedidoDto;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Entity
+@Getter
+public class PedidoEntity {
+
+    @Id
+    private String id;
+    @Version
+    private Long version;
+    private LocalDateTime dataCriacao;
+    private String criadoPor;
+    private String alteradoPor;
+    private String numero;
+    private LocalDate data;
+    private StatusPedido status;
+    @ManyToOne
+    private ClienteEntity cliente;
+    @OneToMany(mappedBy = "pedido")
+    private Set<ItemPedidoEntity> itens;
+    private byte[] anexo;
+    private Boolean urgente;
+    private BigDecimal total;
+
+    public static PedidoEntity fromDomain(Pedido domain) {
+        PedidoEntity entity = new PedidoEntity();
+        entity.id = domain.getId() != null ? domain.getId().toString() : null;
+        entity.numero = domain.getNumero();
+        return entity;
+    }
+
+    public Pedido toDomain() {
+        return Pedido.builder().id(id).numero(numero).build();
+    }
+
+    public PedidoDto toDto() {
+        return PedidoDto.fromDomain(toDomain());
+    }
+}